@@ -0,0 +1,22 @@
+-- ========================================
+-- 일기 테이블에 낙관적 락 버전 컬럼 추가
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - version 컬럼 추가 (JPA @Version)
+--   - 감정 분석 시 LLM 호출을 DB 트랜잭션 밖으로 분리
+--   - 분석 중 일기가 수정/삭제되면 결과 저장 시 충돌로 감지 (409 DIARY_MODIFIED_DURING_ANALYSIS)
+-- ========================================
+
+ALTER TABLE diaries
+    ADD COLUMN version BIGINT(20) NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전' AFTER analyzed_at;
+
+-- ========================================
+-- 변경 후 테이블 구조 확인
+-- ========================================
+-- DESC diaries;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- ALTER TABLE diaries DROP COLUMN version;
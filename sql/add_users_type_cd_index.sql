@@ -0,0 +1,24 @@
+-- ========================================
+-- users 테이블에 일괄 작업용 인덱스 추가
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - 활동중인 학생 user_sn 키셋 페이지네이션용 복합 인덱스
+--   WHERE user_type_cd = 'STUDENT' AND deleted_at IS NULL AND user_sn > ? ORDER BY user_sn
+--   (UserRepository.findUserSnsAfter, 주간 리포트 일괄 생성 등)
+-- ========================================
+
+CREATE INDEX idx_users_type_cd_user_sn ON users (user_type_cd, deleted_at, user_sn);
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- SHOW INDEX FROM users;
+-- EXPLAIN SELECT user_sn FROM users
+--  WHERE user_type_cd = 'STUDENT' AND deleted_at IS NULL AND user_sn > 0
+--  ORDER BY user_sn LIMIT 100;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP INDEX idx_users_type_cd_user_sn ON users;
@@ -0,0 +1,25 @@
+-- ========================================
+-- weekly_reports 테이블에 재시도용 인덱스 추가
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - 분석 실패 리포트 report_id 키셋 페이지네이션용 복합 인덱스
+--   WHERE is_analyzed = 0 AND deleted_at IS NULL AND report_id > ? ORDER BY report_id
+--   (WeeklyReportRepository.findFailedReportIdsAfter, 분석 실패 리포트 재시도)
+-- - 재시도 대상 선별 집계(분석된 일기 수)는 diaries uk_user_date (user_sn, diary_date) 사용
+-- ========================================
+
+CREATE INDEX idx_weekly_reports_analyzed_report_id ON weekly_reports (is_analyzed, deleted_at, report_id);
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- SHOW INDEX FROM weekly_reports;
+-- EXPLAIN SELECT report_id FROM weekly_reports
+--  WHERE is_analyzed = 0 AND deleted_at IS NULL AND report_id > 0
+--  ORDER BY report_id LIMIT 100;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP INDEX idx_weekly_reports_analyzed_report_id ON weekly_reports;
@@ -0,0 +1,73 @@
+-- ========================================
+-- 학급 일별 감정 집계 테이블 생성
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - 학교/반/날짜별 일기를 작성한 학생 수를 감정 영역(red, yellow, blue, green)과 미분석으로 집계
+--   (분석됐지만 핵심 감정/감정 영역이 없는 일기는 미분석으로 집계)
+-- - 일기 작성/분석/수정/삭제 트랜잭션에서 함께 증감 (DiaryChangedEvent → ClassDailyEmotionService)
+-- - 학교/반은 작성자의 현재 소속 기준 (현재 학급 명단 집계, 삭제되지 않은 STUDENT의 일기만)
+--   반 이동/탈퇴 등으로 명단이 바뀌면 학급 월 분포 조회 시 해당 월을 현재 명단 일기로 다시 적재 (ClassRosterSyncService)
+--   초기 적재도 현재 재학 중인 학생의 일기만 현재 학교/반 기준으로 적재
+-- - 선생님 학급 월별 감정 분포를 일기 조회 없이 최대 31행 조회로 계산 (미작성 = 학생 수 - 작성 수)
+-- - 기존 일기 기준 초기 데이터 적재 포함 (애플리케이션 배포 전에 실행)
+-- ========================================
+
+CREATE TABLE class_daily_emotion (
+    class_daily_emotion_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '집계 ID',
+    school_code            VARCHAR(255) NOT NULL COMMENT '학교 코드',
+    class_code             VARCHAR(255) NOT NULL COMMENT '반 코드',
+    emotion_date           DATE         NOT NULL COMMENT '일기 날짜',
+    red_count              INT          NOT NULL DEFAULT 0 COMMENT '빨강 영역 학생 수',
+    yellow_count           INT          NOT NULL DEFAULT 0 COMMENT '노랑 영역 학생 수',
+    blue_count             INT          NOT NULL DEFAULT 0 COMMENT '파랑 영역 학생 수',
+    green_count            INT          NOT NULL DEFAULT 0 COMMENT '초록 영역 학생 수',
+    unanalyzed_count       INT          NOT NULL DEFAULT 0 COMMENT '일기 작성했지만 분석 안 된 학생 수',
+    updated_at             DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+
+    CONSTRAINT uk_class_daily_emotion UNIQUE (school_code, class_code, emotion_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='학급 일별 감정 집계';
+
+-- ========================================
+-- 초기 데이터 적재 (삭제되지 않은 일기, 삭제되지 않은 학생의 현재 학교/반 기준)
+-- ========================================
+INSERT INTO class_daily_emotion (school_code, class_code, emotion_date,
+                                 red_count, yellow_count, blue_count, green_count, unanalyzed_count)
+SELECT u.school_code,
+       u.class_code,
+       d.diary_date,
+       SUM(d.is_analyzed = 1 AND e.area = 'RED'),
+       SUM(d.is_analyzed = 1 AND e.area = 'YELLOW'),
+       SUM(d.is_analyzed = 1 AND e.area = 'BLUE'),
+       SUM(d.is_analyzed = 1 AND e.area = 'GREEN'),
+       SUM(d.is_analyzed = 0 OR e.area IS NULL OR e.area NOT IN ('RED', 'YELLOW', 'BLUE', 'GREEN'))
+FROM diaries d
+JOIN users u ON u.user_sn = d.user_sn
+LEFT JOIN emotions e ON e.emotion_code = d.core_emotion_code
+WHERE d.deleted_at IS NULL
+  AND u.deleted_at IS NULL
+  AND u.user_type_cd = 'STUDENT'
+  AND u.school_code IS NOT NULL
+  AND u.class_code IS NOT NULL
+GROUP BY u.school_code, u.class_code, d.diary_date;
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- DESC class_daily_emotion;
+-- 집계와 일기 원본 비교 (적재 직후 결과가 없으면 정상, 이후에는 반 이동/탈퇴 학생의 일기만큼 차이 가능)
+-- SELECT c.school_code, c.class_code, c.emotion_date,
+--        c.red_count + c.yellow_count + c.blue_count + c.green_count + c.unanalyzed_count AS written,
+--        COUNT(d.diary_id) AS actual
+--   FROM class_daily_emotion c
+--   LEFT JOIN users u ON u.school_code = c.school_code AND u.class_code = c.class_code
+--                    AND u.deleted_at IS NULL AND u.user_type_cd = 'STUDENT'
+--   LEFT JOIN diaries d ON d.user_sn = u.user_sn AND d.diary_date = c.emotion_date AND d.deleted_at IS NULL
+--  GROUP BY c.class_daily_emotion_id
+-- HAVING written <> actual;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP TABLE class_daily_emotion;
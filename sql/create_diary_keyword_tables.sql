@@ -0,0 +1,97 @@
+-- ========================================
+-- 키워드 사전 / 일기 키워드 색인 테이블 생성
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - keyword_dictionary: 분석 키워드 문자열 → 정수 ID (대소문자/공백 구분, utf8mb4_bin)
+-- - diary_keyword: 분석된 일기의 키워드를 일기당 키워드별 1행으로 저장
+--   (감정 영역, 일기 날짜, 작성자 학교/반 포함, 감정 영역을 알 수 없는 일기는 제외)
+--   학교/반은 작성자의 현재 소속 기준 (class_daily_emotion과 동일, 명단이 바뀌면 학급 월 분포 조회 시 해당 월 색인을 현재 학급으로 이동/삭제)
+--   초기 적재는 현재 재학 중인 학생(삭제되지 않은 STUDENT)의 일기만 현재 학교/반 기준으로 적재
+-- - 일기 분석/재분석/내용 수정/삭제 트랜잭션에서 함께 갱신 (DiaryChangedEvent → DiaryKeywordService)
+-- - 학급 월별 감정 분포의 영역별 상위 키워드를 일기 키워드 파싱 없이 인덱스 범위 GROUP BY로 조회
+-- - 기존 분석된 일기 기준 초기 데이터 적재 포함 (애플리케이션 배포 전에 실행)
+--   (MariaDB 시퀀스 엔진 seq_1_to_50 사용, 일기당 키워드 50개까지 적재)
+-- ========================================
+
+CREATE TABLE keyword_dictionary (
+    keyword_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '키워드 ID',
+    keyword    VARCHAR(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT '키워드',
+
+    CONSTRAINT uk_keyword_dictionary_keyword UNIQUE (keyword)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='키워드 사전';
+
+CREATE TABLE diary_keyword (
+    diary_keyword_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '일기 키워드 ID',
+    diary_id         BIGINT       NOT NULL COMMENT '일기 ID',
+    keyword_id       BIGINT       NOT NULL COMMENT '키워드 ID',
+    school_code      VARCHAR(255) NOT NULL COMMENT '작성자 학교 코드',
+    class_code       VARCHAR(255) NOT NULL COMMENT '작성자 반 코드',
+    area             VARCHAR(10)  NOT NULL COMMENT '감정 영역 (RED, YELLOW, BLUE, GREEN)',
+    diary_date       DATE         NOT NULL COMMENT '일기 날짜',
+
+    CONSTRAINT diary_keyword_diaries_diary_id_fk
+        FOREIGN KEY (diary_id) REFERENCES diaries (diary_id)
+            ON DELETE CASCADE,
+    CONSTRAINT diary_keyword_keyword_dictionary_keyword_id_fk
+        FOREIGN KEY (keyword_id) REFERENCES keyword_dictionary (keyword_id),
+    CONSTRAINT uk_diary_keyword UNIQUE (diary_id, keyword_id),
+    INDEX idx_diary_keyword_class (school_code, class_code, diary_date, area, keyword_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='일기 키워드 색인';
+
+-- ========================================
+-- 초기 데이터 적재 (삭제되지 않은 분석된 일기, 삭제되지 않은 학생의 현재 학교/반 기준)
+-- ========================================
+INSERT IGNORE INTO keyword_dictionary (keyword)
+SELECT DISTINCT t.keyword
+FROM (
+    SELECT TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(d.keywords, ',', s.seq), ',', -1)) AS keyword
+    FROM diaries d
+    JOIN seq_1_to_50 s ON s.seq <= 1 + LENGTH(d.keywords) - LENGTH(REPLACE(d.keywords, ',', ''))
+    WHERE d.deleted_at IS NULL
+      AND d.is_analyzed = 1
+      AND d.keywords IS NOT NULL
+) t
+WHERE t.keyword <> ''
+  AND CHAR_LENGTH(t.keyword) <= 100;
+
+INSERT IGNORE INTO diary_keyword (diary_id, keyword_id, school_code, class_code, area, diary_date)
+SELECT t.diary_id, k.keyword_id, t.school_code, t.class_code, t.area, t.diary_date
+FROM (
+    SELECT d.diary_id, u.school_code, u.class_code, e.area, d.diary_date,
+           TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(d.keywords, ',', s.seq), ',', -1)) AS keyword
+    FROM diaries d
+    JOIN users u ON u.user_sn = d.user_sn
+    JOIN emotions e ON e.emotion_code = d.core_emotion_code
+    JOIN seq_1_to_50 s ON s.seq <= 1 + LENGTH(d.keywords) - LENGTH(REPLACE(d.keywords, ',', ''))
+    WHERE d.deleted_at IS NULL
+      AND d.is_analyzed = 1
+      AND d.keywords IS NOT NULL
+      AND u.deleted_at IS NULL
+      AND u.user_type_cd = 'STUDENT'
+      AND u.school_code IS NOT NULL
+      AND u.class_code IS NOT NULL
+      AND e.area IN ('RED', 'YELLOW', 'BLUE', 'GREEN')
+) t
+JOIN keyword_dictionary k ON k.keyword = t.keyword COLLATE utf8mb4_bin;
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- DESC keyword_dictionary;
+-- DESC diary_keyword;
+-- 학급 월별 영역 키워드 순위 (인덱스 범위 조회 확인)
+-- EXPLAIN SELECT dk.area, k.keyword, COUNT(*) AS diary_count
+--   FROM diary_keyword dk JOIN keyword_dictionary k ON k.keyword_id = dk.keyword_id
+--  WHERE dk.school_code = 'S001' AND dk.class_code = '1-1'
+--    AND dk.diary_date BETWEEN '2026-10-01' AND '2026-10-31'
+--  GROUP BY dk.area, k.keyword_id, k.keyword
+--  ORDER BY dk.area, diary_count DESC, k.keyword;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP TABLE diary_keyword;
+-- DROP TABLE keyword_dictionary;
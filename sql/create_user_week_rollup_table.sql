@@ -0,0 +1,83 @@
+-- ========================================
+-- 사용자 주별 일기 집계 테이블 생성
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - 사용자/주(월요일 시작)별 일기 수, 분석된 일기 수, 감정 영역별/감정별 분석된 일기 수
+-- - 일기 작성/분석/수정/삭제 트랜잭션에서 함께 증감 (DiaryChangedEvent → UserWeekRollupService)
+-- - 발행 가능한 주 조회, 현재 분석된 일기 수 확인, 리포트 감정 통계를 일기 조회 없이 계산
+-- - 기존 일기 기준 초기 데이터 적재 포함 (애플리케이션 배포 전에 실행)
+-- ========================================
+
+CREATE TABLE user_week_rollup (
+    rollup_id        BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '집계 ID',
+    user_sn          BIGINT   NOT NULL COMMENT '사용자 일련번호',
+    week_start_date  DATE     NOT NULL COMMENT '주 시작일 (월요일)',
+    diary_count      INT      NOT NULL DEFAULT 0 COMMENT '작성한 일기 수 (분석 여부 무관)',
+    analyzed_count   INT      NOT NULL DEFAULT 0 COMMENT '분석된 일기 수',
+    red_count        INT      NOT NULL DEFAULT 0 COMMENT '빨강 영역 분석된 일기 수',
+    yellow_count     INT      NOT NULL DEFAULT 0 COMMENT '노랑 영역 분석된 일기 수',
+    blue_count       INT      NOT NULL DEFAULT 0 COMMENT '파랑 영역 분석된 일기 수',
+    green_count      INT      NOT NULL DEFAULT 0 COMMENT '초록 영역 분석된 일기 수',
+    emotion_counts   LONGTEXT NULL COMMENT '감정 코드별 분석된 일기 수 (JSON, 예: {"JOY":2,"CALM":1})',
+    updated_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+
+    CONSTRAINT user_week_rollup_users_user_sn_fk
+        FOREIGN KEY (user_sn) REFERENCES users (user_sn)
+            ON DELETE CASCADE,
+    CONSTRAINT uk_user_week_rollup UNIQUE (user_sn, week_start_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 주별 일기 집계';
+
+-- ========================================
+-- 초기 데이터 적재 (삭제되지 않은 일기 기준)
+-- ========================================
+INSERT INTO user_week_rollup (user_sn, week_start_date, diary_count, analyzed_count,
+                              red_count, yellow_count, blue_count, green_count)
+SELECT d.user_sn,
+       DATE_SUB(d.diary_date, INTERVAL WEEKDAY(d.diary_date) DAY) AS week_start_date,
+       COUNT(*),
+       SUM(d.is_analyzed = 1),
+       SUM(d.is_analyzed = 1 AND e.area = 'RED'),
+       SUM(d.is_analyzed = 1 AND e.area = 'YELLOW'),
+       SUM(d.is_analyzed = 1 AND e.area = 'BLUE'),
+       SUM(d.is_analyzed = 1 AND e.area = 'GREEN')
+FROM diaries d
+LEFT JOIN emotions e ON e.emotion_code = d.core_emotion_code
+WHERE d.deleted_at IS NULL
+GROUP BY d.user_sn, week_start_date;
+
+UPDATE user_week_rollup r
+JOIN (
+    SELECT t.user_sn, t.week_start_date, JSON_OBJECTAGG(t.core_emotion_code, t.cnt) AS emotion_counts
+    FROM (
+        SELECT user_sn,
+               DATE_SUB(diary_date, INTERVAL WEEKDAY(diary_date) DAY) AS week_start_date,
+               core_emotion_code,
+               COUNT(*) AS cnt
+        FROM diaries
+        WHERE deleted_at IS NULL
+          AND is_analyzed = 1
+          AND core_emotion_code IS NOT NULL
+        GROUP BY user_sn, week_start_date, core_emotion_code
+    ) t
+    GROUP BY t.user_sn, t.week_start_date
+) s ON s.user_sn = r.user_sn AND s.week_start_date = r.week_start_date
+SET r.emotion_counts = s.emotion_counts;
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- DESC user_week_rollup;
+-- 집계와 일기 원본 비교 (결과가 없으면 정상)
+-- SELECT r.user_sn, r.week_start_date, r.analyzed_count, COUNT(d.diary_id) AS actual
+--   FROM user_week_rollup r
+--   LEFT JOIN diaries d ON d.user_sn = r.user_sn AND d.deleted_at IS NULL AND d.is_analyzed = 1
+--    AND d.diary_date BETWEEN r.week_start_date AND DATE_ADD(r.week_start_date, INTERVAL 6 DAY)
+--  GROUP BY r.rollup_id
+-- HAVING r.analyzed_count <> actual;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP TABLE user_week_rollup;
@@ -0,0 +1,44 @@
+-- ========================================
+-- 주간 리포트 일괄 생성 작업 테이블 생성
+-- ========================================
+-- 작업 일자: 2026-10-16
+-- 작업 내용:
+-- - 전체 학생 주간 리포트 생성(WeeklyReportEngine) 진행 상황 저장
+-- - 학생 묶음(batch-size) 처리가 끝날 때마다 커서(마지막 user_sn)와 건수 체크포인트
+-- - 인스턴스 재시작 시 RUNNING 작업을 커서 이후부터 이어서 처리
+-- ========================================
+
+CREATE TABLE weekly_report_jobs (
+    job_id                BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '작업 ID',
+    start_date            DATE         NOT NULL COMMENT '리포트 시작일 (월요일)',
+    end_date              DATE         NOT NULL COMMENT '리포트 종료일 (일요일)',
+    status                VARCHAR(20)  NOT NULL COMMENT '작업 상태 (RUNNING, COMPLETED, FAILED)',
+    cursor_user_sn        BIGINT       NOT NULL DEFAULT 0 COMMENT '처리 완료된 마지막 user_sn (재개 시작점)',
+    total_count           INT          NOT NULL DEFAULT 0 COMMENT '대상 학생 수',
+    processed_count       INT          NOT NULL DEFAULT 0 COMMENT '처리 완료 학생 수 (커서까지)',
+    analyzed_count        INT          NOT NULL DEFAULT 0 COMMENT 'AI 분석 완료 수',
+    skipped_count         INT          NOT NULL DEFAULT 0 COMMENT '분석 제외 수 (일기 3개 미만 / 이미 존재)',
+    failed_count          INT          NOT NULL DEFAULT 0 COMMENT '실패 수 (retry-failed 대상)',
+    timed_out_count       INT          NOT NULL DEFAULT 0 COMMENT '시간 초과 수 (retry-failed 대상)',
+    resume_count          INT          NOT NULL DEFAULT 0 COMMENT '재개 횟수',
+    attempt_started_at    DATETIME     NOT NULL COMMENT '현재 실행(최초/재개) 시작 시각',
+    attempt_base_count    INT          NOT NULL DEFAULT 0 COMMENT '현재 실행 시작 시점의 처리 완료 수 (처리 속도 계산용)',
+    checkpoint_at         DATETIME     NULL COMMENT '마지막 체크포인트 시각',
+    finished_at           DATETIME     NULL COMMENT '종료 시각',
+    error_message         VARCHAR(500) NULL COMMENT '실패 사유',
+    created_at            DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '작업 생성 시각',
+
+    INDEX idx_weekly_report_jobs_status (status, start_date),
+    INDEX idx_weekly_report_jobs_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='주간 리포트 일괄 생성 작업';
+
+-- ========================================
+-- 적용 후 확인
+-- ========================================
+-- DESC weekly_report_jobs;
+
+-- ========================================
+-- 롤백 스크립트 (필요 시 사용)
+-- ========================================
+-- DROP TABLE weekly_report_jobs;
@@ -0,0 +1,125 @@
+package com.flowerbed.api.v1.controller;
+
+import com.flowerbed.api.v1.dto.ClassDashboardCacheStatsResponse;
+import com.flowerbed.api.v1.dto.DiaryAnalysisCacheStatsResponse;
+import com.flowerbed.api.v1.dto.LlmLimiterStatsResponse;
+import com.flowerbed.api.v1.dto.LlmRouterStatsResponse;
+import com.flowerbed.api.v1.dto.LlmUsageStatsResponse;
+import com.flowerbed.api.v1.service.ClassDashboardCacheService;
+import com.flowerbed.api.v1.service.DiaryAnalysisCacheService;
+import com.flowerbed.api.v1.service.LlmConcurrencyLimiter;
+import com.flowerbed.api.v1.service.LlmUsageMetrics;
+import com.flowerbed.api.v1.service.RoutingLlmApiClient;
+import com.flowerbed.security.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 지표 API (관리자용)
+ * - 캐시 적중률, LLM 토큰 사용량, LLM 동시성 제한/라우팅 등 인스턴스 운영 지표 조회
+ *
+ * ⚠️ 관리자 권한 필수 (userTypeCd = 'ADMIN')
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/admin/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Metrics", description = "운영 지표 API (관리자)")
+public class AdminMetricsController {
+
+    private final DiaryAnalysisCacheService diaryAnalysisCacheService;
+    private final ClassDashboardCacheService classDashboardCacheService;
+    private final LlmUsageMetrics llmUsageMetrics;
+    private final LlmConcurrencyLimiter llmConcurrencyLimiter;
+    private final RoutingLlmApiClient routingLlmApiClient;
+
+    /**
+     * 일기 감정 분석 결과 캐시 통계
+     * GET /api/v1/admin/metrics/diary-analysis-cache
+     *
+     * - hits / misses / hitRate: 인스턴스 기동 이후 누적
+     * - entries: 현재 Redis에 저장된 항목 수
+     */
+    @GetMapping("/diary-analysis-cache")
+    @Operation(summary = "감정 분석 캐시 통계", description = "일기 감정 분석 결과 캐시의 적중률을 조회합니다")
+    public ResponseEntity<DiaryAnalysisCacheStatsResponse> getDiaryAnalysisCacheStats() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        return ResponseEntity.ok(diaryAnalysisCacheService.getStats());
+    }
+
+    /**
+     * 선생님 학급 대시보드 캐시 통계
+     * GET /api/v1/admin/metrics/class-dashboard-cache
+     *
+     * - hits / misses / hitRate: 인스턴스 기동 이후 누적
+     * - rejectedPuts: 조회 중 일기/위험도 변경으로 무효화되어 저장하지 않은 횟수
+     * - avgHitAgeMillis / maxHitAgeMillis: 적중한 응답이 저장된 뒤 지난 시간 (최대 TTL)
+     */
+    @GetMapping("/class-dashboard-cache")
+    @Operation(summary = "학급 대시보드 캐시 통계", description = "선생님 학급 대시보드 응답 캐시의 적중률과 응답 경과 시간을 조회합니다")
+    public ResponseEntity<ClassDashboardCacheStatsResponse> getClassDashboardCacheStats() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        return ResponseEntity.ok(classDashboardCacheService.getStats());
+    }
+
+    /**
+     * LLM 토큰 사용량 및 프롬프트 캐시 통계
+     * GET /api/v1/admin/metrics/llm-usage
+     *
+     * - provider별 누적 요청 수 / 입력·출력 토큰 수
+     * - cachedInputTokens: 제공자 프롬프트 캐시에서 읽은 입력 토큰 수
+     * - cachedInputRatio: 전체 입력 토큰 중 캐시 적중 비율
+     */
+    @GetMapping("/llm-usage")
+    @Operation(summary = "LLM 사용량 통계", description = "LLM 제공자별 토큰 사용량과 프롬프트 캐시 적중 비율을 조회합니다")
+    public ResponseEntity<LlmUsageStatsResponse> getLlmUsageStats() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        return ResponseEntity.ok(llmUsageMetrics.getStats());
+    }
+
+    /**
+     * LLM 호출 동시성 제한 현황
+     * GET /api/v1/admin/metrics/llm-limiter
+     *
+     * - limit: 현재 적응형 동시 호출 한도 (429/529, 응답 지연 시 감소)
+     * - inFlight / queued: 실행 중 / 대기 중 호출 수
+     * - rejected: 대기 시간 초과로 거절된 호출 수 (LLM_BUSY)
+     */
+    @GetMapping("/llm-limiter")
+    @Operation(summary = "LLM 동시성 제한 현황", description = "LLM 제공자별 동시 호출 한도와 실행/대기/거절 건수를 조회합니다")
+    public ResponseEntity<LlmLimiterStatsResponse> getLlmLimiterStats() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        return ResponseEntity.ok(llmConcurrencyLimiter.getStats());
+    }
+
+    /**
+     * LLM 제공자 라우팅 현황
+     * GET /api/v1/admin/metrics/llm-router
+     *
+     * - providers: 현재 라우팅 우선순위 순서
+     * - circuitState: CLOSED(정상) / OPEN(호출 차단) / HALF_OPEN(복구 확인 중)
+     * - ewmaLatencyMs / p95LatencyMs: 평균 / p95 응답 시간 (p95는 헤지 요청 대기 시간)
+     */
+    @GetMapping("/llm-router")
+    @Operation(summary = "LLM 라우팅 현황", description = "LLM 제공자별 서킷 상태, 응답 시간, 헤지 요청 건수를 조회합니다")
+    public ResponseEntity<LlmRouterStatsResponse> getLlmRouterStats() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        return ResponseEntity.ok(routingLlmApiClient.getStats());
+    }
+}
@@ -1,9 +1,11 @@
 package com.flowerbed.api.v1.controller;
 
+import com.flowerbed.api.v1.dto.DiaryAnalysisJobResponse;
 import com.flowerbed.api.v1.dto.DiaryCreateRequest;
 import com.flowerbed.api.v1.dto.DiaryResponse;
 import com.flowerbed.api.v1.dto.DiaryUpdateRequest;
 import com.flowerbed.api.v1.dto.MonthlyDiariesResponse;
+import com.flowerbed.api.v1.service.DiaryAnalysisJobService;
 import com.flowerbed.api.v1.service.DiaryService;
 import com.flowerbed.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +16,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 
@@ -27,6 +31,7 @@ import java.time.LocalDate;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryAnalysisJobService diaryAnalysisJobService;
 
     /**
      * 일기 작성
@@ -86,6 +91,106 @@ public class DiaryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일기 감정 분석 요청 (비동기)
+     *
+     * 분석 작업을 큐에 등록하고 즉시 202 Accepted와 작업 ID를 반환합니다.
+     * 요청 스레드는 LLM 응답을 기다리지 않으며, 결과는 폴링 또는 SSE로 받습니다.
+     *
+     * @param diaryId 분석할 일기 ID
+     * @return DiaryAnalysisJobResponse (jobId, status=PENDING)
+     *
+     * 비즈니스 로직:
+     * 1. 일기 존재 여부 및 권한 확인
+     * 2. 작업 상태를 Redis에 저장 (PENDING)
+     * 3. 분석 전용 워커 풀에서 /analyze와 동일한 분석 수행
+     * 4. 완료 시 상태를 COMPLETED(결과 포함) 또는 FAILED(에러 코드 포함)로 갱신
+     *
+     * 결과 확인:
+     * - 폴링: GET /diaries/analysis-jobs/{jobId}
+     * - SSE: GET /diaries/analysis-jobs/{jobId}/events
+     *
+     * !! 주의 !!
+     * - 작업 큐가 가득 차면 429 Too Many Requests (ANALYSIS_QUEUE_FULL)
+     * - 작업 상태는 1시간 동안 보관됩니다
+     */
+    @PostMapping("/{diaryId}/analyze-async")
+    @Operation(summary = "일기 감정 분석 요청 (비동기)", description = "감정 분석 작업을 등록하고 작업 ID를 반환합니다")
+    public ResponseEntity<DiaryAnalysisJobResponse> analyzeDiaryAsync(
+            @Parameter(description = "일기 ID") @PathVariable Long diaryId) {
+
+        Long userSn = SecurityUtil.getCurrentUserSn();
+        DiaryAnalysisJobResponse response = diaryAnalysisJobService.submit(userSn, diaryId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 일기 감정 분석 작업 조회 (폴링)
+     *
+     * @param jobId 분석 작업 ID
+     * @return DiaryAnalysisJobResponse (COMPLETED인 경우 result에 DiaryResponse 포함)
+     *
+     * !! 참고 !!
+     * - 본인이 요청한 작업만 조회 가능
+     * - 만료되었거나 존재하지 않는 작업이면 404 (ANALYSIS_JOB_NOT_FOUND)
+     */
+    @GetMapping("/analysis-jobs/{jobId}")
+    @Operation(summary = "일기 감정 분석 작업 조회", description = "비동기 감정 분석 작업의 상태와 결과를 조회합니다")
+    public ResponseEntity<DiaryAnalysisJobResponse> getAnalysisJob(
+            @Parameter(description = "분석 작업 ID") @PathVariable String jobId) {
+
+        Long userSn = SecurityUtil.getCurrentUserSn();
+        DiaryAnalysisJobResponse response = diaryAnalysisJobService.getJob(userSn, jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 일기 감정 분석 작업 구독 (SSE)
+     *
+     * 작업 상태를 Server-Sent Events로 전달합니다. (event name: analysis)
+     * - 구독 시점의 현재 상태 1회 전송
+     * - 작업 종료 시 최종 상태(COMPLETED/FAILED) 전송 후 스트림 종료
+     *
+     * !! 참고 !!
+     * - 스트림이 타임아웃되면 폴링 API로 결과를 확인하세요
+     */
+    @GetMapping(value = "/analysis-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "일기 감정 분석 작업 구독 (SSE)", description = "비동기 감정 분석 작업 완료 시 결과를 SSE로 전달합니다")
+    public SseEmitter subscribeAnalysisJob(
+            @Parameter(description = "분석 작업 ID") @PathVariable String jobId) {
+
+        Long userSn = SecurityUtil.getCurrentUserSn();
+        return diaryAnalysisJobService.subscribe(userSn, jobId);
+    }
+
+    /**
+     * 일기 감정 분석 (스트리밍 SSE)
+     *
+     * LLM 응답을 스트리밍으로 받아, 분석 결과 필드가 완성되는 즉시 Server-Sent Events로 전달합니다.
+     * 전체 응답을 기다리지 않고 요약/대표 감정을 먼저 화면에 보여줄 수 있습니다.
+     *
+     * @param diaryId 분석할 일기 ID
+     * @return SSE 스트림
+     *
+     * 이벤트:
+     * - field: LLM 응답 필드가 완성될 때마다 전송 ({"field": "summary", "value": "..."})
+     *   (summary, coreEmotion, emotions, reason, keywords)
+     * - analysis: 저장까지 완료된 최종 결과 (COMPLETED + result 또는 FAILED + errorCode) 후 스트림 종료
+     *
+     * !! 주의 !!
+     * - field 이벤트는 검증 전 값입니다. 최종 결과는 analysis 이벤트 기준으로 표시하세요
+     * - 분석 워커 풀이 가득 차면 429 Too Many Requests (ANALYSIS_QUEUE_FULL)
+     * - API 호출 비용이 발생합니다
+     */
+    @PostMapping(value = "/{diaryId}/analyze-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "일기 감정 분석 (스트리밍)", description = "감정 분석 결과를 필드 단위로 SSE 스트리밍합니다")
+    public SseEmitter analyzeDiaryStream(
+            @Parameter(description = "일기 ID") @PathVariable Long diaryId) {
+
+        Long userSn = SecurityUtil.getCurrentUserSn();
+        return diaryAnalysisJobService.stream(userSn, diaryId);
+    }
+
     /**
      * 일기 감정 분석 (테스트 모드 - API 호출 없음)
      *
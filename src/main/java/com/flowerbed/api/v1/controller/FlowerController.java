@@ -2,6 +2,7 @@ package com.flowerbed.api.v1.controller;
 
 import com.flowerbed.api.v1.dto.AllEmotionsResponse;
 import com.flowerbed.api.v1.dto.UserEmotionFlowerResponse;
+import com.flowerbed.api.v1.service.EmotionCacheService;
 import com.flowerbed.api.v1.service.FlowerService;
 import com.flowerbed.security.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
  * API 종류:
  * 1. /my-emotions - 사용자가 작성한 일기에서 나타난 감정 통계 (개인화 데이터)
  * 2. /all-emotions - 전체 감정-꽃 매핑 정보 (마스터 데이터)
+ * 3. /cache/evict - 감정 마스터 데이터 캐시 삭제 및 분석 프롬프트 다시 로드 (관리자)
  */
 @Tag(name = "Flower", description = "꽃 정보 API")
 @RestController
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class FlowerController {
 
     private final FlowerService flowerService;
+    private final EmotionCacheService emotionCacheService;
 
     /**
      * 사용자의 감정-꽃 통계 조회
@@ -109,4 +112,26 @@ public class FlowerController {
         AllEmotionsResponse response = flowerService.getAllEmotions();
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 감정 마스터 데이터 캐시 삭제 (관리자 전용)
+     * POST /api/v1/flowers/cache/evict
+     *
+     * emotions 테이블 수정 후 호출하면 재기동 없이 반영됩니다.
+     * - 감정/꽃 캐시 전체 삭제
+     * - 일기 감정 분석 / 주간 리포트 프롬프트를 새 감정 정보로 다시 컴파일
+     * - 프롬프트 버전이 바뀌므로 이전 분석 결과 캐시는 더 이상 사용되지 않음
+     *
+     * !! 참고 !!
+     * - 요청을 받은 인스턴스의 프롬프트만 다시 로드됨 (다중 인스턴스는 인스턴스별 호출 필요)
+     */
+    @Operation(summary = "감정 캐시 삭제", description = "감정 마스터 데이터 캐시를 삭제하고 분석 프롬프트를 다시 로드합니다 (관리자)")
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evictEmotionCache() {
+        // 관리자 권한 체크
+        SecurityUtil.requireAdmin();
+
+        emotionCacheService.evictAllEmotionCache();
+        return ResponseEntity.ok().build();
+    }
 }
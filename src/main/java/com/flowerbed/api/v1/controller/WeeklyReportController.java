@@ -4,25 +4,33 @@ import com.flowerbed.api.v1.domain.WeeklyReport;
 import com.flowerbed.api.v1.dto.GenerableWeekResponse;
 import com.flowerbed.api.v1.dto.GenerableWeeksResponse;
 import com.flowerbed.api.v1.dto.WeeklyReportDetailResponse;
+import com.flowerbed.api.v1.dto.WeeklyReportJobResponse;
 import com.flowerbed.api.v1.dto.WeeklyReportListItemResponse;
 import com.flowerbed.api.v1.dto.WeeklyReportStatusResponse;
 import com.flowerbed.api.v1.service.EmotionCacheService;
 import com.flowerbed.api.v1.service.RedisService;
 import com.flowerbed.exception.ErrorCode;
 import com.flowerbed.exception.business.BusinessException;
+import com.flowerbed.scheduler.SchedulerLock;
+import com.flowerbed.scheduler.WeeklyReportScheduler;
 import com.flowerbed.security.SecurityUtil;
+import com.flowerbed.service.WeeklyReportBatchService;
+import com.flowerbed.service.WeeklyReportEngine;
+import com.flowerbed.service.WeeklyReportJobService;
 import com.flowerbed.service.WeeklyReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,9 +46,16 @@ import java.util.stream.Collectors;
 public class WeeklyReportController {
 
     private final WeeklyReportService weeklyReportService;
+    private final WeeklyReportEngine weeklyReportEngine;
+    private final WeeklyReportJobService weeklyReportJobService;
+    private final WeeklyReportBatchService weeklyReportBatchService;
+    private final SchedulerLock schedulerLock;
     private final EmotionCacheService emotionCacheService;
     private final RedisService redisService;
 
+    @Value("${weekly-report.mode:sync}")
+    private String weeklyReportMode;
+
     /**
      * 안 읽은 리포트 존재 여부 확인
      * GET /api/v1/weekly-reports/unread/exists
@@ -77,11 +92,10 @@ public class WeeklyReportController {
     ) {
         Long userSn = SecurityUtil.getCurrentUserSn();
         List<WeeklyReport> reports = weeklyReportService.getReportsByStatus(userSn, status, includeAnalyzable);
+        Map<LocalDate, Integer> currentCounts = weeklyReportService.getCurrentDiaryCounts(userSn, reports);
         List<WeeklyReportListItemResponse> response = reports.stream()
-                .map(report -> {
-                    int currentCount = weeklyReportService.getCurrentDiaryCount(userSn, report.getStartDate(), report.getEndDate());
-                    return WeeklyReportListItemResponse.from(report, currentCount);
-                })
+                .map(report -> WeeklyReportListItemResponse.from(report,
+                        currentCounts.getOrDefault(report.getStartDate(), 0)))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
@@ -130,15 +144,7 @@ public class WeeklyReportController {
         SecurityUtil.requireStudent();
 
         Long userSn = SecurityUtil.getCurrentUserSn();
-        List<LocalDate[]> generableWeeks = weeklyReportService.getGenerableWeeks(userSn);
-
-        List<GenerableWeekResponse> weeks = generableWeeks.stream()
-                .map(week -> GenerableWeekResponse.of(
-                        week[0],  // startDate
-                        week[1],  // endDate
-                        (int) week[2].toEpochDay()  // diaryCount
-                ))
-                .collect(Collectors.toList());
+        List<GenerableWeekResponse> weeks = weeklyReportService.getGenerableWeeks(userSn);
 
         // 발행 횟수 정보 조회
         int dailyLimit = RedisService.DAILY_WEEKLY_REPORT_LIMIT;
@@ -200,6 +206,10 @@ public class WeeklyReportController {
      * 사용 시나리오:
      * - 스케줄러 테스트
      * - 특정 기간 리포트 일괄 생성
+     *
+     * weekly-report.mode=sync: WeeklyReportEngine으로 병렬 처리 후 전체 완료까지 대기
+     * weekly-report.mode=batch: Batch API로 제출 후 배치 완료까지 대기
+     * 같은 주 생성이 이미 진행 중이면 409 (WEEKLY_REPORT_JOB_RUNNING)
      */
     @PostMapping("/generate-all")
     public ResponseEntity<Void> generateWeeklyReportsForAllUsers(
@@ -209,7 +219,18 @@ public class WeeklyReportController {
         // 관리자 권한 체크
         SecurityUtil.requireAdmin();
 
-        weeklyReportService.generateReportsForAllUsers(startDate, endDate);
+        // 스케줄러 / 다른 인스턴스의 같은 주 생성과 동시에 실행되지 않도록 분산 락 사용
+        boolean executed = schedulerLock.runExclusive(WeeklyReportScheduler.lockName(startDate), () -> {
+            if ("batch".equalsIgnoreCase(weeklyReportMode)) {
+                weeklyReportBatchService.generateReportsForAllUsers(startDate, endDate);
+            } else {
+                weeklyReportEngine.generateReportsForAllUsers(startDate, endDate);
+            }
+        });
+
+        if (!executed) {
+            throw new BusinessException(ErrorCode.WEEKLY_REPORT_JOB_RUNNING);
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -222,16 +243,45 @@ public class WeeklyReportController {
      * 사용 시나리오:
      * - isAnalyzed=false인 리포트들을 다시 분석
      * - LLM API 장애 복구 후 재시도
+     *
+     * WeeklyReportEngine으로 리포트 ID 묶음 단위 병렬 처리 후 전체 완료까지 대기
+     * (일기 3개 미만 리포트는 집계 쿼리로 제외)
      */
     @PostMapping("/retry-failed")
     public ResponseEntity<Void> retryFailedReports() {
         // 관리자 권한 체크
         SecurityUtil.requireAdmin();
 
-        weeklyReportService.retryFailedReports();
+        weeklyReportEngine.retryFailedReports();
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 일괄 생성 작업 목록 - 최근 20건 (관리자 전용)
+     * GET /api/v1/weekly-reports/jobs
+     *
+     * ⚠️ 관리자 권한 필수 (userTypeCd = 'ADMIN')
+     *
+     * 진행률, 분당 처리 학생 수, 남은 예상 시간 포함 (건수는 학생 묶음 단위 체크포인트 기준)
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<WeeklyReportJobResponse>> getReportJobs() {
+        SecurityUtil.requireAdmin();
+        return ResponseEntity.ok(weeklyReportJobService.getRecentJobs());
+    }
+
+    /**
+     * 일괄 생성 작업 진행 상황 (관리자 전용)
+     * GET /api/v1/weekly-reports/jobs/{jobId}
+     *
+     * ⚠️ 관리자 권한 필수 (userTypeCd = 'ADMIN')
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<WeeklyReportJobResponse> getReportJob(@PathVariable Long jobId) {
+        SecurityUtil.requireAdmin();
+        return ResponseEntity.ok(weeklyReportJobService.getJob(jobId));
+    }
+
     /**
      * 주간 리포트 알림 확인 처리
      * PUT /api/v1/weekly-reports/{reportId}/notification-sent
@@ -0,0 +1,67 @@
+package com.flowerbed.api.v1.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 학급 일별 감정 집계
+ * - 학교/반/날짜별 일기 작성 학생 수를 감정 영역(red, yellow, blue, green)과 미분석으로 나누어 집계
+ * - 일기 작성/분석/수정/삭제 시 같은 트랜잭션에서 원자적 upsert로 증감 (ClassDailyEmotionService)
+ * - 학교/반은 작성자(학생)의 현재 소속 기준 (현재 학급 명단 집계)
+ *   반 이동/탈퇴 등으로 명단이 바뀌면 학급 월 분포 조회 시 해당 월을 현재 명단 일기로 다시 적재 (ClassRosterSyncService)
+ * - 미작성(none) 수는 저장하지 않음 (조회 시 학급 학생 수 - 작성 학생 수)
+ */
+@Entity
+@Table(name = "class_daily_emotion", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_class_daily_emotion", columnNames = {"school_code", "class_code", "emotion_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClassDailyEmotion {
+
+    public static final String UNANALYZED = "unanalyzed";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "class_daily_emotion_id")
+    private Long classDailyEmotionId;
+
+    @Column(name = "school_code", nullable = false)
+    private String schoolCode;
+
+    @Column(name = "class_code", nullable = false)
+    private String classCode;
+
+    @Column(name = "emotion_date", nullable = false)
+    private LocalDate emotionDate;
+
+    @Column(name = "red_count", nullable = false)
+    private Integer redCount = 0;
+
+    @Column(name = "yellow_count", nullable = false)
+    private Integer yellowCount = 0;
+
+    @Column(name = "blue_count", nullable = false)
+    private Integer blueCount = 0;
+
+    @Column(name = "green_count", nullable = false)
+    private Integer greenCount = 0;
+
+    @Column(name = "unanalyzed_count", nullable = false)
+    private Integer unanalyzedCount = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 일기를 작성한 학생 수 (분석 여부 무관)
+     */
+    public int getWrittenCount() {
+        return redCount + yellowCount + blueCount + greenCount + unanalyzedCount;
+    }
+}
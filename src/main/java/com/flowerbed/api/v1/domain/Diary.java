@@ -19,7 +19,7 @@ import java.util.List;
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE diaries SET deleted_at = NOW() WHERE diary_id = ?")
+@SQLDelete(sql = "UPDATE diaries SET deleted_at = NOW() WHERE diary_id = ? AND version = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Diary extends BaseAuditEntity {
 
@@ -66,6 +66,11 @@ public class Diary extends BaseAuditEntity {
     @Column(name = "analyzed_at")
     private LocalDateTime analyzedAt;
 
+    // 낙관적 락 버전 (LLM 분석 중 일기 수정/삭제 감지)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Diary(User user, LocalDate diaryDate, String content) {
         this.user = user;
         this.diaryDate = diaryDate;
@@ -0,0 +1,57 @@
+package com.flowerbed.api.v1.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 키워드 색인
+ * - 분석된 일기의 키워드를 일기당 키워드별 1행으로 저장 (DiaryKeywordService)
+ * - 감정 영역, 일기 날짜, 작성자 학교/반을 함께 저장 → 기간별 학급 영역 키워드 순위를 일기 조회 없이 집계
+ * - 분석 결과가 바뀌거나 일기가 삭제되면 해당 일기 행 전체 삭제 후 다시 생성
+ */
+@Entity
+@Table(name = "diary_keyword", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_diary_keyword", columnNames = {"diary_id", "keyword_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "diary_keyword_id")
+    private Long diaryKeywordId;
+
+    @Column(name = "diary_id", nullable = false)
+    private Long diaryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "keyword_id", nullable = false)
+    private KeywordDictionary keyword;
+
+    @Column(name = "school_code", nullable = false)
+    private String schoolCode;
+
+    @Column(name = "class_code", nullable = false)
+    private String classCode;
+
+    @Column(name = "area", nullable = false, length = 10)
+    private String area;
+
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+
+    public DiaryKeyword(Long diaryId, KeywordDictionary keyword, String schoolCode, String classCode,
+                        String area, LocalDate diaryDate) {
+        this.diaryId = diaryId;
+        this.keyword = keyword;
+        this.schoolCode = schoolCode;
+        this.classCode = classCode;
+        this.area = area;
+        this.diaryDate = diaryDate;
+    }
+}
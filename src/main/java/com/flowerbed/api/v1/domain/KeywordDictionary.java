@@ -0,0 +1,30 @@
+package com.flowerbed.api.v1.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키워드 사전
+ * - 일기 분석 키워드 문자열을 정수 ID로 변환 (diary_keyword는 ID만 저장)
+ * - 키워드는 대소문자/공백 구분하여 그대로 저장 (utf8mb4_bin)
+ */
+@Entity
+@Table(name = "keyword_dictionary", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_keyword_dictionary_keyword", columnNames = {"keyword"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeywordDictionary {
+
+    public static final int MAX_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "keyword_id")
+    private Long keywordId;
+
+    @Column(name = "keyword", nullable = false, length = MAX_LENGTH)
+    private String keyword;
+}
@@ -0,0 +1,105 @@
+package com.flowerbed.api.v1.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 주별 일기 집계
+ * - 일기 작성/분석/수정/삭제 시 같은 트랜잭션에서 증감 (UserWeekRollupService)
+ * - 감정 통계는 분석된 일기(isAnalyzed=true)만 집계
+ * - 수치 집계는 원자적 upsert로 증감 (UserWeekRollupRepository.upsertCounts, 행이 없으면 생성)
+ * - 감정 코드별 집계(JSON)는 upsert 후 이미 존재하는 행을 비관적 락으로 조회하여 갱신
+ *   (@DynamicUpdate: 변경된 컬럼만 UPDATE하여 upsert로 바뀐 수치 집계를 덮어쓰지 않음)
+ */
+@Entity
+@Table(name = "user_week_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_week_rollup", columnNames = {"user_sn", "week_start_date"})
+})
+@DynamicUpdate
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserWeekRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "user_sn", nullable = false)
+    private Long userSn;
+
+    @Column(name = "week_start_date", nullable = false)
+    private LocalDate weekStartDate;
+
+    @Column(name = "diary_count", nullable = false)
+    private Integer diaryCount = 0;
+
+    @Column(name = "analyzed_count", nullable = false)
+    private Integer analyzedCount = 0;
+
+    @Column(name = "red_count", nullable = false)
+    private Integer redCount = 0;
+
+    @Column(name = "yellow_count", nullable = false)
+    private Integer yellowCount = 0;
+
+    @Column(name = "blue_count", nullable = false)
+    private Integer blueCount = 0;
+
+    @Column(name = "green_count", nullable = false)
+    private Integer greenCount = 0;
+
+    // 감정 코드별 분석된 일기 수
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "emotion_counts", columnDefinition = "LONGTEXT")
+    private Map<String, Integer> emotionCounts;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 감정 코드별 분석된 일기 수 증감 (분석 완료 +1, 재분석/분석 초기화/삭제 시 이전 결과 -1)
+     */
+    public void changeEmotionCount(String emotionCode, int delta) {
+        // JSON 컬럼 변경 감지를 위해 새 Map으로 교체
+        Map<String, Integer> counts = this.emotionCounts != null ? new HashMap<>(this.emotionCounts) : new HashMap<>();
+        int count = counts.getOrDefault(emotionCode, 0) + delta;
+        if (count > 0) {
+            counts.put(emotionCode, count);
+        } else {
+            counts.remove(emotionCode);
+        }
+        this.emotionCounts = counts;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 감정 영역별 분석된 일기 수 (0건 영역 제외)
+     */
+    public Map<String, Integer> getAreaCounts() {
+        Map<String, Integer> areaCounts = new LinkedHashMap<>();
+        if (redCount > 0) areaCounts.put("RED", redCount);
+        if (yellowCount > 0) areaCounts.put("YELLOW", yellowCount);
+        if (blueCount > 0) areaCounts.put("BLUE", blueCount);
+        if (greenCount > 0) areaCounts.put("GREEN", greenCount);
+        return areaCounts;
+    }
+
+    /**
+     * 감정 코드별 분석된 일기 수 (없으면 빈 Map)
+     */
+    public Map<String, Integer> getEmotionCounts() {
+        return emotionCounts != null ? emotionCounts : Map.of();
+    }
+}
@@ -0,0 +1,130 @@
+package com.flowerbed.api.v1.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 리포트 일괄 생성 작업
+ * - 학생 묶음 처리가 끝날 때마다 커서(마지막 user_sn)와 건수를 체크포인트
+ * - 인스턴스 재시작 시 RUNNING 작업을 커서 이후부터 재개
+ */
+@Entity
+@Table(name = "weekly_report_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeeklyReportJob {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "cursor_user_sn", nullable = false)
+    private Long cursorUserSn = 0L;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount = 0;
+
+    @Column(name = "processed_count", nullable = false)
+    private Integer processedCount = 0;
+
+    @Column(name = "analyzed_count", nullable = false)
+    private Integer analyzedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    @Column(name = "timed_out_count", nullable = false)
+    private Integer timedOutCount = 0;
+
+    @Column(name = "resume_count", nullable = false)
+    private Integer resumeCount = 0;
+
+    @Column(name = "attempt_started_at", nullable = false)
+    private LocalDateTime attemptStartedAt;
+
+    @Column(name = "attempt_base_count", nullable = false)
+    private Integer attemptBaseCount = 0;
+
+    @Column(name = "checkpoint_at")
+    private LocalDateTime checkpointAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public WeeklyReportJob(LocalDate startDate, LocalDate endDate, int totalCount) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalCount = totalCount;
+        this.status = STATUS_RUNNING;
+        this.createdAt = LocalDateTime.now();
+        this.attemptStartedAt = this.createdAt;
+    }
+
+    /**
+     * 중단된 작업 재개 (커서와 건수는 유지)
+     */
+    public void resume(int totalCount) {
+        this.totalCount = totalCount;
+        this.resumeCount++;
+        this.attemptStartedAt = LocalDateTime.now();
+        this.attemptBaseCount = this.processedCount;
+    }
+
+    /**
+     * 체크포인트 (커서 이동 + 커서까지 처리된 묶음의 건수 누적)
+     */
+    public void checkpoint(Long cursorUserSn, int analyzed, int skipped, int failed, int timedOut) {
+        this.cursorUserSn = cursorUserSn;
+        this.analyzedCount += analyzed;
+        this.skippedCount += skipped;
+        this.failedCount += failed;
+        this.timedOutCount += timedOut;
+        this.processedCount += analyzed + skipped + failed + timedOut;
+        this.checkpointAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = STATUS_COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = STATUS_FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return STATUS_RUNNING.equals(status);
+    }
+}
@@ -0,0 +1,67 @@
+package com.flowerbed.api.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선생님 학급 대시보드 캐시 통계 DTO
+ * - 카운터는 인스턴스 기동 이후 누적 값 (인스턴스별)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassDashboardCacheStatsResponse {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private Boolean enabled;
+
+    /**
+     * 캐시 적중 횟수
+     */
+    private Long hits;
+
+    /**
+     * 캐시 미스 횟수
+     */
+    private Long misses;
+
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    private Double hitRate;
+
+    /**
+     * 캐시 저장 횟수
+     */
+    private Long puts;
+
+    /**
+     * 조회 중 무효화되어 저장하지 않은 횟수 (오래된 응답 저장 방지)
+     */
+    private Long rejectedPuts;
+
+    /**
+     * 무효화 횟수 (일기 변경, 위험도 변경)
+     */
+    private Long invalidations;
+
+    /**
+     * 적중한 응답의 평균 경과 시간 (저장 시점부터, ms)
+     */
+    private Long avgHitAgeMillis;
+
+    /**
+     * 적중한 응답의 최대 경과 시간 (저장 시점부터, ms)
+     */
+    private Long maxHitAgeMillis;
+
+    /**
+     * 캐시 보관 시간 (분)
+     */
+    private Long ttlMinutes;
+}
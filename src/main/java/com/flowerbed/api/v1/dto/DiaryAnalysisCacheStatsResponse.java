@@ -0,0 +1,57 @@
+package com.flowerbed.api.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일기 감정 분석 결과 캐시 통계 DTO
+ * - 카운터는 인스턴스 기동 이후 누적 값 (인스턴스별)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryAnalysisCacheStatsResponse {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private Boolean enabled;
+
+    /**
+     * 캐시 적중 횟수
+     */
+    private Long hits;
+
+    /**
+     * 캐시 미스 횟수
+     */
+    private Long misses;
+
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    private Double hitRate;
+
+    /**
+     * 캐시 저장 횟수
+     */
+    private Long puts;
+
+    /**
+     * 최대 항목 수 초과로 제거된 항목 수
+     */
+    private Long evictions;
+
+    /**
+     * 현재 저장된 항목 수 (전체 인스턴스 공유)
+     */
+    private Long entries;
+
+    /**
+     * 최대 항목 수
+     */
+    private Long maxEntries;
+}
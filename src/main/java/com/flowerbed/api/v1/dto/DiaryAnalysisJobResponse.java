@@ -0,0 +1,31 @@
+package com.flowerbed.api.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 감정 분석 비동기 작업 응답 DTO
+ * - 분석 요청 접수(202 Accepted), 폴링 조회, SSE 이벤트에서 공통 사용
+ * - status: PENDING(대기) → RUNNING(분석 중) → COMPLETED(완료) / FAILED(실패)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DiaryAnalysisJobResponse {
+
+    private String jobId;
+    private Long diaryId;
+    private String status;
+    private DiaryResponse result;        // 분석 완료 시 일기 정보 (COMPLETED)
+    private String errorCode;            // 실패 시 에러 코드 (FAILED)
+    private String errorMessage;         // 실패 시 에러 메시지 (FAILED)
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+}
@@ -1,7 +1,10 @@
 package com.flowerbed.api.v1.dto;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
@@ -9,9 +12,12 @@ import java.time.LocalDate;
  * 발행 가능한 주간 리포트 목록 응답 DTO
  * - 아직 주간 리포트가 생성되지 않은 주
  * - 분석된 일기가 3개 이상인 주
+ * - Redis 캐시(generableWeeks) 역직렬화를 위해 기본 생성자 포함
  */
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GenerableWeekResponse {
 
     private LocalDate startDate;  // 주 시작일 (월요일)
@@ -0,0 +1,38 @@
+package com.flowerbed.api.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * LLM 호출 동시성 제한 현황 (관리자 운영 지표)
+ * - 인스턴스 기준 현재 값 (rejected, overloads는 기동 이후 누적)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmLimiterStatsResponse {
+
+    private Boolean enabled;               // 동시성 제한 사용 여부
+    private Boolean clusterEnabled;        // Redis 토큰 버킷 사용 여부
+    private List<ProviderLimit> providers;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProviderLimit {
+        private String provider;           // claude / openai
+        private Integer limit;             // 현재 동시 호출 한도
+        private Integer inFlight;          // 실행 중인 호출 수
+        private Integer queued;            // 대기 중인 호출 수
+        private Long completed;            // 완료된 호출 수
+        private Long rejected;             // 대기 시간 초과/대기열 초과로 거절된 호출 수
+        private Long overloads;            // 429/529 응답 수
+        private Long lastLatencyMs;        // 마지막 호출 응답 시간
+    }
+}
@@ -0,0 +1,38 @@
+package com.flowerbed.api.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * LLM 제공자 라우팅 현황 (관리자 운영 지표)
+ * - 인스턴스 기준 현재 값 (호출/실패/헤지 건수는 기동 이후 누적)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmRouterStatsResponse {
+
+    private Boolean hedgingEnabled;         // 헤지 요청 사용 여부
+    private List<ProviderRoute> providers;  // 현재 라우팅 우선순위 순서
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProviderRoute {
+        private String provider;            // claude / openai
+        private String circuitState;        // CLOSED / OPEN / HALF_OPEN
+        private Integer consecutiveFailures;
+        private Long ewmaLatencyMs;         // 평균 응답 시간 (EWMA)
+        private Long p95LatencyMs;          // 최근 응답 시간 p95 (헤지 대기 시간)
+        private Long calls;                 // 호출 수
+        private Long failures;              // 실패 수
+        private Long hedges;                // 이 제공자로 보낸 헤지 요청 수
+        private Long hedgeWins;             // 헤지 요청이 먼저 응답한 수
+    }
+}
@@ -0,0 +1,66 @@
+package com.flowerbed.api.v1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * LLM 토큰 사용량 통계 DTO
+ * - 인스턴스 기동 이후 누적 값 (인스턴스별)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmUsageStatsResponse {
+
+    /**
+     * 제공자별 사용량
+     */
+    private List<ProviderUsage> providers;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProviderUsage {
+
+        /**
+         * 제공자 (claude, openai)
+         */
+        private String provider;
+
+        /**
+         * 호출 수
+         */
+        private Long requests;
+
+        /**
+         * 전체 입력 토큰 (캐시 적중 포함)
+         */
+        private Long inputTokens;
+
+        /**
+         * 프롬프트 캐시에서 읽은 입력 토큰
+         */
+        private Long cachedInputTokens;
+
+        /**
+         * 프롬프트 캐시에 새로 기록한 입력 토큰 (Anthropic)
+         */
+        private Long cacheWriteTokens;
+
+        /**
+         * 출력 토큰
+         */
+        private Long outputTokens;
+
+        /**
+         * 입력 토큰 중 캐시 적중 비율 (0.0 ~ 1.0)
+         */
+        private Double cachedInputRatio;
+    }
+}
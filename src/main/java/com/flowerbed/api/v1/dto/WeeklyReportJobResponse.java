@@ -0,0 +1,93 @@
+package com.flowerbed.api.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.flowerbed.api.v1.domain.WeeklyReportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 리포트 일괄 생성 작업 응답 DTO (관리자용)
+ * - 건수는 마지막 체크포인트(학생 묶음 단위) 기준
+ * - throughputPerMinute: 현재 실행(최초/재개) 시작 이후 분당 처리 학생 수
+ * - etaSeconds / estimatedFinishAt: 남은 학생 수 ÷ 처리 속도 (RUNNING이고 처리 속도가 있을 때만)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WeeklyReportJobResponse {
+
+    private Long jobId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+    private Long cursorUserSn;
+    private Integer totalCount;
+    private Integer processedCount;
+    private Integer analyzedCount;
+    private Integer skippedCount;
+    private Integer failedCount;
+    private Integer timedOutCount;
+    private Integer resumeCount;
+    private Double progressRate;          // 진행률 (%)
+    private Double throughputPerMinute;   // 분당 처리 학생 수
+    private Long etaSeconds;              // 남은 예상 시간 (초)
+    private LocalDateTime estimatedFinishAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime checkpointAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    public static WeeklyReportJobResponse from(WeeklyReportJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        int total = job.getTotalCount();
+        int processed = job.getProcessedCount();
+
+        double progressRate = total > 0 ? Math.min(100.0, Math.round(processed * 1000.0 / total) / 10.0) : 0.0;
+
+        // 현재 실행 구간의 처리 속도 (재개 전 처리분과 중단 시간 제외)
+        LocalDateTime attemptEnd = job.isRunning() || job.getFinishedAt() == null ? now : job.getFinishedAt();
+        double elapsedMinutes = Duration.between(job.getAttemptStartedAt(), attemptEnd).toMillis() / 60000.0;
+        int attemptProcessed = processed - job.getAttemptBaseCount();
+        Double throughput = elapsedMinutes > 0 && attemptProcessed > 0
+                ? Math.round(attemptProcessed / elapsedMinutes * 10) / 10.0
+                : null;
+
+        Long etaSeconds = null;
+        LocalDateTime estimatedFinishAt = null;
+        if (job.isRunning() && throughput != null) {
+            etaSeconds = Math.round(Math.max(0, total - processed) / throughput * 60);
+            estimatedFinishAt = now.plusSeconds(etaSeconds);
+        }
+
+        return WeeklyReportJobResponse.builder()
+                .jobId(job.getJobId())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .status(job.getStatus())
+                .cursorUserSn(job.getCursorUserSn())
+                .totalCount(total)
+                .processedCount(processed)
+                .analyzedCount(job.getAnalyzedCount())
+                .skippedCount(job.getSkippedCount())
+                .failedCount(job.getFailedCount())
+                .timedOutCount(job.getTimedOutCount())
+                .resumeCount(job.getResumeCount())
+                .progressRate(progressRate)
+                .throughputPerMinute(throughput)
+                .etaSeconds(etaSeconds)
+                .estimatedFinishAt(estimatedFinishAt)
+                .createdAt(job.getCreatedAt())
+                .checkpointAt(job.getCheckpointAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.flowerbed.api.v1.event;
+
+import com.flowerbed.api.v1.domain.Diary;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 변경 이벤트 (작성 / 분석 / 내용 수정 / 삭제)
+ * - DiaryService에서 변경 직후 같은 트랜잭션 안에서 발행
+ * - 변경 전/후 분석 상태를 함께 전달 → 주별 집계(user_week_rollup) 증감에 사용 (UserWeekRollupService)
+ * - 작성자의 학교/반/사용자 유형을 함께 전달 → 학급 일별 감정 집계(class_daily_emotion) 증감에 사용 (ClassDailyEmotionService)
+ * - 변경 후 키워드를 함께 전달 → 키워드 색인(diary_keyword) 갱신에 사용 (DiaryKeywordService)
+ * - 리스너는 동기 실행 (일기 변경이 롤백되면 집계도 함께 롤백)
+ * - 발행 가능한 주 캐시는 커밋 후 삭제 (WeeklyReportService)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DiaryChangedEvent {
+
+    private final Long diaryId;
+    private final Long userSn;
+    private final String schoolCode;               // 작성자 학교 코드 (변경 시점 기준)
+    private final String classCode;                // 작성자 반 코드 (변경 시점 기준)
+    private final String userTypeCd;               // 작성자 사용자 유형 (STUDENT / TEACHER, 학급 집계는 학생만)
+    private final LocalDate diaryDate;
+    private final int diaryDelta;                  // 일기 수 증감 (작성 +1, 삭제 -1, 그 외 0)
+    private final boolean previouslyAnalyzed;      // 변경 전 분석 여부
+    private final String previousEmotionCode;      // 변경 전 핵심 감정 (분석된 경우)
+    private final boolean analyzed;                // 변경 후 분석 여부
+    private final String emotionCode;              // 변경 후 핵심 감정 (분석된 경우)
+    private final String keywords;                 // 변경 후 키워드 (분석된 경우, 쉼표 구분)
+
+    /**
+     * 학생이 작성한 일기 여부 (학급 집계/키워드 색인 대상)
+     */
+    public boolean isStudentAuthor() {
+        return "STUDENT".equals(userTypeCd);
+    }
+
+    /**
+     * 일기 작성 (분석 전)
+     */
+    public static DiaryChangedEvent created(Diary diary) {
+        return new DiaryChangedEvent(diary.getDiaryId(), diary.getUser().getUserSn(),
+                diary.getUser().getSchoolCode(), diary.getUser().getClassCode(), diary.getUser().getUserTypeCd(),
+                diary.getDiaryDate(), 1,
+                false, null, false, null, null);
+    }
+
+    /**
+     * 분석 결과 저장 / 내용 수정 (변경 후 상태는 diary에서 읽음)
+     *
+     * @param previouslyAnalyzed 변경 전 분석 여부
+     * @param previousEmotionCode 변경 전 핵심 감정
+     */
+    public static DiaryChangedEvent updated(Diary diary, boolean previouslyAnalyzed, String previousEmotionCode) {
+        boolean analyzed = Boolean.TRUE.equals(diary.getIsAnalyzed());
+        return new DiaryChangedEvent(diary.getDiaryId(), diary.getUser().getUserSn(),
+                diary.getUser().getSchoolCode(), diary.getUser().getClassCode(), diary.getUser().getUserTypeCd(),
+                diary.getDiaryDate(), 0,
+                previouslyAnalyzed, previouslyAnalyzed ? previousEmotionCode : null,
+                analyzed, analyzed ? diary.getCoreEmotionCode() : null, analyzed ? diary.getKeywords() : null);
+    }
+
+    /**
+     * 일기 삭제 (삭제 전 상태 기준)
+     */
+    public static DiaryChangedEvent deleted(Diary diary) {
+        boolean analyzed = Boolean.TRUE.equals(diary.getIsAnalyzed());
+        return new DiaryChangedEvent(diary.getDiaryId(), diary.getUser().getUserSn(),
+                diary.getUser().getSchoolCode(), diary.getUser().getClassCode(), diary.getUser().getUserTypeCd(),
+                diary.getDiaryDate(), -1,
+                analyzed, analyzed ? diary.getCoreEmotionCode() : null, false, null, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.flowerbed.api.v1.event;
+
+/**
+ * 감정/꽃 마스터 데이터 캐시 전체 삭제 이벤트
+ * - EmotionCacheService.evictAllEmotionCache 호출 시 발행 (캐시 삭제 후)
+ * - 감정 정보가 주입된 프롬프트 템플릿을 다시 컴파일하는 데 사용 (DiaryEmotionService, WeeklyReportService)
+ * - 이벤트를 받은 인스턴스에서만 다시 로드 (다른 인스턴스는 재기동 또는 각자 캐시 삭제 필요)
+ */
+public class EmotionCacheEvictedEvent {
+}
@@ -0,0 +1,26 @@
+package com.flowerbed.api.v1.event;
+
+import com.flowerbed.api.v1.domain.User;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 학생 위험도 변경 이벤트 (위험도 분석 결과 반영 / 선생님 DANGER 해제)
+ * - 위험도 정보를 변경한 트랜잭션 안에서 발행
+ * - 커밋 후 해당 학급의 학생 목록 캐시 삭제에 사용 (ClassDashboardCacheService)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudentRiskChangedEvent {
+
+    private final Long userSn;
+    private final String schoolCode;
+    private final String classCode;
+    private final String riskLevel;    // 변경 후 위험도
+
+    public static StudentRiskChangedEvent of(User student) {
+        return new StudentRiskChangedEvent(student.getUserSn(), student.getSchoolCode(),
+                student.getClassCode(), student.getRiskLevel());
+    }
+}
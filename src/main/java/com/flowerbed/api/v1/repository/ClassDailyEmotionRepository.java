@@ -0,0 +1,80 @@
+package com.flowerbed.api.v1.repository;
+
+import com.flowerbed.api.v1.domain.ClassDailyEmotion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ClassDailyEmotionRepository extends JpaRepository<ClassDailyEmotion, Long> {
+
+    // 학급의 기간별 일별 집계 조회 (날짜 오름차순, 월별 감정 분포용)
+    List<ClassDailyEmotion> findBySchoolCodeAndClassCodeAndEmotionDateBetweenOrderByEmotionDateAsc(
+            String schoolCode, String classCode, LocalDate startDate, LocalDate endDate);
+
+    // 학급의 특정 날짜 집계 증감 (행이 없으면 생성, 원자적 upsert)
+    // - 잠금 조회 후 INSERT하면 행이 없을 때 갭 락끼리 교착되므로 한 문장으로 처리
+    @Modifying
+    @Query(value = "INSERT INTO class_daily_emotion (school_code, class_code, emotion_date, " +
+            "red_count, yellow_count, blue_count, green_count, unanalyzed_count) " +
+            "VALUES (:schoolCode, :classCode, :emotionDate, " +
+            "GREATEST(0, :red), GREATEST(0, :yellow), GREATEST(0, :blue), GREATEST(0, :green), GREATEST(0, :unanalyzed)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "red_count = GREATEST(0, red_count + :red), " +
+            "yellow_count = GREATEST(0, yellow_count + :yellow), " +
+            "blue_count = GREATEST(0, blue_count + :blue), " +
+            "green_count = GREATEST(0, green_count + :green), " +
+            "unanalyzed_count = GREATEST(0, unanalyzed_count + :unanalyzed), " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    void upsertCounts(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("emotionDate") LocalDate emotionDate,
+            @Param("red") int red,
+            @Param("yellow") int yellow,
+            @Param("blue") int blue,
+            @Param("green") int green,
+            @Param("unanalyzed") int unanalyzed
+    );
+
+    // 학급의 기간 집계 삭제 (현재 학생 명단 기준 재계산 전)
+    @Modifying
+    @Query(value = "DELETE FROM class_daily_emotion WHERE school_code = :schoolCode AND class_code = :classCode " +
+            "AND emotion_date BETWEEN :startDate AND :endDate", nativeQuery = true)
+    void deleteRange(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 학급의 기간 집계를 현재 학생 명단(삭제되지 않은 STUDENT)의 일기로 다시 적재
+    // - 분석됐지만 핵심 감정/감정 영역을 알 수 없는 일기는 미분석으로 집계 (ClassDailyEmotionService와 동일)
+    @Modifying
+    @Query(value = "INSERT INTO class_daily_emotion (school_code, class_code, emotion_date, " +
+            "red_count, yellow_count, blue_count, green_count, unanalyzed_count) " +
+            "SELECT u.school_code, u.class_code, d.diary_date, " +
+            "SUM(d.is_analyzed = 1 AND e.area = 'RED'), " +
+            "SUM(d.is_analyzed = 1 AND e.area = 'YELLOW'), " +
+            "SUM(d.is_analyzed = 1 AND e.area = 'BLUE'), " +
+            "SUM(d.is_analyzed = 1 AND e.area = 'GREEN'), " +
+            "SUM(d.is_analyzed = 0 OR e.area IS NULL OR e.area NOT IN ('RED', 'YELLOW', 'BLUE', 'GREEN')) " +
+            "FROM diaries d " +
+            "JOIN users u ON u.user_sn = d.user_sn " +
+            "LEFT JOIN emotions e ON e.emotion_code = d.core_emotion_code " +
+            "WHERE u.school_code = :schoolCode AND u.class_code = :classCode " +
+            "AND u.user_type_cd = 'STUDENT' AND u.deleted_at IS NULL " +
+            "AND d.deleted_at IS NULL AND d.diary_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY u.school_code, u.class_code, d.diary_date", nativeQuery = true)
+    void insertFromRoster(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,79 @@
+package com.flowerbed.api.v1.repository;
+
+import com.flowerbed.api.v1.domain.DiaryKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DiaryKeywordRepository extends JpaRepository<DiaryKeyword, Long> {
+
+    // 일기의 키워드 색인 삭제 (재분석, 내용 수정, 삭제 시)
+    @Modifying
+    @Query("DELETE FROM DiaryKeyword dk WHERE dk.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+
+    // 학급의 기간 색인을 작성자의 현재 학교/반으로 이동 (학급 명단 변경 시)
+    // - 이 학급으로 색인됐거나 현재 이 학급 학생이 작성한 일기 대상, 작성자가 현재 학생일 때만 이동
+    @Modifying
+    @Query(value = "UPDATE diary_keyword dk " +
+            "JOIN diaries d ON d.diary_id = dk.diary_id " +
+            "JOIN users u ON u.user_sn = d.user_sn " +
+            "SET dk.school_code = u.school_code, dk.class_code = u.class_code " +
+            "WHERE dk.diary_date BETWEEN :startDate AND :endDate " +
+            "AND ((dk.school_code = :schoolCode AND dk.class_code = :classCode) " +
+            "OR (u.school_code = :schoolCode AND u.class_code = :classCode)) " +
+            "AND u.user_type_cd = 'STUDENT' AND u.deleted_at IS NULL " +
+            "AND u.school_code IS NOT NULL AND u.class_code IS NOT NULL", nativeQuery = true)
+    int rehomeRange(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 학급의 기간 색인 중 작성자가 더 이상 학생이 아닌(삭제, 학교/반 없음, 학생 외 유형) 일기 색인 삭제
+    @Modifying
+    @Query(value = "DELETE dk FROM diary_keyword dk " +
+            "JOIN diaries d ON d.diary_id = dk.diary_id " +
+            "JOIN users u ON u.user_sn = d.user_sn " +
+            "WHERE dk.school_code = :schoolCode AND dk.class_code = :classCode " +
+            "AND dk.diary_date BETWEEN :startDate AND :endDate " +
+            "AND (u.deleted_at IS NOT NULL OR u.user_type_cd <> 'STUDENT' " +
+            "OR u.school_code IS NULL OR u.class_code IS NULL)", nativeQuery = true)
+    int deleteNonRosterRange(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 학급의 기간별 영역/키워드별 일기 수 (영역별 일기 수 내림차순, 같으면 키워드순)
+    // - idx_diary_keyword_class (school_code, class_code, diary_date, area, keyword_id) 범위 조회 후 GROUP BY
+    @Query("SELECT dk.area AS area, k.keyword AS keyword, COUNT(dk) AS diaryCount " +
+            "FROM DiaryKeyword dk JOIN dk.keyword k " +
+            "WHERE dk.schoolCode = :schoolCode AND dk.classCode = :classCode " +
+            "AND dk.diaryDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY dk.area, k.keywordId, k.keyword " +
+            "ORDER BY dk.area, COUNT(dk) DESC, k.keyword")
+    List<AreaKeywordCount> countAreaKeywords(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 영역/키워드별 일기 수 (countAreaKeywords 결과)
+     */
+    interface AreaKeywordCount {
+        String getArea();
+        String getKeyword();
+        Long getDiaryCount();
+    }
+}
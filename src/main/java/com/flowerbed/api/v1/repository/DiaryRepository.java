@@ -72,6 +72,18 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             org.springframework.data.domain.Pageable pageable
     );
 
+    // 여러 학생들의 특정 날짜 이전 가장 최근 분석된 일기 감정 (학생당 1건, 선생님 학생 목록용)
+    // - 학생별 최근 분석일은 uk_user_date (user_sn, diary_date) 인덱스로 조회, 일기 본문은 읽지 않음
+    @Query("SELECT d.user.userSn AS userSn, d.coreEmotionCode AS coreEmotionCode FROM Diary d " +
+            "WHERE d.user.userSn IN :userSnList " +
+            "AND d.isAnalyzed = true " +
+            "AND d.diaryDate = (SELECT MAX(d2.diaryDate) FROM Diary d2 " +
+            "WHERE d2.user.userSn = d.user.userSn AND d2.isAnalyzed = true AND d2.diaryDate <= :baseDate)")
+    List<LatestAnalyzedEmotion> findLatestAnalyzedEmotions(
+            @Param("userSnList") List<Long> userSnList,
+            @Param("baseDate") LocalDate baseDate
+    );
+
     // 특정 날짜의 여러 학생들 일기 조회 (선생님 감정 현황 조회용)
     @Query("SELECT d FROM Diary d WHERE d.user.userSn IN :userSnList " +
             "AND d.diaryDate = :date")
@@ -80,12 +92,22 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             @Param("date") LocalDate date
     );
 
-    // 특정 기간의 여러 학생들 일기 조회 (선생님 월별 감정 분포 조회용)
+    // 특정 기간의 여러 학생들 분석된 일기 조회 (주간 리포트 일괄 생성용, 사용자/날짜순)
     @Query("SELECT d FROM Diary d WHERE d.user.userSn IN :userSnList " +
-            "AND d.diaryDate BETWEEN :startDate AND :endDate")
-    List<Diary> findByUserSnListAndDateBetween(
+            "AND d.diaryDate BETWEEN :startDate AND :endDate " +
+            "AND d.isAnalyzed = true " +
+            "ORDER BY d.user.userSn ASC, d.diaryDate ASC")
+    List<Diary> findAnalyzedByUserSnListAndDateBetween(
             @Param("userSnList") List<Long> userSnList,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    /**
+     * 학생별 최근 분석된 일기 감정 (findLatestAnalyzedEmotions 결과)
+     */
+    interface LatestAnalyzedEmotion {
+        Long getUserSn();
+        String getCoreEmotionCode();
+    }
 }
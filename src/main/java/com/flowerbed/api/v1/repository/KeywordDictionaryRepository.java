@@ -0,0 +1,31 @@
+package com.flowerbed.api.v1.repository;
+
+import com.flowerbed.api.v1.domain.KeywordDictionary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KeywordDictionaryRepository extends JpaRepository<KeywordDictionary, Long> {
+
+    // 키워드 목록으로 사전 조회
+    List<KeywordDictionary> findByKeywordIn(Collection<String> keywords);
+
+    // 키워드 목록으로 사전 조회 (공유 잠금 읽기, 등록 직후 조회용)
+    // - 일반 조회는 트랜잭션 스냅샷을 읽으므로 스냅샷 이후 다른 트랜잭션이 커밋한 키워드가 보이지 않음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT k FROM KeywordDictionary k WHERE k.keyword IN :keywords")
+    List<KeywordDictionary> findForShareByKeywordIn(@Param("keywords") Collection<String> keywords);
+
+    // 사전 등록 (이미 있으면 무시, 같은 키워드를 동시에 처음 등록하는 경우 대비)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO keyword_dictionary (keyword) VALUES (:keyword)", nativeQuery = true)
+    void insertIfAbsent(@Param("keyword") String keyword);
+}
@@ -1,6 +1,7 @@
 package com.flowerbed.api.v1.repository;
 
 import com.flowerbed.api.v1.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -37,6 +38,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
             String userTypeCd
     );
 
+    /**
+     * 같은 학교, 같은 반의 특정 타입 사용자 일련번호 (오름차순, 학급 명단 변경 확인용)
+     */
+    @Query("SELECT u.userSn FROM User u WHERE u.schoolCode = :schoolCode AND u.classCode = :classCode " +
+            "AND u.userTypeCd = :userTypeCd ORDER BY u.userSn")
+    List<Long> findUserSnsBySchoolCodeAndClassCodeAndUserTypeCd(
+            @Param("schoolCode") String schoolCode,
+            @Param("classCode") String classCode,
+            @Param("userTypeCd") String userTypeCd
+    );
+
+    /**
+     * 같은 학교, 같은 반의 특정 타입 사용자 수
+     */
+    long countBySchoolCodeAndClassCodeAndUserTypeCd(String schoolCode, String classCode, String userTypeCd);
+
     /**
      * 위험 학생 목록 조회 (CAUTION/DANGER)
      * - 같은 학교, 같은 반의 STUDENT 타입 중 위험 상태인 학생 조회
@@ -88,4 +105,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("userTypeCd") String userTypeCd,
             @Param("riskLevel") String riskLevel
     );
+
+    /**
+     * 사용자 타입별 user_sn 목록 조회 (키셋 페이지네이션)
+     * - 일괄 작업(주간 리포트 등)에서 대상 학생을 페이지 단위로 순회할 때 사용
+     * - 엔티티 대신 user_sn만 조회, afterUserSn 이후부터 user_sn 오름차순
+     * - 인덱스: idx_users_type_cd_user_sn (sql/add_users_type_cd_index.sql)
+     *
+     * @param userTypeCd 사용자 타입 코드 (STUDENT)
+     * @param afterUserSn 직전 페이지의 마지막 user_sn (첫 페이지는 0)
+     * @param pageable 페이지 크기 (PageRequest.of(0, size))
+     * @return user_sn 목록
+     */
+    @Query("SELECT u.userSn FROM User u " +
+            "WHERE u.userTypeCd = :userTypeCd " +
+            "AND u.userSn > :afterUserSn " +
+            "ORDER BY u.userSn ASC")
+    List<Long> findUserSnsAfter(
+            @Param("userTypeCd") String userTypeCd,
+            @Param("afterUserSn") Long afterUserSn,
+            Pageable pageable
+    );
+
+    /**
+     * 사용자 타입별 사용자 수
+     */
+    long countByUserTypeCd(String userTypeCd);
 }
@@ -0,0 +1,72 @@
+package com.flowerbed.api.v1.repository;
+
+import com.flowerbed.api.v1.domain.UserWeekRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserWeekRollupRepository extends JpaRepository<UserWeekRollup, Long> {
+
+    // 사용자의 특정 주 집계 조회
+    Optional<UserWeekRollup> findByUserSnAndWeekStartDate(Long userSn, LocalDate weekStartDate);
+
+    // 사용자의 여러 주 집계 일괄 조회 (리포트 목록의 현재 일기 수용)
+    List<UserWeekRollup> findByUserSnAndWeekStartDateIn(Long userSn, Collection<LocalDate> weekStartDates);
+
+    // 사용자의 특정 주 집계 조회 (감정 코드별 집계 갱신용, 행 잠금 / upsert 후 호출하여 행이 항상 존재)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM UserWeekRollup r WHERE r.userSn = :userSn AND r.weekStartDate = :weekStartDate")
+    Optional<UserWeekRollup> findForUpdate(
+            @Param("userSn") Long userSn,
+            @Param("weekStartDate") LocalDate weekStartDate
+    );
+
+    // 사용자의 특정 주 집계 증감 (행이 없으면 생성, 원자적 upsert)
+    // - 잠금 조회 후 INSERT하면 행이 없을 때 갭 락끼리 교착되므로 한 문장으로 처리
+    @Modifying
+    @Query(value = "INSERT INTO user_week_rollup (user_sn, week_start_date, diary_count, analyzed_count, " +
+            "red_count, yellow_count, blue_count, green_count) " +
+            "VALUES (:userSn, :weekStartDate, GREATEST(0, :diary), GREATEST(0, :analyzed), " +
+            "GREATEST(0, :red), GREATEST(0, :yellow), GREATEST(0, :blue), GREATEST(0, :green)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "diary_count = GREATEST(0, diary_count + :diary), " +
+            "analyzed_count = GREATEST(0, analyzed_count + :analyzed), " +
+            "red_count = GREATEST(0, red_count + :red), " +
+            "yellow_count = GREATEST(0, yellow_count + :yellow), " +
+            "blue_count = GREATEST(0, blue_count + :blue), " +
+            "green_count = GREATEST(0, green_count + :green), " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    void upsertCounts(
+            @Param("userSn") Long userSn,
+            @Param("weekStartDate") LocalDate weekStartDate,
+            @Param("diary") int diary,
+            @Param("analyzed") int analyzed,
+            @Param("red") int red,
+            @Param("yellow") int yellow,
+            @Param("blue") int blue,
+            @Param("green") int green
+    );
+
+    // 발행 가능한 주 집계 (최신순)
+    // - 특정 주 이전, 분석된 일기가 N개 이상, 삭제되지 않은 리포트가 없는 주
+    @Query("SELECT r FROM UserWeekRollup r WHERE r.userSn = :userSn " +
+            "AND r.weekStartDate < :beforeWeekStart AND r.analyzedCount >= :minAnalyzedCount " +
+            "AND NOT EXISTS (SELECT w.reportId FROM WeeklyReport w WHERE w.user.userSn = r.userSn " +
+            "AND w.startDate = r.weekStartDate AND w.deletedAt IS NULL) " +
+            "ORDER BY r.weekStartDate DESC")
+    List<UserWeekRollup> findGenerableWeeks(
+            @Param("userSn") Long userSn,
+            @Param("beforeWeekStart") LocalDate beforeWeekStart,
+            @Param("minAnalyzedCount") int minAnalyzedCount
+    );
+}
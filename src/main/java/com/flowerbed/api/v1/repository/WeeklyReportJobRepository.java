@@ -0,0 +1,22 @@
+package com.flowerbed.api.v1.repository;
+
+import com.flowerbed.api.v1.domain.WeeklyReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WeeklyReportJobRepository extends JpaRepository<WeeklyReportJob, Long> {
+
+    // 특정 주의 진행 중 작업 조회 (재개용)
+    Optional<WeeklyReportJob> findFirstByStartDateAndStatusOrderByJobIdDesc(LocalDate startDate, String status);
+
+    // 상태별 작업 조회 (시작 시 중단된 작업 재개용)
+    List<WeeklyReportJob> findByStatusOrderByJobIdAsc(String status);
+
+    // 최근 작업 목록 (관리자 조회용)
+    List<WeeklyReportJob> findTop20ByOrderByJobIdDesc();
+}
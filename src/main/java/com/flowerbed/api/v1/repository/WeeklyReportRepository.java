@@ -1,6 +1,7 @@
 package com.flowerbed.api.v1.repository;
 
 import com.flowerbed.api.v1.domain.WeeklyReport;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,14 @@ public interface WeeklyReportRepository extends JpaRepository<WeeklyReport, Long
     // 특정 기간의 리포트 존재 여부 확인
     boolean existsByUserUserSnAndStartDateAndDeletedAtIsNull(Long userSn, LocalDate startDate);
 
+    // 여러 사용자의 특정 주 리포트 조회 (주간 리포트 일괄 생성용)
+    @Query("SELECT w FROM WeeklyReport w WHERE w.user.userSn IN :userSnList " +
+            "AND w.startDate = :startDate AND w.deletedAt IS NULL")
+    List<WeeklyReport> findByUserSnListAndStartDate(
+            @Param("userSnList") List<Long> userSnList,
+            @Param("startDate") LocalDate startDate
+    );
+
     // 특정 기간에 생성된 리포트 조회 (스케줄러용)
     @Query("SELECT w FROM WeeklyReport w WHERE w.startDate = :startDate AND w.endDate = :endDate")
     List<WeeklyReport> findByWeekPeriod(
@@ -49,8 +58,26 @@ public interface WeeklyReportRepository extends JpaRepository<WeeklyReport, Long
     // 최근 3개월 리포트 조회 (startDate 기준 내림차순)
     List<WeeklyReport> findByUserUserSnAndStartDateGreaterThanEqualAndIsAnalyzedTrueAndDeletedAtIsNullOrderByStartDateDesc(Long userSn, LocalDate threeMonthsAgo);
 
-    // 분석 실패한 리포트 조회 (isAnalyzed=false)
-    List<WeeklyReport> findByIsAnalyzedFalseAndDeletedAtIsNull();
+    // 분석 실패한 리포트 수 (isAnalyzed=false, 재시도 진행률 표시용)
+    long countByIsAnalyzedFalseAndDeletedAtIsNull();
+
+    // 분석 실패한 리포트 ID 조회 (재시도용, report_id 키셋 페이지네이션)
+    // 인덱스: idx_weekly_reports_analyzed_report_id (sql/add_weekly_reports_analyzed_index.sql)
+    @Query("SELECT w.reportId FROM WeeklyReport w WHERE w.isAnalyzed = false AND w.deletedAt IS NULL " +
+            "AND w.reportId > :afterReportId ORDER BY w.reportId ASC")
+    List<Long> findFailedReportIdsAfter(
+            @Param("afterReportId") Long afterReportId,
+            Pageable pageable
+    );
+
+    // 해당 주에 분석된 일기가 3개 이상인 리포트 ID (재시도 대상 선별, 일기를 불러오지 않고 개수만 집계)
+    @Query("SELECT w.reportId FROM WeeklyReport w, Diary d WHERE w.reportId IN :reportIds " +
+            "AND d.user = w.user " +
+            "AND d.diaryDate BETWEEN w.startDate AND w.endDate " +
+            "AND d.isAnalyzed = true " +
+            "GROUP BY w.reportId " +
+            "HAVING COUNT(d) >= 3")
+    List<Long> findReportIdsWithMinAnalyzedDiaries(@Param("reportIds") List<Long> reportIds);
 
     // 리포트 조회 (읽음 여부 구분 - 분석 여부 무관)
     List<WeeklyReport> findByUserUserSnAndReadYnAndDeletedAtIsNullOrderByStartDateDesc(Long userSn, Boolean readYn);
@@ -0,0 +1,87 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.domain.ClassDailyEmotion;
+import com.flowerbed.api.v1.domain.Emotion;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
+import com.flowerbed.api.v1.repository.ClassDailyEmotionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 학급 일별 감정 집계 (class_daily_emotion)
+ * - 일기 변경 이벤트를 받아 작성자 학급의 해당 날짜 집계를 증감 (일기 변경과 같은 트랜잭션)
+ * - 선생님 학급 월별 감정 분포에서 일기를 다시 분류하지 않고 집계를 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClassDailyEmotionService {
+
+    private static final Set<String> AREAS = Set.of("red", "yellow", "blue", "green");
+
+    private final ClassDailyEmotionRepository classDailyEmotionRepository;
+    private final EmotionCacheService emotionCacheService;
+
+    /**
+     * 일기 변경 반영
+     * - 변경 전 상태 -1, 변경 후 상태 +1 (작성은 이전 상태 없음, 삭제는 이후 상태 없음)
+     * - 한 문장 upsert로 증감 (행이 없으면 생성)
+     *   잠금 조회 후 INSERT하면 같은 반 학생들이 그날 처음 동시에 작성할 때 갭 락끼리 교착됨
+     * - 학교/반이 없는 사용자, 학생이 아닌 작성자(선생님 등)는 집계하지 않음 (학급 학생 수 기준과 맞춤)
+     */
+    @EventListener
+    @Transactional
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        if (event.getSchoolCode() == null || event.getClassCode() == null || !event.isStudentAuthor()) {
+            return;
+        }
+
+        String from = event.getDiaryDelta() > 0 ? null
+                : statusOf(event.isPreviouslyAnalyzed(), event.getPreviousEmotionCode());
+        String to = event.getDiaryDelta() < 0 ? null
+                : statusOf(event.isAnalyzed(), event.getEmotionCode());
+
+        if (Objects.equals(from, to)) {
+            return;
+        }
+
+        String schoolCode = event.getSchoolCode();
+        String classCode = event.getClassCode();
+        LocalDate date = event.getDiaryDate();
+
+        classDailyEmotionRepository.upsertCounts(schoolCode, classCode, date,
+                delta("red", from, to), delta("yellow", from, to), delta("blue", from, to),
+                delta("green", from, to), delta(ClassDailyEmotion.UNANALYZED, from, to));
+
+        log.debug("Class daily emotion updated: school={}, class={}, date={}, {} -> {}",
+                schoolCode, classCode, date, from, to);
+    }
+
+    private static int delta(String status, String from, String to) {
+        return (status.equals(to) ? 1 : 0) - (status.equals(from) ? 1 : 0);
+    }
+
+    /**
+     * 일기 상태 (감정 영역 소문자 / 미분석)
+     * - 분석됐지만 핵심 감정 또는 감정 영역을 알 수 없으면 미분석으로 집계
+     */
+    private String statusOf(boolean analyzed, String emotionCode) {
+        if (!analyzed || emotionCode == null) {
+            return ClassDailyEmotion.UNANALYZED;
+        }
+        Emotion emotion = emotionCacheService.getEmotion(emotionCode);
+        if (emotion == null || emotion.getArea() == null) {
+            return ClassDailyEmotion.UNANALYZED;
+        }
+        String area = emotion.getArea().toLowerCase();
+        return AREAS.contains(area) ? area : ClassDailyEmotion.UNANALYZED;
+    }
+}
@@ -0,0 +1,236 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.flowerbed.api.v1.dto.ClassDashboardCacheStatsResponse;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
+import com.flowerbed.api.v1.event.StudentRiskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 선생님 학급 대시보드 응답 캐시 (학급 단위)
+ * - 키: CDC:{schoolCode}:{classCode} (HASH), 필드: 화면별 응답 (daily:{날짜}, monthly:{년월}, students)
+ * - 일기 작성/분석/수정/삭제 커밋 후 해당 날짜/월/학생 목록 필드만 삭제, 위험도 변경 커밋 후 학생 목록 필드 삭제
+ * - 무효화 시 학급 무효화 버전(필드 '_v')을 올리고, 조회 시작 시점 버전이 그대로일 때만 저장
+ *   → 무효화 전에 DB를 읽은 요청이 오래된 응답을 다시 저장하지 않음
+ * - 학생 전입/전출 등 이벤트가 없는 변경은 TTL로 반영
+ *   (활발한 학급은 키 EXPIRE가 계속 갱신되므로 필드별 cachedAt이 TTL을 넘으면 미스로 처리,
+ *    저장 시 TTL이 지난 필드를 함께 삭제하여 지난 날짜/월 필드가 쌓이지 않게 함)
+ * - Redis 장애 시 캐시 없이 조회 (응답은 항상 DB 기준으로 생성 가능)
+ */
+@Slf4j
+@Service
+public class ClassDashboardCacheService {
+
+    public static final String STUDENTS = "students";
+
+    private static final String CACHE_KEY_PREFIX = "CDC:";
+    private static final String VERSION_FIELD = "_v";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DefaultRedisScript<Long> putScript;
+    private final DefaultRedisScript<Long> invalidateScript;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong rejectedPuts = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hitAgeTotalMillis = new AtomicLong();
+    private final AtomicLong hitAgeMaxMillis = new AtomicLong();
+
+    @Value("${class-dashboard.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${class-dashboard.cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public ClassDashboardCacheService(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.putScript = createScript("scripts/class-dashboard-put.lua");
+        this.invalidateScript = createScript("scripts/class-dashboard-invalidate.lua");
+    }
+
+    /**
+     * 날짜별 감정 현황 필드
+     */
+    public static String dailyField(LocalDate date) {
+        return "daily:" + date;
+    }
+
+    /**
+     * 월별 감정 분포 필드
+     *
+     * @param yearMonth 년월 (YYYY-MM)
+     */
+    public static String monthlyField(String yearMonth) {
+        return "monthly:" + yearMonth;
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 생성 후 저장)
+     * - 권한/학급 확인은 호출 전에 끝나 있어야 함 (같은 학급 선생님은 같은 응답 공유)
+     *
+     * @param field 화면 필드 (dailyField, monthlyField, STUDENTS)
+     * @param type 응답 타입
+     * @param loader 캐시 미스 시 DB 조회
+     */
+    public <T> T get(String schoolCode, String classCode, String field, TypeReference<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = cacheKey(schoolCode, classCode);
+        String version;
+        try {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(key, List.of(field, VERSION_FIELD));
+            String cached = (String) values.get(0);
+            version = values.get(1) != null ? (String) values.get(1) : "0";
+
+            if (cached != null) {
+                JsonNode entry = objectMapper.readTree(cached);
+                long ageMillis = System.currentTimeMillis() - entry.path("cachedAt").asLong();
+                // 학급 키의 EXPIRE는 저장/무효화마다 갱신되므로 필드별 만료는 cachedAt으로 판단
+                if (ageMillis <= TimeUnit.MINUTES.toMillis(ttlMinutes)) {
+                    T response = objectMapper.convertValue(entry.get("body"), type);
+                    recordHit(ageMillis);
+                    return response;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Class dashboard cache read failed: key={}, field={}, error={}", key, field, e.getMessage());
+            misses.incrementAndGet();
+            return loader.get();
+        }
+
+        misses.incrementAndGet();
+        T response = loader.get();
+        put(key, field, version, response);
+        return response;
+    }
+
+    /**
+     * 일기 변경 커밋 후 작성자 학급의 해당 날짜/월/학생 목록 캐시 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        invalidate(event.getSchoolCode(), event.getClassCode(),
+                dailyField(event.getDiaryDate()),
+                monthlyField(YearMonth.from(event.getDiaryDate()).toString()),
+                STUDENTS);
+    }
+
+    /**
+     * 위험도 변경 커밋 후 학생 학급의 학생 목록 캐시 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentRiskChanged(StudentRiskChangedEvent event) {
+        invalidate(event.getSchoolCode(), event.getClassCode(), STUDENTS);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public ClassDashboardCacheStatsResponse getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        return ClassDashboardCacheStatsResponse.builder()
+                .enabled(enabled)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(total > 0 ? (double) hitCount / total : 0.0)
+                .puts(puts.get())
+                .rejectedPuts(rejectedPuts.get())
+                .invalidations(invalidations.get())
+                .avgHitAgeMillis(hitCount > 0 ? hitAgeTotalMillis.get() / hitCount : 0L)
+                .maxHitAgeMillis(hitAgeMaxMillis.get())
+                .ttlMinutes(ttlMinutes)
+                .build();
+    }
+
+    /**
+     * 학급 캐시 필드 삭제 (무효화 버전 증가)
+     * - 학교/반이 없으면 무시
+     */
+    private void invalidate(String schoolCode, String classCode, String... fields) {
+        if (!enabled || schoolCode == null || classCode == null) {
+            return;
+        }
+
+        String key = cacheKey(schoolCode, classCode);
+        List<String> args = new ArrayList<>(fields.length + 1);
+        args.add(String.valueOf(TimeUnit.MINUTES.toSeconds(ttlMinutes)));
+        args.addAll(List.of(fields));
+
+        try {
+            stringRedisTemplate.execute(invalidateScript, List.of(key), args.toArray());
+            invalidations.incrementAndGet();
+            log.debug("Class dashboard cache invalidated: key={}, fields={}", key, fields);
+        } catch (Exception e) {
+            // 삭제 실패 시 TTL까지 이전 응답이 남을 수 있음
+            log.warn("Class dashboard cache invalidation failed: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void put(String key, String field, String version, Object response) {
+        try {
+            // cachedAt을 첫 필드로 저장 (저장 스크립트가 값 앞부분만 읽어 만료 필드 정리)
+            ObjectNode entry = objectMapper.createObjectNode();
+            entry.put("cachedAt", System.currentTimeMillis());
+            entry.set("body", objectMapper.valueToTree(response));
+
+            Long stored = stringRedisTemplate.execute(putScript, List.of(key),
+                    version, field, objectMapper.writeValueAsString(entry),
+                    String.valueOf(TimeUnit.MINUTES.toSeconds(ttlMinutes)),
+                    String.valueOf(entry.get("cachedAt").asLong() - TimeUnit.MINUTES.toMillis(ttlMinutes)));
+
+            if (stored != null && stored == 1L) {
+                puts.incrementAndGet();
+            } else {
+                rejectedPuts.incrementAndGet();
+                log.debug("Class dashboard cache put skipped (invalidated during load): key={}, field={}", key, field);
+            }
+        } catch (Exception e) {
+            log.warn("Class dashboard cache write failed: key={}, field={}, error={}", key, field, e.getMessage());
+        }
+    }
+
+    private void recordHit(long ageMillis) {
+        hits.incrementAndGet();
+        hitAgeTotalMillis.addAndGet(Math.max(0, ageMillis));
+        hitAgeMaxMillis.accumulateAndGet(ageMillis, Math::max);
+    }
+
+    private String cacheKey(String schoolCode, String classCode) {
+        return CACHE_KEY_PREFIX + schoolCode + ":" + classCode;
+    }
+
+    private static DefaultRedisScript<Long> createScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,88 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.domain.ClassDailyEmotion;
+
+import java.time.LocalDate;
+
+/**
+ * 학급 일자별 감정 분포 집계 (int[일자][영역])
+ * - 영역은 고정 인덱스(빨강, 노랑, 파랑, 초록, 미분석, 미작성)로 다루고 문자열 비교 없이 배열에 누적
+ * - 일자는 시작일 기준 오프셋으로 접근 (날짜별 Map 없음)
+ * - 요청 범위 안에서만 사용 (스레드 안전하지 않음)
+ */
+final class ClassEmotionDistribution {
+
+    static final int RED = 0;
+    static final int YELLOW = 1;
+    static final int BLUE = 2;
+    static final int GREEN = 3;
+    static final int UNANALYZED = 4;
+    static final int NONE = 5;
+
+    private static final int AREA_COUNT = 6;
+
+    private final LocalDate startDate;
+    private final int[][] counts;
+
+    ClassEmotionDistribution(LocalDate startDate, int days) {
+        this.startDate = startDate;
+        this.counts = new int[days][AREA_COUNT];
+    }
+
+    /**
+     * 감정 영역 인덱스 (Emotion.area 대문자 또는 응답용 소문자)
+     * - 알 수 없는 영역이면 -1
+     */
+    static int areaIndex(String area) {
+        if (area == null) {
+            return -1;
+        }
+        return switch (area) {
+            case "RED", "red" -> RED;
+            case "YELLOW", "yellow" -> YELLOW;
+            case "BLUE", "blue" -> BLUE;
+            case "GREEN", "green" -> GREEN;
+            default -> -1;
+        };
+    }
+
+    /**
+     * 학급 일별 집계 반영
+     */
+    void add(ClassDailyEmotion daily) {
+        int[] day = counts[dayOffset(daily.getEmotionDate())];
+        day[RED] += daily.getRedCount();
+        day[YELLOW] += daily.getYellowCount();
+        day[BLUE] += daily.getBlueCount();
+        day[GREEN] += daily.getGreenCount();
+        day[UNANALYZED] += daily.getUnanalyzedCount();
+    }
+
+    /**
+     * 일자별 미작성 수 계산 (학생 수 - 작성 수, 0 하한)
+     * - 모든 집계를 반영한 뒤 호출
+     */
+    void fillNone(int totalStudents) {
+        for (int[] day : counts) {
+            int written = day[RED] + day[YELLOW] + day[BLUE] + day[GREEN] + day[UNANALYZED];
+            day[NONE] = Math.max(0, totalStudents - written);
+        }
+    }
+
+    int days() {
+        return counts.length;
+    }
+
+    /**
+     * 일자별 영역 학생 수
+     *
+     * @param dayOffset 시작일 기준 일자 (0부터)
+     */
+    int get(int dayOffset, int area) {
+        return counts[dayOffset][area];
+    }
+
+    private int dayOffset(LocalDate date) {
+        return (int) (date.toEpochDay() - startDate.toEpochDay());
+    }
+}
@@ -0,0 +1,97 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.repository.ClassDailyEmotionRepository;
+import com.flowerbed.api.v1.repository.DiaryKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 학급 명단 기준 집계 동기화 (class_daily_emotion, diary_keyword)
+ * - 집계/색인은 일기 변경 시점의 작성자 학급으로 쌓이므로 반 이동, 탈퇴, 유형 변경 후에는 현재 명단과 어긋남
+ * - 학급 월 집계를 읽기 전 현재 명단(학생 user_sn 목록) 서명을 마지막 동기화 서명과 비교하고
+ *   다르면 그 달의 일별 감정 집계를 현재 명단 일기로 다시 적재하고 키워드 색인을 현재 학급으로 이동/삭제
+ * - 명단이 바뀐 다른 학급(전입 학급 등)은 그 학급을 조회할 때 같은 방식으로 다시 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClassRosterSyncService {
+
+    private static final String ROSTER_KEY_PREFIX = "CRS:";
+    private static final Duration ROSTER_KEY_TTL = Duration.ofDays(40);  // 월 단위 키, 지난 달 조회가 뜸해지면 만료
+
+    private final ClassDailyEmotionRepository classDailyEmotionRepository;
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 학급 월 집계를 현재 명단 기준으로 맞춤
+     * - 명단 서명이 같으면 그대로 사용 (명단 변경이 없으면 재적재하지 않음)
+     * - 재적재는 별도 쓰기 트랜잭션 (조회 트랜잭션은 읽기 전용), 커밋 후 서명 저장
+     * - Redis 장애 시 서명을 알 수 없으므로 재적재, 재적재 실패 시 기존 집계로 조회하고 다음 조회에서 다시 시도
+     *
+     * @param rosterUserSns 학급 현재 학생 user_sn 목록 (정렬)
+     */
+    public void syncMonth(String schoolCode, String classCode, YearMonth yearMonth, List<Long> rosterUserSns) {
+        String key = ROSTER_KEY_PREFIX + schoolCode + ":" + classCode + ":" + yearMonth;
+        String signature = signature(rosterUserSns);
+
+        if (signature.equals(readSignature(key))) {
+            return;
+        }
+
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+
+        try {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.executeWithoutResult(status -> {
+                classDailyEmotionRepository.deleteRange(schoolCode, classCode, startDate, endDate);
+                classDailyEmotionRepository.insertFromRoster(schoolCode, classCode, startDate, endDate);
+                int rehomed = diaryKeywordRepository.rehomeRange(schoolCode, classCode, startDate, endDate);
+                int removed = diaryKeywordRepository.deleteNonRosterRange(schoolCode, classCode, startDate, endDate);
+                log.info("Class roster synced: school={}, class={}, month={}, students={}, keywordRowsRehomed={}, keywordRowsRemoved={}",
+                        schoolCode, classCode, yearMonth, rosterUserSns.size(), rehomed, removed);
+            });
+        } catch (Exception e) {
+            log.warn("Class roster sync failed: school={}, class={}, month={}, {}",
+                    schoolCode, classCode, yearMonth, e.getMessage());
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, signature, ROSTER_KEY_TTL);
+        } catch (Exception e) {
+            log.warn("Class roster signature write failed: {}", e.getMessage());
+        }
+    }
+
+    private String readSignature(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("Class roster signature read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String signature(List<Long> rosterUserSns) {
+        String joined = rosterUserSns.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,59 +2,124 @@ package com.flowerbed.api.v1.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.flowerbed.config.AnthropicConfig;
+import com.flowerbed.config.LlmHttpConfig;
+import com.flowerbed.exception.business.BusinessException;
 import com.flowerbed.exception.business.LlmAnalysisException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.http.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Claude API 호출 클라이언트
- * - Anthropic API와 HTTP 통신
+ * - Anthropic API와 HTTP 통신 (공용 커넥션 풀 WebClient 사용)
  * - 프롬프트 전송 및 응답 파싱
+ * - system 프롬프트에 cache_control 지정 (프롬프트 캐싱, 캐시 적중 토큰 기록)
+ * - 스트리밍 호출 지원 (stream=true, SSE 텍스트 조각 즉시 전달)
+ * - 모든 HTTP 호출은 LlmConcurrencyLimiter를 거침 (동시성/호출 속도 제한)
  * - AnthropicConfig에서 모델/토큰/온도 설정 로드
- * - llm.provider=claude일 때만 활성화
+ * - 제공자 선택/장애 전환은 RoutingLlmApiClient가 담당 (직접 주입하지 말 것)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@ConditionalOnProperty(name = "llm.provider", havingValue = "claude", matchIfMissing = true)
 public class ClaudeApiClient implements LlmApiClient {
 
-    private static final String ANTHROPIC_API_URL = "https://api.anthropic.com/v1/messages";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String MESSAGES_PATH = "/v1/messages";
     private static final String ANTHROPIC_VERSION = "2023-06-01";
 
     private final AnthropicConfig config;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final LlmHttpConfig httpConfig;
+    private final WebClient llmWebClient;
+    private final LlmUsageMetrics usageMetrics;
+    private final LlmConcurrencyLimiter concurrencyLimiter;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
      * Claude API 호출
      */
+    @Override
     public String call(String prompt) {
+        return execute(createRequestBody(prompt));
+    }
+
+    /**
+     * Claude API 호출 (system 프롬프트 캐싱)
+     */
+    @Override
+    public String call(String systemPrompt, String userPrompt) {
+        return execute(createRequestBody(systemPrompt, userPrompt));
+    }
+
+    /**
+     * Claude API 스트리밍 호출 (SSE)
+     * - content_block_delta 텍스트를 도착 즉시 onText로 전달
+     * - message_start / message_delta의 usage를 모아 토큰 사용량 기록
+     */
+    @Override
+    public void stream(String systemPrompt, String userPrompt, Consumer<String> onText) {
+        Map<String, Object> requestBody = new HashMap<>(createRequestBody(systemPrompt, userPrompt));
+        requestBody.put("stream", true);
+
+        ObjectNode usage = objectMapper.createObjectNode();
+        AtomicReference<String> stopReason = new AtomicReference<>();
+
         try {
-            HttpHeaders headers = createHeaders();
-            Map<String, Object> requestBody = createRequestBody(prompt);
+            log.debug("Streaming Claude API with model: {}", config.getModel());
+
+            concurrencyLimiter.execute(LlmUsageMetrics.PROVIDER_CLAUDE, () -> llmWebClient.post()
+                    .uri(config.getBaseUrl() + MESSAGES_PATH)
+                    .headers(this::applyHeaders)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(SSE_EVENT_TYPE)
+                    .doOnNext(event -> handleStreamEvent(event, onText, usage, stopReason))
+                    .blockLast(Duration.ofMillis(httpConfig.getRequestTimeout())));
+
+        } catch (BusinessException e) {
+            throw e;  // 동시성 제한(LLM_BUSY), 스트림 중 처리된 예외는 그대로 throw
+        } catch (Exception e) {
+            log.error("Claude API streaming call failed", e);
+            throw new LlmAnalysisException("Claude API 호출에 실패했습니다", e);
+        }
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        usageMetrics.recordClaudeUsage(usage);
+        checkStopReason(stopReason.get());
+    }
 
+    private String execute(Map<String, Object> requestBody) {
+        try {
             log.debug("Calling Claude API with model: {}", config.getModel());
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    ANTHROPIC_API_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            String responseBody = concurrencyLimiter.execute(LlmUsageMetrics.PROVIDER_CLAUDE, () -> llmWebClient.post()
+                    .uri(config.getBaseUrl() + MESSAGES_PATH)
+                    .headers(this::applyHeaders)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(httpConfig.getRequestTimeout())));
 
-            return extractContent(response.getBody());
+            return extractContent(responseBody);
 
+        } catch (BusinessException e) {
+            throw e;  // 동시성 제한(LLM_BUSY), 응답 처리 예외는 그대로 throw
         } catch (Exception e) {
             log.error("Claude API call failed", e);
             throw new LlmAnalysisException("Claude API 호출에 실패했습니다", e);
@@ -62,14 +127,12 @@ public class ClaudeApiClient implements LlmApiClient {
     }
 
     /**
-     * HTTP 헤더 생성
+     * HTTP 헤더 생성 (ClaudeBatchClient 공용)
      */
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
+    void applyHeaders(HttpHeaders headers) {
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.set("x-api-key", config.getKey());
         headers.set("anthropic-version", ANTHROPIC_VERSION);
-        return headers;
     }
 
     /**
@@ -86,25 +149,54 @@ public class ClaudeApiClient implements LlmApiClient {
         );
     }
 
+    /**
+     * 요청 바디 생성 (system 프롬프트 분리)
+     * - system 블록에 cache_control(ephemeral) 지정 → 동일 prefix는 캐시에서 읽음
+     * - ClaudeBatchClient에서 배치 요청별 params로 재사용
+     */
+    Map<String, Object> createRequestBody(String systemPrompt, String userPrompt) {
+        return Map.of(
+                "model", config.getModel(),
+                "max_tokens", config.getMaxTokens(),
+                "temperature", config.getTemperature(),
+                "system", List.of(
+                        Map.of(
+                                "type", "text",
+                                "text", systemPrompt,
+                                "cache_control", Map.of("type", "ephemeral")
+                        )
+                ),
+                "messages", List.of(
+                        Map.of("role", "user", "content", userPrompt)
+                )
+        );
+    }
+
     /**
      * 응답에서 content 추출 및 완료 여부 확인
      */
     private String extractContent(String responseBody) {
+        JsonNode root;
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-
-            // stop_reason 확인 (응답이 정상 완료되었는지 체크)
-            String stopReason = root.path("stop_reason").asText();
+            root = objectMapper.readTree(responseBody);
+        } catch (Exception e) {
+            log.error("Failed to parse Claude API response", e);
+            throw new LlmAnalysisException("Claude API 응답 파싱에 실패했습니다", e);
+        }
+        return extractContent(root);
+    }
 
-            if ("max_tokens".equals(stopReason)) {
-                log.error("Claude API 응답이 max_tokens로 인해 잘렸습니다. max-tokens 값을 늘려야 합니다.");
-                log.error("현재 설정: model={}, max-tokens={}", config.getModel(), config.getMaxTokens());
-                throw new LlmAnalysisException("Claude API 응답이 토큰 제한으로 잘렸습니다. max-tokens 설정을 늘려주세요.");
-            }
+    /**
+     * 응답 메시지(JSON)에서 content 추출 및 완료 여부 확인
+     * - ClaudeBatchClient에서 배치 결과의 message에 재사용
+     */
+    String extractContent(JsonNode root) {
+        try {
+            // 토큰 사용량 기록 (프롬프트 캐시 적중 토큰 포함)
+            usageMetrics.recordClaudeUsage(root.path("usage"));
 
-            if (!"end_turn".equals(stopReason)) {
-                log.warn("Claude API 응답의 stop_reason이 예상과 다릅니다: {}", stopReason);
-            }
+            // stop_reason 확인 (응답이 정상 완료되었는지 체크)
+            checkStopReason(root.path("stop_reason").asText());
 
             JsonNode content = root.path("content").get(0).path("text");
 
@@ -121,4 +213,66 @@ public class ClaudeApiClient implements LlmApiClient {
             throw new LlmAnalysisException("Claude API 응답 파싱에 실패했습니다", e);
         }
     }
+
+    /**
+     * 스트리밍 이벤트 처리
+     * - ping, content_block_start/stop, message_stop 이벤트는 무시
+     */
+    private void handleStreamEvent(ServerSentEvent<String> event, Consumer<String> onText,
+                                   ObjectNode usage, AtomicReference<String> stopReason) {
+        String data = event.data();
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(data);
+        } catch (Exception e) {
+            throw new LlmAnalysisException("Claude API 스트리밍 응답 파싱에 실패했습니다", e);
+        }
+
+        switch (root.path("type").asText()) {
+            case "content_block_delta" -> {
+                JsonNode text = root.path("delta").path("text");
+                if (!text.isMissingNode()) {
+                    onText.accept(text.asText());
+                }
+            }
+            case "message_start" -> {
+                JsonNode startUsage = root.path("message").path("usage");
+                if (startUsage.isObject()) {
+                    usage.setAll((ObjectNode) startUsage);
+                }
+            }
+            case "message_delta" -> {
+                stopReason.set(root.path("delta").path("stop_reason").asText(null));
+                JsonNode deltaUsage = root.path("usage");
+                if (deltaUsage.isObject()) {
+                    usage.setAll((ObjectNode) deltaUsage);
+                }
+            }
+            case "error" -> {
+                log.error("Claude API streaming error: {}", data);
+                throw new LlmAnalysisException("Claude API 스트리밍 중 오류가 발생했습니다");
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * stop_reason 확인 (응답이 정상 완료되었는지 체크)
+     */
+    private void checkStopReason(String stopReason) {
+        if ("max_tokens".equals(stopReason)) {
+            log.error("Claude API 응답이 max_tokens로 인해 잘렸습니다. max-tokens 값을 늘려야 합니다.");
+            log.error("현재 설정: model={}, max-tokens={}", config.getModel(), config.getMaxTokens());
+            throw new LlmAnalysisException("Claude API 응답이 토큰 제한으로 잘렸습니다. max-tokens 설정을 늘려주세요.");
+        }
+
+        if (!"end_turn".equals(stopReason)) {
+            log.warn("Claude API 응답의 stop_reason이 예상과 다릅니다: {}", stopReason);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerbed.config.AnthropicConfig;
+import com.flowerbed.config.LlmBatchConfig;
+import com.flowerbed.exception.business.LlmAnalysisException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Claude Message Batches API 클라이언트
+ * - POST /v1/messages/batches 로 요청 일괄 제출 (요청별 params는 실시간 호출과 동일)
+ * - GET /v1/messages/batches/{id} 로 상태 조회 (processing_status: in_progress / canceling / ended)
+ * - GET /v1/messages/batches/{id}/results 의 JSONL 결과를 한 줄씩 처리
+ * - 결과 message는 ClaudeApiClient와 동일하게 검증 (stop_reason, 토큰 사용량 기록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClaudeBatchClient implements LlmBatchClient {
+
+    private static final String BATCHES_PATH = "/v1/messages/batches";
+
+    private final AnthropicConfig config;
+    private final LlmBatchConfig batchConfig;
+    private final ClaudeApiClient claudeApiClient;
+    private final WebClient llmWebClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String getProvider() {
+        return LlmUsageMetrics.PROVIDER_CLAUDE;
+    }
+
+    @Override
+    public String submit(String systemPrompt, Map<String, String> userPrompts) {
+        List<Map<String, Object>> requests = userPrompts.entrySet().stream()
+                .map(entry -> Map.<String, Object>of(
+                        "custom_id", entry.getKey(),
+                        "params", claudeApiClient.createRequestBody(systemPrompt, entry.getValue())
+                ))
+                .toList();
+
+        try {
+            String responseBody = llmWebClient.post()
+                    .uri(baseUrl() + BATCHES_PATH)
+                    .headers(claudeApiClient::applyHeaders)
+                    .bodyValue(Map.of("requests", requests))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+
+            String batchId = objectMapper.readTree(responseBody).path("id").asText();
+            log.info("Claude batch submitted: batchId={}, requests={}", batchId, requests.size());
+            return batchId;
+
+        } catch (Exception e) {
+            log.error("Claude batch submit failed: requests={}", requests.size(), e);
+            throw new LlmAnalysisException("Claude 배치 제출에 실패했습니다", e);
+        }
+    }
+
+    @Override
+    public BatchState getState(String batchId) {
+        JsonNode batch = getBatch(batchId);
+        String status = batch.path("processing_status").asText();
+        log.debug("Claude batch status: batchId={}, status={}, counts={}", batchId, status, batch.path("request_counts"));
+
+        return "ended".equals(status) ? BatchState.ENDED : BatchState.IN_PROGRESS;
+    }
+
+    @Override
+    public void fetchResults(String batchId, Consumer<BatchResult> onResult) {
+        Iterable<String> lines = llmWebClient.get()
+                .uri(baseUrl() + BATCHES_PATH + "/" + batchId + "/results")
+                .headers(claudeApiClient::applyHeaders)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .timeout(Duration.ofMillis(batchConfig.getRequestTimeout()))
+                .toIterable();
+
+        for (String line : lines) {
+            if (StringUtils.hasText(line)) {
+                onResult.accept(toBatchResult(line));
+            }
+        }
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        llmWebClient.post()
+                .uri(baseUrl() + BATCHES_PATH + "/" + batchId + "/cancel")
+                .headers(claudeApiClient::applyHeaders)
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+        log.info("Claude batch cancel requested: batchId={}", batchId);
+    }
+
+    private JsonNode getBatch(String batchId) {
+        try {
+            String responseBody = llmWebClient.get()
+                    .uri(baseUrl() + BATCHES_PATH + "/" + batchId)
+                    .headers(claudeApiClient::applyHeaders)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+            return objectMapper.readTree(responseBody);
+
+        } catch (Exception e) {
+            throw new LlmAnalysisException("Claude 배치 상태 조회에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 결과 한 줄 변환
+     * - result.type: succeeded / errored / canceled / expired
+     */
+    private BatchResult toBatchResult(String line) {
+        String customId = null;
+        try {
+            JsonNode root = objectMapper.readTree(line);
+            customId = root.path("custom_id").asText();
+            JsonNode result = root.path("result");
+            String type = result.path("type").asText();
+
+            if (!"succeeded".equals(type)) {
+                String message = result.path("error").path("error").path("message").asText(null);
+                return new BatchResult(customId, null, message != null ? type + ": " + message : type);
+            }
+
+            return new BatchResult(customId, claudeApiClient.extractContent(result.path("message")), null);
+
+        } catch (Exception e) {
+            return new BatchResult(customId, null, e.getMessage());
+        }
+    }
+
+    private String baseUrl() {
+        return StringUtils.hasText(batchConfig.getAnthropicBaseUrl())
+                ? batchConfig.getAnthropicBaseUrl()
+                : config.getBaseUrl();
+    }
+}
@@ -0,0 +1,190 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerbed.api.v1.dto.DiaryAnalysisCacheStatsResponse;
+import com.flowerbed.api.v1.dto.DiaryEmotionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일기 감정 분석 결과 캐시 (내용 주소 기반)
+ * - 키: SHA-256(정규화된 일기 내용 | 위험도 분석 여부 | 프롬프트 버전)
+ * - 같은 내용으로 재분석(수정 후 원복, 클라이언트 재시도 등)하면 LLM 호출 없이 결과 반환
+ * - 프롬프트 템플릿이 바뀌면 버전이 달라져 이전 결과는 자동으로 사용되지 않음
+ * - TTL + 최대 항목 수(오래된 항목부터 제거)로 크기 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryAnalysisCacheService {
+
+    private static final String CACHE_KEY_PREFIX = "DAC:";
+    private static final String INDEX_KEY = "DAC:index";  // 저장 시각 순 인덱스 (ZSET)
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Value("${diary-analysis.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${diary-analysis.cache.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${diary-analysis.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${diary-analysis.cache.max-entry-bytes:16384}")
+    private int maxEntryBytes;
+
+    /**
+     * 캐시 조회
+     * - Redis 장애 시 캐시 미스로 처리 (분석은 계속 진행)
+     *
+     * @return 캐시된 분석 결과 (없으면 null)
+     */
+    public DiaryEmotionResponse get(String diaryContent, boolean needRiskAnalysis, String promptVersion) {
+        if (!enabled) {
+            return null;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(cacheKey(diaryContent, needRiskAnalysis, promptVersion));
+            if (value == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            hits.incrementAndGet();
+            return objectMapper.readValue(value, DiaryEmotionResponse.class);
+
+        } catch (Exception e) {
+            log.warn("Diary analysis cache read failed: {}", e.getMessage());
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장
+     * - 정상 분석 결과만 저장 (기본값 응답, 오류 응답은 저장하지 않음)
+     * - 최대 크기를 넘는 결과는 저장하지 않음
+     */
+    public void put(String diaryContent, boolean needRiskAnalysis, String promptVersion, DiaryEmotionResponse response) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String value = objectMapper.writeValueAsString(response);
+            if (value.getBytes(StandardCharsets.UTF_8).length > maxEntryBytes) {
+                log.debug("Diary analysis result too large to cache: {} chars", value.length());
+                return;
+            }
+
+            String key = cacheKey(diaryContent, needRiskAnalysis, promptVersion);
+            redisTemplate.opsForValue().set(key, value, ttlHours, TimeUnit.HOURS);
+            redisTemplate.opsForZSet().add(INDEX_KEY, key, System.currentTimeMillis());
+            puts.incrementAndGet();
+
+            trimToMaxEntries();
+
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize diary analysis result for cache", e);
+        } catch (Exception e) {
+            log.warn("Diary analysis cache write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public DiaryAnalysisCacheStatsResponse getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Long entries = null;
+        try {
+            entries = redisTemplate.opsForZSet().zCard(INDEX_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to read diary analysis cache size: {}", e.getMessage());
+        }
+
+        return DiaryAnalysisCacheStatsResponse.builder()
+                .enabled(enabled)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(total > 0 ? (double) hitCount / total : 0.0)
+                .puts(puts.get())
+                .evictions(evictions.get())
+                .entries(entries)
+                .maxEntries(maxEntries)
+                .build();
+    }
+
+    /**
+     * 최대 항목 수 초과 시 오래된 항목부터 제거
+     * - TTL로 이미 만료된 키가 인덱스에 남아 있어도 삭제는 무해함
+     */
+    private void trimToMaxEntries() {
+        Long size = redisTemplate.opsForZSet().zCard(INDEX_KEY);
+        if (size == null || size <= maxEntries) {
+            return;
+        }
+
+        long overflow = size - maxEntries;
+        Set<String> oldest = redisTemplate.opsForZSet().range(INDEX_KEY, 0, overflow - 1);
+        if (oldest == null || oldest.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(oldest);
+        redisTemplate.opsForZSet().remove(INDEX_KEY, oldest.toArray());
+        evictions.addAndGet(oldest.size());
+    }
+
+    private String cacheKey(String diaryContent, boolean needRiskAnalysis, String promptVersion) {
+        String source = normalize(diaryContent) + "|" + needRiskAnalysis + "|" + promptVersion;
+        return CACHE_KEY_PREFIX + sha256Hex(source);
+    }
+
+    /**
+     * 일기 내용 정규화
+     * - 유니코드 NFC 정규화 (입력기에 따라 한글 자모가 분리되어 저장되는 경우 통일)
+     * - 줄바꿈 통일, 줄 끝 공백 및 연속 공백 정리, 앞뒤 공백 제거
+     */
+    private String normalize(String content) {
+        return Normalizer.normalize(content, Normalizer.Form.NFC)
+                .replace("\r\n", "\n")
+                .replaceAll("[ \\t\\u00A0]+", " ")
+                .replaceAll(" *\n *", "\n")
+                .strip();
+    }
+
+    private String sha256Hex(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
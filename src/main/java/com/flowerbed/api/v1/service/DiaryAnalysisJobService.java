@@ -0,0 +1,357 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerbed.api.v1.dto.DiaryAnalysisJobResponse;
+import com.flowerbed.api.v1.dto.DiaryResponse;
+import com.flowerbed.exception.ErrorCode;
+import com.flowerbed.exception.business.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 일기 감정 분석 비동기 작업 관리
+ * - 분석 요청을 작업 큐에 등록하고 jobId를 즉시 반환 (요청 스레드는 LLM 응답을 기다리지 않음)
+ * - diaryAnalysisExecutor 워커가 DiaryService.analyzeDiaryEmotion 실행
+ * - 작업 상태는 Redis에 저장 (인스턴스와 무관하게 폴링 가능)
+ * - 작업 완료 시 Redis Pub/Sub으로 모든 인스턴스에 알림 → SSE 구독자는 연결된 인스턴스와 무관하게 결과를 전달받음
+ * - 스트리밍 분석: LLM 응답 필드를 완성되는 즉시 SSE로 전달 (stream)
+ */
+@Slf4j
+@Service
+public class DiaryAnalysisJobService {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String JOB_KEY_PREFIX = "DAJ:";
+    private static final String JOB_FINISHED_CHANNEL = "DAJ:finished";
+    private static final String SSE_EVENT_NAME = "analysis";
+    private static final String SSE_EVENT_FIELD = "field";
+
+    // 스트리밍 분석 시 클라이언트에 미리 전달하는 필드 (위험도 분석 필드는 제외)
+    private static final Set<String> STREAMED_FIELDS = Set.of("summary", "coreEmotion", "emotions", "reason", "keywords");
+
+    private final DiaryService diaryService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor diaryAnalysisExecutor;
+
+    // 이 인스턴스에 연결된 SSE 구독자 (jobId → emitters, 구독자가 없으면 키 제거)
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${diary-analysis.async.job-ttl-minutes:60}")
+    private long jobTtlMinutes;
+
+    @Value("${diary-analysis.async.sse-timeout:120000}")
+    private long sseTimeout;
+
+    public DiaryAnalysisJobService(DiaryService diaryService,
+                                   RedisTemplate<String, String> redisTemplate,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("diaryAnalysisExecutor") ThreadPoolTaskExecutor diaryAnalysisExecutor,
+                                   RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.diaryService = diaryService;
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.diaryAnalysisExecutor = diaryAnalysisExecutor;
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onJobFinished(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(JOB_FINISHED_CHANNEL));
+    }
+
+    /**
+     * 분석 작업 등록
+     * - 일기 존재/권한은 접수 시점에 확인 (잘못된 요청은 바로 404)
+     * - 작업 큐가 가득 찬 경우 429
+     */
+    public DiaryAnalysisJobResponse submit(Long userSn, Long diaryId) {
+
+        diaryService.checkDiaryOwner(userSn, diaryId);
+
+        DiaryAnalysisJobResponse job = DiaryAnalysisJobResponse.builder()
+                .jobId(UUID.randomUUID().toString())
+                .diaryId(diaryId)
+                .status(STATUS_PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        saveJob(userSn, job);
+
+        try {
+            diaryAnalysisExecutor.execute(() -> runJob(userSn, job));
+        } catch (TaskRejectedException e) {
+            redisTemplate.delete(jobKey(userSn, job.getJobId()));
+            log.warn("Diary analysis queue is full: userSn={}, diaryId={}", userSn, diaryId);
+            throw new BusinessException(ErrorCode.ANALYSIS_QUEUE_FULL);
+        }
+
+        log.info("Diary analysis job submitted: jobId={}, userSn={}, diaryId={}", job.getJobId(), userSn, diaryId);
+        return job;
+    }
+
+    /**
+     * 분석 작업 조회 (폴링)
+     * - 본인이 요청한 작업만 조회 가능 (키에 userSn 포함)
+     */
+    public DiaryAnalysisJobResponse getJob(Long userSn, String jobId) {
+        DiaryAnalysisJobResponse job = findJob(userSn, jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.ANALYSIS_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 분석 작업 SSE 구독
+     * - 이미 종료된 작업이면 결과를 즉시 전송 후 종료
+     * - 진행 중이면 현재 상태를 전송하고 완료 시 결과 전송
+     */
+    public SseEmitter subscribe(Long userSn, String jobId) {
+        DiaryAnalysisJobResponse job = getJob(userSn, jobId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeout);
+        if (isFinished(job)) {
+            sendAndComplete(emitter, job);
+            return emitter;
+        }
+
+        emitters.compute(jobId, (k, subscribers) -> {
+            List<SseEmitter> list = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        emitter.onCompletion(() -> removeSubscriber(jobId, emitter));
+        emitter.onTimeout(() -> removeSubscriber(jobId, emitter));
+        emitter.onError(e -> removeSubscriber(jobId, emitter));
+
+        send(emitter, job);
+
+        // 등록 직전에 작업이 끝났을 수 있으므로 한 번 더 확인 (완료 알림을 놓친 경우)
+        DiaryAnalysisJobResponse latest = findJob(userSn, jobId);
+        if (latest != null && isFinished(latest) && removeSubscriber(jobId, emitter)) {
+            sendAndComplete(emitter, latest);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 스트리밍 분석 (SSE)
+     * - 분석 워커 풀에서 LLM 스트리밍 호출, 응답 필드가 완성될 때마다 field 이벤트 전송
+     *   (event: field, data: {"field": "summary", "value": "..."})
+     * - 분석/저장 완료 시 analysis 이벤트로 최종 결과(COMPLETED/FAILED) 전송 후 종료
+     * - 작업 상태는 Redis에 저장하지 않음 (연결이 끊겨도 분석 결과는 일기에 저장됨)
+     */
+    public SseEmitter stream(Long userSn, Long diaryId) {
+
+        diaryService.checkDiaryOwner(userSn, diaryId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeout);
+        DiaryAnalysisJobResponse job = DiaryAnalysisJobResponse.builder()
+                .diaryId(diaryId)
+                .status(STATUS_RUNNING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            diaryAnalysisExecutor.execute(() -> runStream(userSn, job, emitter));
+        } catch (TaskRejectedException e) {
+            log.warn("Diary analysis queue is full: userSn={}, diaryId={}", userSn, diaryId);
+            throw new BusinessException(ErrorCode.ANALYSIS_QUEUE_FULL);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 워커 스레드에서 실행되는 스트리밍 분석
+     */
+    private void runStream(Long userSn, DiaryAnalysisJobResponse job, SseEmitter emitter) {
+        DiaryAnalysisJobResponse finished = analyze(userSn, job, (field, value) -> {
+            if (STREAMED_FIELDS.contains(field)) {
+                send(emitter, SSE_EVENT_FIELD, Map.of("field", field, "value", value));
+            }
+        });
+        sendAndComplete(emitter, finished);
+    }
+
+    /**
+     * 워커 스레드에서 실행되는 분석 작업
+     */
+    private void runJob(Long userSn, DiaryAnalysisJobResponse job) {
+        saveJob(userSn, job.toBuilder().status(STATUS_RUNNING).build());
+
+        DiaryAnalysisJobResponse finished = analyze(userSn, job, null);
+
+        saveJob(userSn, finished);
+        notifySubscribers(finished);
+    }
+
+    /**
+     * 분석 실행 후 최종 상태(COMPLETED/FAILED) 생성
+     *
+     * @param fieldListener LLM 응답 필드 수신 콜백 (null이면 일반 호출)
+     */
+    private DiaryAnalysisJobResponse analyze(Long userSn, DiaryAnalysisJobResponse job,
+                                             BiConsumer<String, JsonNode> fieldListener) {
+        DiaryAnalysisJobResponse finished;
+        try {
+            DiaryResponse result = diaryService.analyzeDiaryEmotion(userSn, job.getDiaryId(), fieldListener);
+            if (result == null) {
+                throw new BusinessException(ErrorCode.LLM_ANALYSIS_FAILED);
+            }
+            finished = job.toBuilder()
+                    .status(STATUS_COMPLETED)
+                    .result(result)
+                    .completedAt(LocalDateTime.now())
+                    .build();
+
+        } catch (BusinessException e) {
+            log.warn("Diary analysis job failed: jobId={}, code={}, message={}",
+                    job.getJobId(), e.getErrorCode().getCode(), e.getMessage());
+            finished = failed(job, e.getErrorCode().getCode(), e.getMessage());
+
+        } catch (Exception e) {
+            log.error("Diary analysis job failed unexpectedly: jobId={}", job.getJobId(), e);
+            finished = failed(job, ErrorCode.INTERNAL_SERVER_ERROR.getCode(), ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+
+        return finished;
+    }
+
+    private DiaryAnalysisJobResponse failed(DiaryAnalysisJobResponse job, String errorCode, String errorMessage) {
+        return job.toBuilder()
+                .status(STATUS_FAILED)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 작업 완료 알림 (Redis Pub/Sub, 이 인스턴스 포함 모든 인스턴스가 수신)
+     * - 발행 실패 시 이 인스턴스의 구독자에게만 전달 (다른 인스턴스 구독자는 SSE 타임아웃 후 폴링)
+     */
+    private void notifySubscribers(DiaryAnalysisJobResponse job) {
+        try {
+            stringRedisTemplate.convertAndSend(JOB_FINISHED_CHANNEL, objectMapper.writeValueAsString(job));
+        } catch (Exception e) {
+            log.warn("Diary analysis job finish publish failed: jobId={}, error={}", job.getJobId(), e.getMessage());
+            deliver(job);
+        }
+    }
+
+    /**
+     * 작업 완료 알림 수신 (이 인스턴스에 연결된 구독자가 있을 때만 전달)
+     */
+    private void onJobFinished(String payload) {
+        try {
+            deliver(objectMapper.readValue(payload, DiaryAnalysisJobResponse.class));
+        } catch (Exception e) {
+            log.error("Failed to handle diary analysis job finish message", e);
+        }
+    }
+
+    private void deliver(DiaryAnalysisJobResponse job) {
+        List<SseEmitter> subscribers = emitters.remove(job.getJobId());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            sendAndComplete(emitter, job);
+        }
+    }
+
+    /**
+     * 구독자 제거 (마지막 구독자면 작업 키도 제거)
+     *
+     * @return 제거 여부 (이미 완료 알림으로 제거된 경우 false)
+     */
+    private boolean removeSubscriber(String jobId, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        emitters.computeIfPresent(jobId, (k, subscribers) -> {
+            removed[0] = subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        return removed[0];
+    }
+
+    private boolean isFinished(DiaryAnalysisJobResponse job) {
+        return STATUS_COMPLETED.equals(job.getStatus()) || STATUS_FAILED.equals(job.getStatus());
+    }
+
+    private boolean send(SseEmitter emitter, DiaryAnalysisJobResponse job) {
+        return send(emitter, SSE_EVENT_NAME, job);
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE send failed (client disconnected): event={}", eventName);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void sendAndComplete(SseEmitter emitter, DiaryAnalysisJobResponse job) {
+        if (send(emitter, job)) {
+            emitter.complete();
+        }
+    }
+
+    private void saveJob(Long userSn, DiaryAnalysisJobResponse job) {
+        try {
+            redisTemplate.opsForValue().set(jobKey(userSn, job.getJobId()),
+                    objectMapper.writeValueAsString(job), jobTtlMinutes, TimeUnit.MINUTES);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "분석 작업 상태 저장에 실패했습니다");
+        }
+    }
+
+    private DiaryAnalysisJobResponse findJob(Long userSn, String jobId) {
+        String value = redisTemplate.opsForValue().get(jobKey(userSn, jobId));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, DiaryAnalysisJobResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to read diary analysis job: jobId={}", jobId, e);
+            return null;
+        }
+    }
+
+    private String jobKey(Long userSn, String jobId) {
+        return JOB_KEY_PREFIX + userSn + ":" + jobId;
+    }
+}
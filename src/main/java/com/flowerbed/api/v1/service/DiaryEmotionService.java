@@ -1,14 +1,17 @@
 package com.flowerbed.api.v1.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flowerbed.api.v1.domain.Emotion;
 import com.flowerbed.api.v1.dto.DiaryEmotionResponse;
 import com.flowerbed.api.v1.dto.EmotionPercent;
+import com.flowerbed.api.v1.event.EmotionCacheEvictedEvent;
 import com.flowerbed.exception.business.InvalidDiaryContentException;
 import com.flowerbed.api.v1.repository.FlowerRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
@@ -16,14 +19,19 @@ import org.springframework.util.StreamUtils;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * LLM API를 이용한 일기 감정 분석 서비스
  * - 실제 LLM 호출하여 감정 분석 (Claude 또는 OpenAI)
  * - 프롬프트 관리, 응답 파싱/검증
+ * - 동일 내용 재분석 시 결과 캐시 사용 (DiaryAnalysisCacheService)
+ * - 스트리밍 분석: LLM 응답을 증분 파싱하여 완성된 필드부터 전달 (LlmJsonStreamParser)
  * - llm.provider 설정에 따라 사용할 LLM 자동 선택
  */
 @Slf4j
@@ -31,24 +39,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DiaryEmotionService {
 
+    private static final String DIARY_CONTENT_PLACEHOLDER = "{DIARY_CONTENT}";
+
+    // 위험도 분석 섹션 제거용 정규식 (템플릿 원본에 1회 적용)
+    private static final Pattern RISK_SECTION_PATTERN = Pattern.compile("\\[위험도 분석 규칙\\][\\s\\S]*?(?=\\[응답 형식\\])");
+    private static final Pattern RISK_LEVEL_FIELD_PATTERN = Pattern.compile(",?\\s*\"riskLevel\":[^,\\n]*");
+    private static final Pattern RISK_REASON_FIELD_PATTERN = Pattern.compile(",?\\s*\"riskReason\":[^,\\n]*");
+    private static final Pattern CONCERN_KEYWORDS_FIELD_PATTERN = Pattern.compile(",?\\s*\"concernKeywords\":[^\\]]*\\][^,\\n]*");
+
     private final LlmApiClient llmApiClient;  // LLM API 호출 (Claude 또는 OpenAI)
     private final FlowerRepository flowerRepository;
+    private final DiaryAnalysisCacheService analysisCacheService;  // 분석 결과 캐시
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // DB에서 조회한 유효한 감정 코드 목록 (초기화 시 캐싱)
-    private Set<String> validEmotions;
-
-    // emotion-analysis-prompt.txt 템플릿
+    // emotion-analysis-prompt.txt 템플릿 원본 (위험도 분석 포함/제외 버전)
     private String promptTemplateRaw;
+    private String promptTemplateRawWithoutRisk;
 
-    // DB 감정 정보가 주입된 최종 프롬프트 템플릿
-    private String promptTemplate;
+    // 감정 정보가 주입된 컴파일 프롬프트 (감정 캐시 삭제 시 통째로 교체)
+    private volatile CompiledPrompts prompts;
+
+    // DB에서 조회한 유효한 감정 코드 목록 (프롬프트 컴파일 시 함께 갱신)
+    private volatile Set<String> validEmotions;
 
     /**
      * 서비스 초기화
      * 1. 프롬프트 템플릿 파일 로드
-     * 2. DB에서 활성화된 감정 정보 조회
-     * 3. 프롬프트에 감정 정보 주입
+     * 2. 위험도 분석 제외 버전 템플릿 생성
+     * 3. 감정 정보 주입 및 system / user 프롬프트 분리 (compilePrompts)
      */
     @PostConstruct
     public void init() {
@@ -57,23 +75,49 @@ public class DiaryEmotionService {
             ClassPathResource resource = new ClassPathResource("prompts/emotion-analysis-prompt.txt");
             promptTemplateRaw = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
 
-            // 2. DB에서 활성화된 감정 정보만 조회 (AI 분석용)
-            List<Emotion> activeEmotions = flowerRepository.findAllByIsActiveTrueOrderByDisplayOrderAsc();
-            validEmotions = activeEmotions.stream()
-                    .map(Emotion::getEmotionCode)
-                    .collect(Collectors.toSet());
-
-            // 3. 감정 정보표 생성 (영역별로 그룹핑) - 활성화된 감정만
-            String emotionMappings = buildEmotionMappings(activeEmotions);
-
-            // 4. 프롬프트에 주입
-            promptTemplate = promptTemplateRaw.replace("{EMOTION_MAPPINGS}", emotionMappings);
-
-            log.info("DiaryEmotionService 초기화 완료: {} 개 활성화된 감정 로드", validEmotions.size());
+            // 2. 위험도 분석 제외 버전은 원본에서 미리 섹션 제거
+            promptTemplateRawWithoutRisk = removeRiskAnalysisSection(promptTemplateRaw);
 
         } catch (IOException e) {
             throw new RuntimeException("감정 분석 프롬프트 초기화 실패", e);
         }
+
+        // 3. 감정 정보 주입 후 컴파일
+        compilePrompts();
+    }
+
+    /**
+     * 감정 마스터 데이터 변경 시 프롬프트 다시 컴파일 (EmotionCacheService.evictAllEmotionCache)
+     */
+    @EventListener(EmotionCacheEvictedEvent.class)
+    public void onEmotionCacheEvicted() {
+        compilePrompts();
+    }
+
+    /**
+     * 프롬프트 컴파일
+     * 1. DB에서 활성화된 감정 정보 조회
+     * 2. 감정 정보표를 주입하여 위험도 분석 포함/제외 버전 컴파일
+     * 3. 요청 처리 중인 스레드에 영향이 없도록 한 번에 교체
+     */
+    private void compilePrompts() {
+        // 1. DB에서 활성화된 감정 정보만 조회 (AI 분석용)
+        List<Emotion> activeEmotions = flowerRepository.findAllByIsActiveTrueOrderByDisplayOrderAsc();
+
+        // 2. 감정 정보표 생성 (영역별로 그룹핑) - 활성화된 감정만
+        Map<String, String> staticValues = Map.of("EMOTION_MAPPINGS", buildEmotionMappings(activeEmotions));
+
+        // 3. 컴파일 (정적 system 프롬프트 분리, user 프롬프트는 조각 배열)
+        LlmPromptTemplate withRisk = LlmPromptTemplate.compile(promptTemplateRaw, staticValues, DIARY_CONTENT_PLACEHOLDER);
+        LlmPromptTemplate withoutRisk = LlmPromptTemplate.compile(promptTemplateRawWithoutRisk, staticValues, DIARY_CONTENT_PLACEHOLDER);
+
+        validEmotions = activeEmotions.stream()
+                .map(Emotion::getEmotionCode)
+                .collect(Collectors.toSet());
+        prompts = new CompiledPrompts(withRisk.getVersion(), withRisk, withoutRisk);
+
+        log.info("DiaryEmotionService 프롬프트 컴파일 완료: {} 개 활성화된 감정 로드, promptVersion={}",
+                validEmotions.size(), prompts.version);
     }
 
     /**
@@ -120,7 +164,7 @@ public class DiaryEmotionService {
 
     /**
      * 일기 감정 분석 (LLM API 사용)
-     * - 프롬프트 생성 → LLM 호출 → 응답 파싱/검증
+     * - 결과 캐시 조회 → 프롬프트 생성 → LLM 호출 → 응답 파싱/검증 → 캐시 저장
      *
      * @param diaryContent 일기 내용
      * @param needRiskAnalysis 위험도 분석 필요 여부 (최신 일기일 경우만 true)
@@ -130,17 +174,81 @@ public class DiaryEmotionService {
         // 1. 일기 내용 기본 검증
         validateDiaryContent(diaryContent);
 
-        // 2. 프롬프트 생성
-        String prompt = buildPrompt(diaryContent, needRiskAnalysis);
-        log.info("[DiaryEmotionService - analyzeDiary] needRiskAnalysis={}, prompt : {}", needRiskAnalysis, prompt);
+        // 2. 결과 캐시 조회 (같은 내용 + 같은 프롬프트면 LLM 호출 생략)
+        CompiledPrompts prompts = this.prompts;
+        DiaryEmotionResponse cached = analysisCacheService.get(diaryContent, needRiskAnalysis, prompts.version);
+        if (cached != null) {
+            log.info("[DiaryEmotionService - analyzeDiary] cache hit: needRiskAnalysis={}", needRiskAnalysis);
+            return cached;
+        }
+
+        // 3. 프롬프트 생성 (system 프롬프트는 고정, 일기 내용만 user 프롬프트로 전송)
+        LlmPromptTemplate prompt = prompts.select(needRiskAnalysis);
+        String userPrompt = prompt.renderUserPrompt(diaryContent);
+        log.info("[DiaryEmotionService - analyzeDiary] needRiskAnalysis={}, userPrompt : {}", needRiskAnalysis, userPrompt);
 
-        // 3. LLM API 호출
-        String llmResponse = llmApiClient.call(prompt);
+        // 4. LLM API 호출
+        String llmResponse = llmApiClient.call(prompt.getSystemPrompt(), userPrompt);
 
         log.info("[DiaryEmotionService - analyzeDiary] llmResponse : {}", llmResponse);
 
-        // 4. 응답 파싱 및 검증
-        return parseAndValidateResponse(llmResponse);
+        // 5. 응답 파싱 및 검증 (정상 결과만 캐시 저장)
+        DiaryEmotionResponse response = parseValidResponse(llmResponse);
+        if (response == null) {
+            return getDefaultResponse();
+        }
+
+        analysisCacheService.put(diaryContent, needRiskAnalysis, prompts.version, response);
+        return response;
+    }
+
+    /**
+     * 일기 감정 분석 (LLM 스트리밍 호출)
+     * - 응답 텍스트를 받는 즉시 증분 파싱하여, 최상위 필드 값이 완성될 때마다 fieldListener 호출
+     * - 전체 응답은 파싱한 토큰에서 바로 DTO로 변환 (응답 문자열 재파싱 없음)
+     * - 캐시 적중 시 캐시된 결과의 필드를 순서대로 전달
+     *
+     * !! 참고 !!
+     * - 전달된 필드는 검증 전 값이므로, 최종 결과는 반환값 기준 (검증 실패 시 기본 응답)
+     *
+     * @param diaryContent 일기 내용
+     * @param needRiskAnalysis 위험도 분석 필요 여부 (최신 일기일 경우만 true)
+     * @param fieldListener 최상위 필드 수신 콜백 (필드명, 값)
+     */
+    public DiaryEmotionResponse analyzeDiaryStreaming(String diaryContent, boolean needRiskAnalysis,
+                                                      BiConsumer<String, JsonNode> fieldListener) {
+
+        // 1. 일기 내용 기본 검증
+        validateDiaryContent(diaryContent);
+
+        // 2. 결과 캐시 조회
+        CompiledPrompts prompts = this.prompts;
+        DiaryEmotionResponse cached = analysisCacheService.get(diaryContent, needRiskAnalysis, prompts.version);
+        if (cached != null) {
+            log.info("[DiaryEmotionService - analyzeDiaryStreaming] cache hit: needRiskAnalysis={}", needRiskAnalysis);
+            JsonNode cachedNode = objectMapper.valueToTree(cached);
+            cachedNode.fields().forEachRemaining(field -> fieldListener.accept(field.getKey(), field.getValue()));
+            return cached;
+        }
+
+        // 3. 프롬프트 생성
+        LlmPromptTemplate prompt = prompts.select(needRiskAnalysis);
+        String userPrompt = prompt.renderUserPrompt(diaryContent);
+        log.info("[DiaryEmotionService - analyzeDiaryStreaming] needRiskAnalysis={}, userPrompt : {}", needRiskAnalysis, userPrompt);
+
+        // 4. LLM 스트리밍 호출 + 증분 파싱
+        LlmJsonStreamParser parser = new LlmJsonStreamParser(objectMapper, fieldListener);
+        llmApiClient.stream(prompt.getSystemPrompt(), userPrompt, parser::feed);
+
+        DiaryEmotionResponse response = completeStreamedResponse(parser);
+
+        // 5. 검증 실패 시 기본 응답 (정상 결과만 캐시 저장)
+        if (response == null) {
+            return getDefaultResponse();
+        }
+
+        analysisCacheService.put(diaryContent, needRiskAnalysis, prompts.version, response);
+        return response;
     }
 
     /**
@@ -160,23 +268,6 @@ public class DiaryEmotionService {
         }
     }
 
-    /**
-     * LLM API 프롬프트 생성
-     *
-     * @param diaryContent 일기 내용
-     * @param needRiskAnalysis 위험도 분석 필요 여부
-     */
-    private String buildPrompt(String diaryContent, boolean needRiskAnalysis) {
-        String prompt = promptTemplate.replace("{DIARY_CONTENT}", diaryContent);
-
-        // 위험도 분석이 필요하지 않은 경우, 해당 부분 제거
-        if (!needRiskAnalysis) {
-            prompt = removeRiskAnalysisSection(prompt);
-        }
-
-        return prompt;
-    }
-
     /**
      * 프롬프트에서 위험도 분석 섹션 제거
      * - [위험도 분석 규칙] 섹션 전체 제거
@@ -184,53 +275,80 @@ public class DiaryEmotionService {
      */
     private String removeRiskAnalysisSection(String prompt) {
         // [위험도 분석 규칙] 섹션 제거 (섹션 시작부터 [응답 형식]까지)
-        prompt = prompt.replaceAll("\\[위험도 분석 규칙\\][\\s\\S]*?(?=\\[응답 형식\\])", "");
+        prompt = RISK_SECTION_PATTERN.matcher(prompt).replaceAll("");
 
         // 응답 형식에서 위험도 관련 필드 제거
-        prompt = prompt.replaceAll(",?\\s*\"riskLevel\":[^,\\n]*", "");
-        prompt = prompt.replaceAll(",?\\s*\"riskReason\":[^,\\n]*", "");
-        prompt = prompt.replaceAll(",?\\s*\"concernKeywords\":[^\\]]*\\][^,\\n]*", "");
+        prompt = RISK_LEVEL_FIELD_PATTERN.matcher(prompt).replaceAll("");
+        prompt = RISK_REASON_FIELD_PATTERN.matcher(prompt).replaceAll("");
+        prompt = CONCERN_KEYWORDS_FIELD_PATTERN.matcher(prompt).replaceAll("");
 
         return prompt;
     }
 
     /**
      * LLM 응답 파싱 및 검증
+     *
+     * @return 검증된 응답 (파싱 실패, 필수 필드 누락 시 null → 호출부에서 기본 응답 사용)
      */
-    private DiaryEmotionResponse parseAndValidateResponse(String llmResponse) {
+    private DiaryEmotionResponse parseValidResponse(String llmResponse) {
         try {
             // JSON 파싱
             DiaryEmotionResponse response = objectMapper.readValue(llmResponse, DiaryEmotionResponse.class);
 
-            // LLM이 일기를 분석할 수 없다고 판단한 경우
-            if (Boolean.TRUE.equals(response.getError())) {
-                log.warn("LLM rejected diary content: {}", response.getMessage());
-                throw new InvalidDiaryContentException(
-                        response.getMessage() != null ? response.getMessage() : "일기 내용을 분석할 수 없습니다"
-                );
-            }
-
-            // 필수 필드 검증
-            if (response.getCoreEmotion() == null || !validEmotions.contains(response.getCoreEmotion())) {
-                log.error("Invalid emotion in LLM response: {}", response.getCoreEmotion());
-                return getDefaultResponse();
-            }
-
-            if (response.getSummary() == null) {
-                log.error("Missing required fields in LLM response");
-                return getDefaultResponse();
-            }
-
-            return response;
+            return validateResponse(response);
 
         } catch (InvalidDiaryContentException e) {
             throw e; // 재전파
         } catch (Exception e) {
             log.error("Failed to parse LLM response", e);
-            return getDefaultResponse();
+            return null;
         }
     }
 
+    /**
+     * 스트리밍 파싱 결과 변환 및 검증
+     *
+     * @return 검증된 응답 (파싱 실패, 필수 필드 누락 시 null → 호출부에서 기본 응답 사용)
+     */
+    private DiaryEmotionResponse completeStreamedResponse(LlmJsonStreamParser parser) {
+        try {
+            return validateResponse(parser.complete(DiaryEmotionResponse.class));
+        } catch (InvalidDiaryContentException e) {
+            throw e; // 재전파
+        } catch (Exception e) {
+            log.error("Failed to parse streamed LLM response", e);
+            return null;
+        }
+    }
+
+    /**
+     * LLM 응답 검증
+     *
+     * @return 검증된 응답 (필수 필드 누락, 유효하지 않은 감정 코드 시 null)
+     */
+    private DiaryEmotionResponse validateResponse(DiaryEmotionResponse response) {
+        // LLM이 일기를 분석할 수 없다고 판단한 경우
+        if (Boolean.TRUE.equals(response.getError())) {
+            log.warn("LLM rejected diary content: {}", response.getMessage());
+            throw new InvalidDiaryContentException(
+                    response.getMessage() != null ? response.getMessage() : "일기 내용을 분석할 수 없습니다"
+            );
+        }
+
+        // 필수 필드 검증
+        if (response.getCoreEmotion() == null || !validEmotions.contains(response.getCoreEmotion())) {
+            log.error("Invalid emotion in LLM response: {}", response.getCoreEmotion());
+            return null;
+        }
+
+        if (response.getSummary() == null) {
+            log.error("Missing required fields in LLM response");
+            return null;
+        }
+
+        return response;
+    }
+
     /**
      * 기본 응답 (분석 실패 시)
      */
@@ -245,4 +363,24 @@ public class DiaryEmotionService {
 
         return response;
     }
+
+    /**
+     * 컴파일된 프롬프트 묶음 (버전 + 위험도 분석 포함/제외 버전)
+     * - 요청마다 한 번 읽어 같은 버전의 템플릿과 캐시 키를 사용
+     */
+    private static class CompiledPrompts {
+        private final String version;
+        private final LlmPromptTemplate withRisk;
+        private final LlmPromptTemplate withoutRisk;
+
+        private CompiledPrompts(String version, LlmPromptTemplate withRisk, LlmPromptTemplate withoutRisk) {
+            this.version = version;
+            this.withRisk = withRisk;
+            this.withoutRisk = withoutRisk;
+        }
+
+        private LlmPromptTemplate select(boolean needRiskAnalysis) {
+            return needRiskAnalysis ? withRisk : withoutRisk;
+        }
+    }
 }
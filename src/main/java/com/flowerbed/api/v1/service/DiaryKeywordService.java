@@ -0,0 +1,152 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.domain.DiaryKeyword;
+import com.flowerbed.api.v1.domain.Emotion;
+import com.flowerbed.api.v1.domain.KeywordDictionary;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
+import com.flowerbed.api.v1.repository.DiaryKeywordRepository;
+import com.flowerbed.api.v1.repository.KeywordDictionaryRepository;
+import com.flowerbed.exception.ErrorCode;
+import com.flowerbed.exception.business.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 키워드 색인 (keyword_dictionary, diary_keyword)
+ * - 일기 변경 이벤트를 받아 분석된 일기의 키워드를 사전 ID로 변환해 색인 (일기 변경과 같은 트랜잭션)
+ * - 학급 영역별 키워드 순위를 키워드 문자열 파싱 없이 GROUP BY로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DiaryKeywordService {
+
+    private static final Set<String> AREAS = Set.of("RED", "YELLOW", "BLUE", "GREEN");
+
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final KeywordDictionaryRepository keywordDictionaryRepository;
+    private final EmotionCacheService emotionCacheService;
+
+    /**
+     * 일기 변경 반영
+     * - 변경 전 분석된 일기였으면 기존 색인 삭제 (재분석, 내용 수정, 삭제)
+     * - 변경 후 분석된 일기면 키워드 색인 생성 (감정 영역을 알 수 없으면 색인하지 않음)
+     * - 학교/반이 없는 사용자, 학생이 아닌 작성자(선생님 등)는 색인하지 않음 (기존 색인 삭제는 작성자와 무관하게 수행)
+     */
+    @EventListener
+    @Transactional
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        if (event.getDiaryId() == null || event.getSchoolCode() == null || event.getClassCode() == null) {
+            return;
+        }
+
+        if (event.isPreviouslyAnalyzed()) {
+            diaryKeywordRepository.deleteByDiaryId(event.getDiaryId());
+        }
+
+        if (!event.isAnalyzed() || event.getDiaryDelta() < 0 || !event.isStudentAuthor()) {
+            return;
+        }
+
+        String area = areaOf(event.getEmotionCode());
+        List<String> keywords = parseKeywords(event.getKeywords());
+        if (area == null || keywords.isEmpty()) {
+            return;
+        }
+
+        List<DiaryKeyword> rows = new ArrayList<>(keywords.size());
+        for (KeywordDictionary keyword : resolveKeywords(keywords)) {
+            rows.add(new DiaryKeyword(event.getDiaryId(), keyword, event.getSchoolCode(), event.getClassCode(),
+                    area, event.getDiaryDate()));
+        }
+        diaryKeywordRepository.saveAll(rows);
+
+        log.debug("Diary keywords indexed: diaryId={}, area={}, keywords={}", event.getDiaryId(), area, keywords);
+    }
+
+    /**
+     * 학급의 기간별 영역 상위 키워드
+     *
+     * @param limit 영역별 최대 키워드 수
+     * @return 감정 영역(소문자 red, yellow, blue, green) → 일기 수 많은 순 키워드 (없는 영역은 빈 목록)
+     */
+    public Map<String, List<String>> getTopAreaKeywords(String schoolCode, String classCode,
+                                                        LocalDate startDate, LocalDate endDate, int limit) {
+        Map<String, List<String>> topKeywords = new HashMap<>();
+        for (String area : AREAS) {
+            topKeywords.put(area.toLowerCase(), new ArrayList<>(limit));
+        }
+
+        // 영역별 일기 수 내림차순으로 정렬되어 있으므로 영역마다 앞에서 limit개만 사용
+        for (DiaryKeywordRepository.AreaKeywordCount count
+                : diaryKeywordRepository.countAreaKeywords(schoolCode, classCode, startDate, endDate)) {
+            List<String> keywords = topKeywords.get(count.getArea().toLowerCase());
+            if (keywords != null && keywords.size() < limit) {
+                keywords.add(count.getKeyword());
+            }
+        }
+
+        return topKeywords;
+    }
+
+    /**
+     * 키워드 사전 ID 조회 (없는 키워드는 등록 후 공유 잠금으로 조회)
+     * - INSERT IGNORE가 무시된 키워드는 다른 트랜잭션이 등록한 것이므로 스냅샷이 아닌 최신 커밋 값을 읽어야 함
+     * - 그래도 조회되지 않는 키워드가 있으면 색인이 누락되지 않도록 예외 (일기 변경 트랜잭션 롤백)
+     */
+    private List<KeywordDictionary> resolveKeywords(List<String> keywords) {
+        List<KeywordDictionary> resolved = new ArrayList<>(keywordDictionaryRepository.findByKeywordIn(keywords));
+        if (resolved.size() == keywords.size()) {
+            return resolved;
+        }
+
+        Set<String> known = resolved.stream()
+                .map(KeywordDictionary::getKeyword)
+                .collect(Collectors.toSet());
+        List<String> missing = keywords.stream()
+                .filter(keyword -> !known.contains(keyword))
+                .collect(Collectors.toList());
+
+        missing.forEach(keywordDictionaryRepository::insertIfAbsent);
+        List<KeywordDictionary> inserted = keywordDictionaryRepository.findForShareByKeywordIn(missing);
+        if (inserted.size() != missing.size()) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "키워드 사전 등록 후 조회되지 않은 키워드가 있습니다: " + missing);
+        }
+        resolved.addAll(inserted);
+        return resolved;
+    }
+
+    /**
+     * 쉼표 구분 키워드 파싱 (공백 제거, 빈 값/중복/최대 길이 초과 제외)
+     */
+    private List<String> parseKeywords(String keywords) {
+        if (keywords == null || keywords.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keywords.split(","))
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty() && keyword.length() <= KeywordDictionary.MAX_LENGTH)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private String areaOf(String emotionCode) {
+        if (emotionCode == null) {
+            return null;
+        }
+        Emotion emotion = emotionCacheService.getEmotion(emotionCode);
+        if (emotion == null || emotion.getArea() == null) {
+            return null;
+        }
+        String area = emotion.getArea().toUpperCase();
+        return AREAS.contains(area) ? area : null;
+    }
+}
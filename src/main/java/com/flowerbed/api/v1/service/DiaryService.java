@@ -1,9 +1,11 @@
 package com.flowerbed.api.v1.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.flowerbed.api.v1.domain.Diary;
 import com.flowerbed.api.v1.domain.Emotion;
 import com.flowerbed.api.v1.domain.User;
 import com.flowerbed.api.v1.dto.*;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
 import com.flowerbed.exception.business.BusinessException;
 import com.flowerbed.exception.business.DiaryNotFoundException;
 import com.flowerbed.exception.ErrorCode;
@@ -14,13 +16,20 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 
@@ -42,6 +51,8 @@ public class DiaryService {
     private final DiaryEmotionService emotionService;  // 실제 Claude API 분석
     private final DiaryEmotionTestService emotionTestService;  // 테스트용 랜덤 분석
     private final RiskAnalysisService riskAnalysisService;  // 위험도 분석
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;  // 일기 변경 이벤트 (주별 집계 갱신)
 
     /**
      * 일기 작성 (감정 분석 X, 내용만 저장)
@@ -74,6 +85,8 @@ public class DiaryService {
             log.info("Diary created: diaryId={}, userId={}, date={}",
                     savedDiary.getDiaryId(), userSn, request.getDiaryDate());
 
+            eventPublisher.publishEvent(DiaryChangedEvent.created(savedDiary));
+
             return convertToResponse(savedDiary);
 
         } catch (DataIntegrityViolationException e) {
@@ -86,9 +99,50 @@ public class DiaryService {
      * 일기 감정 분석 (실제 Claude API 사용)
      * - emotionService.analyzeDiary() 호출하여 LLM 분석
      * - 분석 결과를 일기에 저장
+     *
+     * 트랜잭션 분리:
+     * - LLM 호출(수 초)동안 DB 커넥션을 점유하지 않도록 짧은 읽기/쓰기 트랜잭션으로 나눔
+     * - 1) 읽기: 일기/권한 확인, 분석 대상 내용과 버전 확보
+     * - 2) LLM 호출 (트랜잭션 밖)
+     * - 3) 쓰기: 버전 확인 후 분석 결과 저장, 감정 조절 팁, 위험도 체크
+     * - 분석 중 일기가 수정/삭제되면 409 (DIARY_MODIFIED_DURING_ANALYSIS)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryResponse analyzeDiaryEmotion(Long userId, Long diaryId) {
+        return analyzeDiaryEmotion(userId, diaryId, null);
+    }
+
+    /**
+     * 일기 감정 분석 (LLM 스트리밍)
+     * - fieldListener가 있으면 LLM 응답을 스트리밍으로 받아, 완성된 필드부터 콜백으로 전달
+     * - 저장/트랜잭션 처리는 analyzeDiaryEmotion(userId, diaryId)와 동일
+     *
+     * @param fieldListener LLM 응답 최상위 필드 수신 콜백 (null이면 일반 호출)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DiaryResponse analyzeDiaryEmotion(Long userId, Long diaryId, BiConsumer<String, JsonNode> fieldListener) {
+
+        // 1. 분석 대상 조회 (읽기 트랜잭션)
+        AnalysisTarget target = inTransaction(true, status -> loadAnalysisTarget(userId, diaryId));
+
+        // 2. 감정 분석 수행 (트랜잭션 밖에서 LLM 호출)
+        DiaryEmotionResponse emotionResponse = fieldListener == null
+                ? emotionService.analyzeDiary(target.getContent(), target.isNeedRiskAnalysis())
+                : emotionService.analyzeDiaryStreaming(target.getContent(), target.isNeedRiskAnalysis(), fieldListener);
+
+        // 3. 분석 결과 저장 (쓰기 트랜잭션)
+        try {
+            return inTransaction(false, status -> saveAnalysisResult(userId, diaryId, target.getVersion(), emotionResponse));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Diary modified during analysis (flush conflict): diaryId={}", diaryId);
+            throw new BusinessException(ErrorCode.DIARY_MODIFIED_DURING_ANALYSIS);
+        }
+    }
+
+    /**
+     * 분석 대상 일기 조회 (읽기 트랜잭션 내부)
+     */
+    private AnalysisTarget loadAnalysisTarget(Long userId, Long diaryId) {
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(DiaryNotFoundException::new);
@@ -101,8 +155,24 @@ public class DiaryService {
         // 위험도 분석 필요 여부 판단 (최신 일기인 경우만 true)
         boolean needRiskAnalysis = isLatestDiary(diary);
 
-        // 감정 분석 수행
-        DiaryEmotionResponse emotionResponse = emotionService.analyzeDiary(diary.getContent(), needRiskAnalysis);
+        return new AnalysisTarget(diary.getContent(), diary.getVersion(), needRiskAnalysis);
+    }
+
+    /**
+     * 분석 결과 저장 (쓰기 트랜잭션 내부)
+     * - 읽기 시점 이후 일기가 변경되었으면 저장하지 않음
+     */
+    private DiaryResponse saveAnalysisResult(Long userId, Long diaryId, Long expectedVersion,
+                                             DiaryEmotionResponse emotionResponse) {
+
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_MODIFIED_DURING_ANALYSIS));
+
+        if (!diary.getVersion().equals(expectedVersion)) {
+            log.warn("Diary modified during analysis: diaryId={}, expectedVersion={}, currentVersion={}",
+                    diaryId, expectedVersion, diary.getVersion());
+            throw new BusinessException(ErrorCode.DIARY_MODIFIED_DURING_ANALYSIS);
+        }
 
         // 분석 결과 저장 (color, emotionNameKr 포함)
         List<Diary.EmotionPercent> emotionsJson = emotionResponse.getEmotions().stream()
@@ -133,6 +203,9 @@ public class DiaryService {
         }
 
         // 꽃 정보는 DB에서 조회 (LLM 응답에서 제거됨)
+        boolean previouslyAnalyzed = diary.getIsAnalyzed();
+        String previousEmotionCode = diary.getCoreEmotionCode();
+
         diary.updateAnalysis(
                 emotionResponse.getSummary(),
                 emotionCode,
@@ -143,6 +216,8 @@ public class DiaryService {
                 keywords
         );
 
+        eventPublisher.publishEvent(DiaryChangedEvent.updated(diary, previouslyAnalyzed, previousEmotionCode));
+
         log.info("Diary emotion analyzed: diaryId={}, coreEmotionCode={}, keywords={}",
                 diaryId, emotionResponse.getCoreEmotion(), keywords);
 
@@ -159,6 +234,9 @@ public class DiaryService {
                 emotionResponse.getConcernKeywords()
         );
 
+        // 버전 충돌을 이 시점에 감지하고, 응답에 updatedAt 반영
+        diaryRepository.flush();
+
         return convertToResponse(diary, tipInfo);
     }
 
@@ -207,6 +285,9 @@ public class DiaryService {
         String flowerName = coreEmotion != null ? coreEmotion.getFlowerNameKr() : null;
         String flowerMeaning = coreEmotion != null ? coreEmotion.getFlowerMeaning() : null;
 
+        boolean previouslyAnalyzed = diary.getIsAnalyzed();
+        String previousEmotionCode = diary.getCoreEmotionCode();
+
         diary.updateAnalysis(
                 emotionResponse.getSummary(),
                 emotionCode,
@@ -217,6 +298,8 @@ public class DiaryService {
                 keywords
         );
 
+        eventPublisher.publishEvent(DiaryChangedEvent.updated(diary, previouslyAnalyzed, previousEmotionCode));
+
         log.info("Diary emotion analyzed (TEST MODE): diaryId={}, coreEmotionCode={}, area={}, keywords={}",
                 diaryId, emotionCode, area, keywords);
 
@@ -237,6 +320,20 @@ public class DiaryService {
         return convertToResponse(diary, tipInfo);
     }
 
+    /**
+     * 일기 존재 및 권한 확인 (비동기 분석 요청 접수용)
+     */
+    public void checkDiaryOwner(Long userId, Long diaryId) {
+
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(DiaryNotFoundException::new);
+
+        // 권한 확인
+        if (!diary.getUser().getUserSn().equals(userId)) {
+            throw new BusinessException(ErrorCode.DIARY_NOT_FOUND);
+        }
+    }
+
     /**
      * 일기 상세 조회
      */
@@ -304,8 +401,12 @@ public class DiaryService {
         }
 
         // 내용 수정 (분석 정보는 초기화)
+        boolean previouslyAnalyzed = diary.getIsAnalyzed();
+        String previousEmotionCode = diary.getCoreEmotionCode();
         diary.updateContent(request.getContent());
 
+        eventPublisher.publishEvent(DiaryChangedEvent.updated(diary, previouslyAnalyzed, previousEmotionCode));
+
         log.info("Diary updated: diaryId={}", diaryId);
 
         return convertToResponse(diary);
@@ -325,6 +426,7 @@ public class DiaryService {
             throw new BusinessException(ErrorCode.DIARY_NOT_FOUND);
         }
 
+        eventPublisher.publishEvent(DiaryChangedEvent.deleted(diary));
         diaryRepository.delete(diary); // Soft Delete (@SQLDelete 적용)
 
         log.info("Diary deleted: diaryId={}", diaryId);
@@ -677,6 +779,26 @@ public class DiaryService {
         return !diary.getDiaryDate().isBefore(riskTargetDate);
     }
 
+    /**
+     * 트랜잭션 템플릿 실행 (LLM 호출 전후의 짧은 트랜잭션용)
+     */
+    private <T> T inTransaction(boolean readOnly, TransactionCallback<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(action);
+    }
+
+    /**
+     * 감정 분석 대상 정보 (읽기 트랜잭션 → LLM 호출 → 쓰기 트랜잭션 간 전달)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class AnalysisTarget {
+        private String content;            // 분석할 일기 내용
+        private Long version;              // 읽기 시점의 일기 버전
+        private boolean needRiskAnalysis;  // 위험도 분석 필요 여부
+    }
+
     /**
      * 감정 조절 팁 정보를 담는 내부 클래스
      */
@@ -1,11 +1,13 @@
 package com.flowerbed.api.v1.service;
 
 import com.flowerbed.api.v1.domain.Emotion;
+import com.flowerbed.api.v1.event.EmotionCacheEvictedEvent;
 import com.flowerbed.api.v1.repository.FlowerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ import java.util.List;
 public class EmotionCacheService {
 
     private final FlowerRepository flowerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 감정 코드로 조회 (캐싱)
@@ -55,10 +58,12 @@ public class EmotionCacheService {
     /**
      * 감정 캐시 전체 삭제
      * - 감정/꽃 마스터 데이터 업데이트 시 사용
+     * - 캐시를 먼저 비운 뒤 EmotionCacheEvictedEvent 발행 → 프롬프트 템플릿이 새 감정 정보로 다시 컴파일됨
      */
-    @CacheEvict(value = "emotion", allEntries = true)
+    @CacheEvict(value = "emotion", allEntries = true, beforeInvocation = true)
     public void evictAllEmotionCache() {
         log.info("All emotion cache evicted");
+        eventPublisher.publishEvent(new EmotionCacheEvictedEvent());
     }
 
     /**
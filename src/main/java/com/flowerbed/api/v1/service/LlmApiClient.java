@@ -1,10 +1,12 @@
 package com.flowerbed.api.v1.service;
 
+import java.util.function.Consumer;
+
 /**
  * LLM API 클라이언트 인터페이스
  * - Claude, OpenAI 등 다양한 LLM 제공자를 추상화
- * - 구현체: ClaudeApiClient, OpenAiApiClient
- * - application.yml의 llm.provider 설정으로 전환 가능
+ * - 구현체: ClaudeApiClient, OpenAiApiClient, RoutingLlmApiClient(@Primary, 제공자 라우팅/장애 전환)
+ * - application.yml의 llm.provider 설정이 우선 제공자
  */
 public interface LlmApiClient {
 
@@ -14,4 +16,30 @@ public interface LlmApiClient {
      * @return LLM 응답 텍스트
      */
     String call(String prompt);
+
+    /**
+     * system 프롬프트와 user 프롬프트를 분리하여 LLM API 호출
+     * - system 프롬프트는 매 요청 동일한 정적 prefix (제공자 프롬프트 캐시 대상)
+     * - 분리 전송을 지원하지 않는 구현체는 하나의 프롬프트로 합쳐 호출
+     *
+     * @param systemPrompt 정적 지시사항 (감정 정보표 등)
+     * @param userPrompt 동적 입력 데이터 (일기 내용 등)
+     * @return LLM 응답 텍스트
+     */
+    default String call(String systemPrompt, String userPrompt) {
+        return call(systemPrompt + "\n\n" + userPrompt);
+    }
+
+    /**
+     * system / user 프롬프트로 LLM API 스트리밍 호출
+     * - 응답 텍스트 조각을 도착하는 즉시 onText로 전달 (호출 스레드에서 스트림 종료까지 대기)
+     * - 스트리밍을 지원하지 않는 구현체는 전체 응답을 한 번에 전달
+     *
+     * @param systemPrompt 정적 지시사항 (감정 정보표 등)
+     * @param userPrompt 동적 입력 데이터 (일기 내용 등)
+     * @param onText 응답 텍스트 조각 수신 콜백
+     */
+    default void stream(String systemPrompt, String userPrompt, Consumer<String> onText) {
+        onText.accept(call(systemPrompt, userPrompt));
+    }
 }
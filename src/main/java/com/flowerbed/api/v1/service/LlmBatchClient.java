@@ -0,0 +1,72 @@
+package com.flowerbed.api.v1.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * LLM Batch API 클라이언트 인터페이스
+ * - 다수의 요청을 하나의 배치 작업으로 제출하고 완료 후 결과를 일괄 수신 (실시간 호출 대비 비용 절감)
+ * - 구현체: ClaudeBatchClient (Message Batches), OpenAiBatchClient (Batch API)
+ * - 요청/결과는 custom_id로 매칭 (영문, 숫자, -, _ 64자 이내)
+ */
+public interface LlmBatchClient {
+
+    /**
+     * 제공자 이름 (claude / openai)
+     */
+    String getProvider();
+
+    /**
+     * 배치 제출
+     *
+     * @param systemPrompt 모든 요청에 공통으로 사용할 system 프롬프트
+     * @param userPrompts custom_id → user 프롬프트
+     * @return 배치 ID
+     */
+    String submit(String systemPrompt, Map<String, String> userPrompts);
+
+    /**
+     * 배치 진행 상태 조회
+     */
+    BatchState getState(String batchId);
+
+    /**
+     * 배치 결과 조회 (완료된 배치만)
+     * - 결과 파일을 한 줄씩 읽어 호출 스레드에서 onResult로 전달
+     */
+    void fetchResults(String batchId, Consumer<BatchResult> onResult);
+
+    /**
+     * 배치 취소 (이미 처리된 요청의 결과는 유지)
+     */
+    void cancel(String batchId);
+
+    /**
+     * 배치 진행 상태
+     */
+    enum BatchState {
+        IN_PROGRESS,  // 처리 중 (취소 중 포함)
+        ENDED,        // 처리 종료 (만료/취소된 경우 그 전에 처리된 결과만 존재)
+        FAILED        // 배치 자체 실패 (결과 없음)
+    }
+
+    /**
+     * 요청별 배치 결과
+     * - 성공: content에 LLM 응답 텍스트, error는 null
+     * - 실패: content는 null, error에 실패 사유
+     */
+    @Getter
+    @AllArgsConstructor
+    class BatchResult {
+        private final String customId;
+        private final String content;
+        private final String error;
+
+        public boolean isSucceeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.dto.LlmLimiterStatsResponse;
+import com.flowerbed.config.LlmLimiterConfig;
+import com.flowerbed.exception.ErrorCode;
+import com.flowerbed.exception.business.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LLM API 호출 동시성 제한 (제공자별)
+ * - 인스턴스: 적응형 동시 호출 한도 (AIMD)
+ *   · 정상 응답: 한도 += 1/한도 (한도만큼 성공하면 +1)
+ *   · 429/529 응답: 한도 × backoffRatio
+ *   · 응답 지연(latencyThreshold 초과): 한도 × latencyBackoffRatio
+ * - 전체 인스턴스: Redis 토큰 버킷으로 초당 호출 수 제한, 429/529 응답 시 쿨다운 공유
+ * - 한도를 넘는 호출은 실패시키지 않고 queueTimeout까지 대기 (초과 시 LLM_BUSY)
+ * - Redis 장애 시 인스턴스 한도만 적용 (fail-open)
+ */
+@Slf4j
+@Component
+public class LlmConcurrencyLimiter {
+
+    private static final String BUCKET_KEY_PREFIX = "LLM:bucket:";
+    private static final String COOLDOWN_KEY_PREFIX = "LLM:cooldown:";
+
+    private final LlmLimiterConfig config;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DefaultRedisScript<Long> tokenBucketScript;
+
+    private final Map<String, AdaptiveLimit> limits = new ConcurrentHashMap<>();
+
+    public LlmConcurrencyLimiter(LlmLimiterConfig config, StringRedisTemplate stringRedisTemplate) {
+        this.config = config;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenBucketScript = new DefaultRedisScript<>();
+        this.tokenBucketScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/llm-token-bucket.lua")));
+        this.tokenBucketScript.setResultType(Long.class);
+    }
+
+    /**
+     * 동시성 제한 하에서 LLM 호출 실행
+     *
+     * @param provider LLM 제공자 (claude / openai)
+     * @param call 실제 HTTP 호출 (WebClientResponseException을 그대로 던져야 429/529 감지 가능)
+     */
+    public <T> T execute(String provider, Supplier<T> call) {
+        if (!config.getEnabled()) {
+            return call.get();
+        }
+
+        AdaptiveLimit limit = limits.computeIfAbsent(provider, k -> new AdaptiveLimit(config));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getQueueTimeout());
+
+        // 1. 전체 인스턴스 토큰 획득 (호출 속도 제한)
+        //    permit을 잡기 전에 대기 (토큰을 기다리는 동안 인스턴스 동시 호출 자리를 차지하지 않음)
+        acquireClusterToken(provider, limit, deadline);
+
+        // 2. 인스턴스 동시 호출 permit 획득 (한도 초과 시 대기)
+        limit.acquire(provider, deadline);
+        try {
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                limit.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return result;
+
+            } catch (WebClientResponseException e) {
+                if (isOverloaded(e)) {
+                    limit.onOverload();
+                    startClusterCooldown(provider, e);
+                    log.warn("LLM provider overloaded: provider={}, status={}, limit={}",
+                            provider, e.getStatusCode().value(), limit.currentLimit());
+                }
+                throw e;
+
+            } catch (RuntimeException e) {
+                // 타임아웃 등 응답 지연으로 실패한 경우도 지연 신호로 반영
+                limit.onFailure(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                throw e;
+            }
+        } finally {
+            limit.release();
+        }
+    }
+
+    /**
+     * 제공자별 동시성 제한 현황
+     */
+    public LlmLimiterStatsResponse getStats() {
+        List<LlmLimiterStatsResponse.ProviderLimit> providers = limits.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .toList();
+
+        return LlmLimiterStatsResponse.builder()
+                .enabled(config.getEnabled())
+                .clusterEnabled(config.getClusterEnabled())
+                .providers(providers)
+                .build();
+    }
+
+    /**
+     * Redis 토큰 버킷에서 토큰 획득
+     * - 토큰이 없으면 버킷이 알려준 시간만큼 대기 후 재시도
+     * - 인스턴스 permit을 잡기 전에 호출 (쿨다운/속도 제한 대기 중에는 동시 호출 한도를 차지하지 않음)
+     */
+    private void acquireClusterToken(String provider, AdaptiveLimit limit, long deadline) {
+        if (!config.getClusterEnabled()) {
+            return;
+        }
+
+        while (true) {
+            Long waitMillis;
+            try {
+                waitMillis = stringRedisTemplate.execute(tokenBucketScript,
+                        List.of(BUCKET_KEY_PREFIX + "{" + provider + "}", COOLDOWN_KEY_PREFIX + "{" + provider + "}"),
+                        String.valueOf(config.getClusterRatePerSecond()),
+                        String.valueOf(config.getClusterBurst()));
+            } catch (Exception e) {
+                log.warn("LLM token bucket unavailable, skipping cluster limit: provider={}, error={}", provider, e.getMessage());
+                return;
+            }
+
+            if (waitMillis == null || waitMillis <= 0) {
+                return;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (waitMillis > remainingMillis) {
+                limit.onRejected();
+                log.warn("LLM call rejected (cluster rate limit): provider={}, wait={}ms", provider, waitMillis);
+                throw new BusinessException(ErrorCode.LLM_BUSY);
+            }
+
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.LLM_BUSY);
+            }
+        }
+    }
+
+    /**
+     * 429/529 응답 시 전체 인스턴스 쿨다운 설정 (Retry-After 우선)
+     */
+    private void startClusterCooldown(String provider, WebClientResponseException e) {
+        if (!config.getClusterEnabled()) {
+            return;
+        }
+
+        long cooldownMillis = config.getOverloadCooldown();
+        String retryAfter = e.getHeaders().getFirst("retry-after");
+        if (retryAfter != null) {
+            try {
+                cooldownMillis = Math.max(cooldownMillis, Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 기본 쿨다운 사용
+            }
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(COOLDOWN_KEY_PREFIX + "{" + provider + "}", "1",
+                    cooldownMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            log.warn("Failed to set LLM cooldown: provider={}, error={}", provider, ex.getMessage());
+        }
+    }
+
+    /**
+     * 제공자 과부하 응답 여부 (429 Too Many Requests, 529 Overloaded)
+     */
+    private boolean isOverloaded(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        return status == 429 || status == 529;
+    }
+
+    /**
+     * 인스턴스 내 적응형 동시 호출 한도 (제공자별)
+     */
+    private static class AdaptiveLimit {
+
+        private final LlmLimiterConfig config;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+
+        private double limit;
+        private int inFlight;
+        private int queued;
+        private long completed;
+        private long rejected;
+        private long overloads;
+        private long lastLatencyMs;
+
+        private AdaptiveLimit(LlmLimiterConfig config) {
+            this.config = config;
+            this.limit = config.getInitialLimit();
+        }
+
+        /**
+         * permit 획득 (한도 초과 시 deadline까지 대기)
+         */
+        private void acquire(String provider, long deadline) {
+            lock.lock();
+            try {
+                if (inFlight < currentLimit()) {
+                    inFlight++;
+                    return;
+                }
+
+                if (queued >= config.getMaxQueueSize()) {
+                    rejected++;
+                    log.warn("LLM call rejected (queue full): provider={}, queued={}", provider, queued);
+                    throw new BusinessException(ErrorCode.LLM_BUSY);
+                }
+
+                queued++;
+                try {
+                    while (inFlight >= currentLimit()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            rejected++;
+                            log.warn("LLM call rejected (queue timeout): provider={}, limit={}, inFlight={}",
+                                    provider, currentLimit(), inFlight);
+                            throw new BusinessException(ErrorCode.LLM_BUSY);
+                        }
+                        available.awaitNanos(remaining);
+                    }
+                    inFlight++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BusinessException(ErrorCode.LLM_BUSY);
+                } finally {
+                    queued--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 정상 응답: 지연이 기준 이하면 한도 증가, 초과면 감소
+         */
+        private void onSuccess(long latencyMs) {
+            lock.lock();
+            try {
+                completed++;
+                lastLatencyMs = latencyMs;
+                if (latencyMs > config.getLatencyThreshold()) {
+                    limit = Math.max(config.getMinLimit(), limit * config.getLatencyBackoffRatio());
+                } else {
+                    int before = currentLimit();
+                    limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                    if (currentLimit() > before) {
+                        available.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 기타 실패: 응답 지연으로 실패한 경우만 한도 감소
+         */
+        private void onFailure(long latencyMs) {
+            if (latencyMs <= config.getLatencyThreshold()) {
+                return;
+            }
+            lock.lock();
+            try {
+                lastLatencyMs = latencyMs;
+                limit = Math.max(config.getMinLimit(), limit * config.getLatencyBackoffRatio());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 429/529 응답: 한도 감소
+         */
+        private void onOverload() {
+            lock.lock();
+            try {
+                overloads++;
+                limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onRejected() {
+            lock.lock();
+            try {
+                rejected++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int currentLimit() {
+            return (int) limit;
+        }
+
+        private LlmLimiterStatsResponse.ProviderLimit toResponse(String provider) {
+            lock.lock();
+            try {
+                return LlmLimiterStatsResponse.ProviderLimit.builder()
+                        .provider(provider)
+                        .limit(currentLimit())
+                        .inFlight(inFlight)
+                        .queued(queued)
+                        .completed(completed)
+                        .rejected(rejected)
+                        .overloads(overloads)
+                        .lastLatencyMs(lastLatencyMs)
+                        .build();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.flowerbed.exception.business.LlmAnalysisException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * LLM 스트리밍 응답용 증분 JSON 파서
+ * - 텍스트 조각을 받는 즉시 Jackson non-blocking 파서에 공급
+ * - 최상위 필드 값이 완성될 때마다 fieldListener 호출 (예: summary, coreEmotion)
+ * - 파싱한 토큰은 TokenBuffer에 쌓아두고, 종료 시 문자열 재파싱 없이 DTO로 바인딩
+ *
+ * 첫 '{' 이전의 텍스트(```json 등)와 최상위 객체 종료 이후의 텍스트는 무시합니다.
+ * 파싱 오류가 나도 스트림은 중단하지 않고 이후 조각을 무시하며, complete() 시점에 예외를 던집니다.
+ * 스레드 안전하지 않음 (응답 하나당 인스턴스 하나)
+ */
+public class LlmJsonStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, JsonNode> fieldListener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer document;
+
+    private TokenBuffer fieldValue;  // 현재 읽고 있는 최상위 필드 값
+    private String currentField;
+    private int depth;
+    private boolean started;
+    private boolean completed;
+    private IOException failure;  // 파싱 오류 (이후 입력 무시)
+
+    public LlmJsonStreamParser(ObjectMapper objectMapper, BiConsumer<String, JsonNode> fieldListener) {
+        this.objectMapper = objectMapper;
+        this.fieldListener = fieldListener;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new LlmAnalysisException("LLM 응답 파서 생성에 실패했습니다", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.document = new TokenBuffer(objectMapper, false);
+    }
+
+    /**
+     * 응답 텍스트 조각 공급
+     */
+    public void feed(String chunk) {
+        if (completed || failure != null || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            chunk = chunk.substring(start);
+            started = true;
+        }
+
+        try {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * 스트림 종료 후 전체 응답을 DTO로 변환
+     */
+    public <T> T complete(Class<T> type) {
+        if (failure != null) {
+            throw new LlmAnalysisException("LLM 응답 JSON 파싱에 실패했습니다", failure);
+        }
+        if (!completed) {
+            throw new LlmAnalysisException("LLM 응답 JSON이 완전하지 않습니다");
+        }
+        try {
+            return objectMapper.readValue(document.asParser(), type);
+        } catch (IOException e) {
+            throw new LlmAnalysisException("LLM 응답 JSON 변환에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 공급된 바이트에서 읽을 수 있는 토큰 모두 처리
+     */
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            document.copyCurrentEvent(parser);
+
+            // 최상위 필드 시작
+            if (token == JsonToken.FIELD_NAME && depth == 1) {
+                currentField = parser.currentName();
+                fieldValue = new TokenBuffer(objectMapper, false);
+                continue;
+            }
+
+            if (fieldValue != null) {
+                fieldValue.copyCurrentEvent(parser);
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            // 값이 최상위 깊이로 돌아오면 필드 완성 (스칼라 값 또는 중첩 객체/배열 종료)
+            if (depth == 1 && fieldValue != null) {
+                JsonNode value = objectMapper.readTree(fieldValue.asParser());
+                fieldValue = null;
+                if (fieldListener != null) {
+                    fieldListener.accept(currentField, value);
+                }
+            }
+
+            if (depth == 0) {
+                completed = true;
+                feeder.endOfInput();
+            }
+        }
+    }
+}
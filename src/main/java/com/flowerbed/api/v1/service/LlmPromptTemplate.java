@@ -0,0 +1,143 @@
+package com.flowerbed.api.v1.service;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LLM 프롬프트 템플릿 (정적 system 프롬프트 + 동적 user 프롬프트)
+ *
+ * 프롬프트 파일의 입력 데이터 구간(예: [일기 내용 시작] ~ [일기 내용 끝])만 user 메시지로 보내고,
+ * 나머지 지시사항/감정 정보표는 매 요청 동일한 system 프롬프트로 분리합니다.
+ * - Anthropic: system 블록에 cache_control 지정 → 동일 prefix 재사용
+ * - OpenAI: 동일 prefix 자동 캐싱 (1024 토큰 이상)
+ *
+ * 템플릿은 초기화 시 한 번만 컴파일합니다.
+ * - 정적 값({EMOTION_MAPPINGS} 등)은 한 번의 순회로 치환
+ * - user 프롬프트는 입력 데이터 위치 기준 리터럴 조각 배열로 보관 → 요청마다 조각만 이어 붙임
+ * - version: 컴파일 결과 해시 (감정 정보 변경 시 달라짐, 분석 결과 캐시 키에 사용)
+ */
+public class LlmPromptTemplate {
+
+    @Getter
+    private final String systemPrompt;     // 정적 prefix (요청마다 동일해야 캐시 적중)
+    private final String[] userSegments;   // user 프롬프트 리터럴 조각 (조각 사이에 입력 데이터 삽입)
+    @Getter
+    private final String version;          // 컴파일된 템플릿 해시
+
+    private LlmPromptTemplate(String systemPrompt, String[] userSegments) {
+        this.systemPrompt = systemPrompt;
+        this.userSegments = userSegments;
+        this.version = DigestUtils.md5DigestAsHex(
+                (systemPrompt + '\u0000' + String.join("\u0000", userSegments)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 템플릿 컴파일 (정적 값 치환 + system / user 분리)
+     *
+     * @param template 프롬프트 템플릿 원본
+     * @param staticValues 정적 placeholder 값 (예: EMOTION_MAPPINGS → 감정 정보표), 중괄호 제외한 이름
+     * @param placeholder 동적 데이터 위치 (예: {DIARY_CONTENT})
+     */
+    public static LlmPromptTemplate compile(String template, Map<String, String> staticValues, String placeholder) {
+        return of(substitute(template, staticValues), placeholder);
+    }
+
+    /**
+     * 템플릿을 placeholder가 포함된 마지막 섹션 기준으로 분리
+     * - placeholder 직전의 빈 줄("\n\n") 이전까지: system 프롬프트
+     * - 그 이후 섹션: user 프롬프트 (placeholder 자리에 입력 데이터 삽입)
+     *
+     * @param template 감정 정보 등 정적 값이 모두 주입된 프롬프트 템플릿
+     * @param placeholder 동적 데이터 위치 (예: {DIARY_CONTENT})
+     */
+    public static LlmPromptTemplate of(String template, String placeholder) {
+        int placeholderIndex = template.indexOf(placeholder);
+        if (placeholderIndex < 0) {
+            throw new IllegalArgumentException("프롬프트 템플릿에 " + placeholder + " 가 없습니다");
+        }
+
+        int sectionStart = template.lastIndexOf("\n\n", placeholderIndex);
+        if (sectionStart < 0) {
+            sectionStart = placeholderIndex;
+        }
+
+        String systemPrompt = template.substring(0, sectionStart).strip();
+        String userTemplate = template.substring(sectionStart).strip();
+
+        // user 구간을 placeholder 기준으로 조각내기 (placeholder가 여러 번 나와도 모두 치환)
+        List<String> segments = new ArrayList<>();
+        int from = 0;
+        int index;
+        while ((index = userTemplate.indexOf(placeholder, from)) >= 0) {
+            segments.add(userTemplate.substring(from, index));
+            from = index + placeholder.length();
+        }
+        segments.add(userTemplate.substring(from));
+
+        return new LlmPromptTemplate(systemPrompt, segments.toArray(new String[0]));
+    }
+
+    /**
+     * 입력 데이터를 넣어 user 프롬프트 생성
+     * - 최종 길이로 미리 크기를 잡은 버퍼에 조각과 입력 데이터를 순서대로 추가
+     */
+    public String renderUserPrompt(String content) {
+        int length = content.length() * (userSegments.length - 1);
+        for (String segment : userSegments) {
+            length += segment.length();
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(userSegments[0]);
+        for (int i = 1; i < userSegments.length; i++) {
+            sb.append(content).append(userSegments[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정적 placeholder 일괄 치환 (한 번의 순회)
+     * - {대문자_이름} 형태 중 staticValues에 있는 것만 치환, 나머지(JSON 예시 중괄호 등)는 그대로 유지
+     */
+    private static String substitute(String template, Map<String, String> staticValues) {
+        StringBuilder sb = new StringBuilder(template.length() + staticValues.values().stream().mapToInt(String::length).sum());
+        int from = 0;
+        int open;
+        while ((open = template.indexOf('{', from)) >= 0) {
+            int close = placeholderEnd(template, open);
+            String value = close > 0 ? staticValues.get(template.substring(open + 1, close)) : null;
+
+            if (value == null) {
+                sb.append(template, from, open + 1);
+                from = open + 1;
+                continue;
+            }
+
+            sb.append(template, from, open).append(value);
+            from = close + 1;
+        }
+        sb.append(template, from, template.length());
+        return sb.toString();
+    }
+
+    /**
+     * '{' 위치에서 시작하는 placeholder의 '}' 위치 (이름이 대문자/숫자/_가 아니면 -1)
+     */
+    private static int placeholderEnd(String template, int open) {
+        for (int i = open + 1; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '}') {
+                return i > open + 1 ? i : -1;
+            }
+            if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '_') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
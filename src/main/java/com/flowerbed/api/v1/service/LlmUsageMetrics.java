@@ -0,0 +1,107 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.flowerbed.api.v1.dto.LlmUsageStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LLM 토큰 사용량 집계 (인스턴스 기동 이후 누적)
+ * - 제공자별 입력/출력 토큰, 프롬프트 캐시 적중 토큰 기록
+ * - 프롬프트 캐싱 효과(cachedInputTokens / inputTokens) 확인용
+ */
+@Slf4j
+@Component
+public class LlmUsageMetrics {
+
+    public static final String PROVIDER_CLAUDE = "claude";
+    public static final String PROVIDER_OPENAI = "openai";
+
+    private final Map<String, ProviderCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Anthropic Messages API usage 기록
+     * - input_tokens: 캐시 미적중 입력 토큰
+     * - cache_read_input_tokens: 캐시에서 읽은 입력 토큰
+     * - cache_creation_input_tokens: 캐시에 새로 기록한 입력 토큰
+     */
+    public void recordClaudeUsage(JsonNode usage) {
+        if (usage == null || usage.isMissingNode()) {
+            return;
+        }
+        long uncached = usage.path("input_tokens").asLong(0);
+        long cacheRead = usage.path("cache_read_input_tokens").asLong(0);
+        long cacheWrite = usage.path("cache_creation_input_tokens").asLong(0);
+        long output = usage.path("output_tokens").asLong(0);
+
+        record(PROVIDER_CLAUDE, uncached + cacheRead + cacheWrite, cacheRead, cacheWrite, output);
+    }
+
+    /**
+     * OpenAI Chat Completions API usage 기록
+     * - prompt_tokens: 전체 입력 토큰 (캐시 적중 포함)
+     * - prompt_tokens_details.cached_tokens: 캐시 적중 입력 토큰
+     */
+    public void recordOpenAiUsage(JsonNode usage) {
+        if (usage == null || usage.isMissingNode()) {
+            return;
+        }
+        long input = usage.path("prompt_tokens").asLong(0);
+        long cached = usage.path("prompt_tokens_details").path("cached_tokens").asLong(0);
+        long output = usage.path("completion_tokens").asLong(0);
+
+        record(PROVIDER_OPENAI, input, cached, 0, output);
+    }
+
+    /**
+     * 제공자별 사용량 통계
+     */
+    public LlmUsageStatsResponse getStats() {
+        List<LlmUsageStatsResponse.ProviderUsage> providers = counters.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .toList();
+
+        return LlmUsageStatsResponse.builder()
+                .providers(providers)
+                .build();
+    }
+
+    private void record(String provider, long inputTokens, long cachedInputTokens, long cacheWriteTokens, long outputTokens) {
+        ProviderCounters c = counters.computeIfAbsent(provider, k -> new ProviderCounters());
+        c.requests.incrementAndGet();
+        c.inputTokens.addAndGet(inputTokens);
+        c.cachedInputTokens.addAndGet(cachedInputTokens);
+        c.cacheWriteTokens.addAndGet(cacheWriteTokens);
+        c.outputTokens.addAndGet(outputTokens);
+
+        log.debug("LLM usage: provider={}, input={}, cachedInput={}, cacheWrite={}, output={}",
+                provider, inputTokens, cachedInputTokens, cacheWriteTokens, outputTokens);
+    }
+
+    private static class ProviderCounters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong inputTokens = new AtomicLong();
+        private final AtomicLong cachedInputTokens = new AtomicLong();
+        private final AtomicLong cacheWriteTokens = new AtomicLong();
+        private final AtomicLong outputTokens = new AtomicLong();
+
+        private LlmUsageStatsResponse.ProviderUsage toResponse(String provider) {
+            long input = inputTokens.get();
+            long cached = cachedInputTokens.get();
+            return LlmUsageStatsResponse.ProviderUsage.builder()
+                    .provider(provider)
+                    .requests(requests.get())
+                    .inputTokens(input)
+                    .cachedInputTokens(cached)
+                    .cacheWriteTokens(cacheWriteTokens.get())
+                    .outputTokens(outputTokens.get())
+                    .cachedInputRatio(input > 0 ? (double) cached / input : 0.0)
+                    .build();
+        }
+    }
+}
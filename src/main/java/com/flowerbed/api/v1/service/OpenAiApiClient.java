@@ -2,35 +2,51 @@ package com.flowerbed.api.v1.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerbed.config.LlmHttpConfig;
 import com.flowerbed.config.OpenAiConfig;
+import com.flowerbed.exception.business.BusinessException;
 import com.flowerbed.exception.business.LlmAnalysisException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.http.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * OpenAI API 호출 클라이언트
- * - OpenAI Chat Completions API와 HTTP 통신
+ * - OpenAI Chat Completions API와 HTTP 통신 (공용 커넥션 풀 WebClient 사용)
  * - 프롬프트 전송 및 응답 파싱
+ * - system 메시지를 정적 prefix로 분리 (자동 프롬프트 캐싱, 캐시 적중 토큰 기록)
+ * - 스트리밍 호출 지원 (stream=true, SSE 텍스트 조각 즉시 전달)
+ * - 모든 HTTP 호출은 LlmConcurrencyLimiter를 거침 (동시성/호출 속도 제한)
  * - OpenAiConfig에서 모델/토큰/온도 설정 로드
- * - llm.provider=openai일 때만 활성화
+ * - 제공자 선택/장애 전환은 RoutingLlmApiClient가 담당 (직접 주입하지 말 것)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@ConditionalOnProperty(name = "llm.provider", havingValue = "openai")
 public class OpenAiApiClient implements LlmApiClient {
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final String STREAM_DONE = "[DONE]";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
 
     private final OpenAiConfig config;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final LlmHttpConfig httpConfig;
+    private final WebClient llmWebClient;
+    private final LlmUsageMetrics usageMetrics;
+    private final LlmConcurrencyLimiter concurrencyLimiter;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -38,23 +54,69 @@ public class OpenAiApiClient implements LlmApiClient {
      */
     @Override
     public String call(String prompt) {
-        try {
-            HttpHeaders headers = createHeaders();
-            Map<String, Object> requestBody = createRequestBody(prompt);
+        return execute(createRequestBody(List.of(
+                Map.of("role", "user", "content", prompt)
+        )));
+    }
+
+    /**
+     * OpenAI API 호출 (system 메시지 분리)
+     * - 요청 앞부분이 동일하면 OpenAI가 자동으로 prefix 캐싱
+     */
+    @Override
+    public String call(String systemPrompt, String userPrompt) {
+        return execute(createRequestBody(systemPrompt, userPrompt));
+    }
+
+    /**
+     * OpenAI API 스트리밍 호출 (SSE)
+     * - choices[0].delta.content 텍스트를 도착 즉시 onText로 전달
+     * - stream_options.include_usage로 마지막 chunk의 usage 기록
+     */
+    @Override
+    public void stream(String systemPrompt, String userPrompt, Consumer<String> onText) {
+        Map<String, Object> requestBody = new HashMap<>(createRequestBody(systemPrompt, userPrompt));
+        requestBody.put("stream", true);
+        requestBody.put("stream_options", Map.of("include_usage", true));
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        try {
+            log.debug("Streaming OpenAI API with model: {}", config.getModel());
+
+            concurrencyLimiter.execute(LlmUsageMetrics.PROVIDER_OPENAI, () -> llmWebClient.post()
+                    .uri(config.getBaseUrl() + CHAT_COMPLETIONS_PATH)
+                    .headers(this::applyHeaders)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(SSE_EVENT_TYPE)
+                    .takeWhile(event -> !STREAM_DONE.equals(event.data()))
+                    .doOnNext(event -> handleStreamEvent(event, onText))
+                    .blockLast(Duration.ofMillis(httpConfig.getRequestTimeout())));
+
+        } catch (BusinessException e) {
+            throw e;  // 동시성 제한(LLM_BUSY), 스트림 중 처리된 예외는 그대로 throw
+        } catch (Exception e) {
+            log.error("OpenAI API streaming call failed", e);
+            throw new LlmAnalysisException("OpenAI API 호출에 실패했습니다", e);
+        }
+    }
 
+    private String execute(Map<String, Object> requestBody) {
+        try {
             log.debug("Calling OpenAI API with model: {}", config.getModel());
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    OPENAI_API_URL,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            String responseBody = concurrencyLimiter.execute(LlmUsageMetrics.PROVIDER_OPENAI, () -> llmWebClient.post()
+                    .uri(config.getBaseUrl() + CHAT_COMPLETIONS_PATH)
+                    .headers(this::applyHeaders)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(httpConfig.getRequestTimeout())));
 
-            return extractContent(response.getBody());
+            return extractContent(responseBody);
 
+        } catch (BusinessException e) {
+            throw e;  // 동시성 제한(LLM_BUSY), 응답 처리 예외는 그대로 throw
         } catch (Exception e) {
             log.error("OpenAI API call failed", e);
             throw new LlmAnalysisException("OpenAI API 호출에 실패했습니다", e);
@@ -64,22 +126,29 @@ public class OpenAiApiClient implements LlmApiClient {
     /**
      * HTTP 헤더 생성
      */
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
+    private void applyHeaders(HttpHeaders headers) {
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("Authorization", "Bearer " + config.getKey());
-        return headers;
+        headers.setBearerAuth(config.getKey());
+    }
+
+    /**
+     * 요청 바디 생성 (system / user 메시지)
+     * - OpenAiBatchClient에서 배치 요청별 body로 재사용
+     */
+    Map<String, Object> createRequestBody(String systemPrompt, String userPrompt) {
+        return createRequestBody(List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
     }
 
     /**
      * 요청 바디 생성
      */
-    private Map<String, Object> createRequestBody(String prompt) {
+    private Map<String, Object> createRequestBody(List<Map<String, String>> messages) {
         return Map.of(
                 "model", config.getModel(),
-                "messages", List.of(
-                        Map.of("role", "user", "content", prompt)
-                ),
+                "messages", messages,
                 "temperature", config.getTemperature(),
                 "max_tokens", config.getMaxTokens()
         );
@@ -89,8 +158,25 @@ public class OpenAiApiClient implements LlmApiClient {
      * 응답에서 content 추출
      */
     private String extractContent(String responseBody) {
+        JsonNode root;
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
+            root = objectMapper.readTree(responseBody);
+        } catch (Exception e) {
+            log.error("Failed to parse OpenAI API response", e);
+            throw new LlmAnalysisException("OpenAI API 응답 파싱에 실패했습니다", e);
+        }
+        return extractContent(root);
+    }
+
+    /**
+     * 응답(JSON)에서 content 추출
+     * - OpenAiBatchClient에서 배치 결과의 response.body에 재사용
+     */
+    String extractContent(JsonNode root) {
+        try {
+            // 토큰 사용량 기록 (프롬프트 캐시 적중 토큰 포함)
+            usageMetrics.recordOpenAiUsage(root.path("usage"));
+
             JsonNode content = root.path("choices").get(0).path("message").path("content");
 
             if (content.isMissingNode()) {
@@ -104,4 +190,38 @@ public class OpenAiApiClient implements LlmApiClient {
             throw new LlmAnalysisException("OpenAI API 응답 파싱에 실패했습니다", e);
         }
     }
+
+    /**
+     * 스트리밍 chunk 처리
+     * - 마지막 chunk는 choices가 비어 있고 usage만 포함
+     */
+    private void handleStreamEvent(ServerSentEvent<String> event, Consumer<String> onText) {
+        String data = event.data();
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(data);
+        } catch (Exception e) {
+            throw new LlmAnalysisException("OpenAI API 스트리밍 응답 파싱에 실패했습니다", e);
+        }
+
+        JsonNode choice = root.path("choices").path(0);
+        JsonNode content = choice.path("delta").path("content");
+        if (content.isTextual()) {
+            onText.accept(content.asText());
+        }
+
+        if ("length".equals(choice.path("finish_reason").asText())) {
+            log.warn("OpenAI API 응답이 max_tokens로 인해 잘렸습니다: model={}, max-tokens={}",
+                    config.getModel(), config.getMaxTokens());
+        }
+
+        JsonNode usage = root.path("usage");
+        if (usage.isObject()) {
+            usageMetrics.recordOpenAiUsage(usage);
+        }
+    }
 }
@@ -0,0 +1,229 @@
+package com.flowerbed.api.v1.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowerbed.config.LlmBatchConfig;
+import com.flowerbed.config.OpenAiConfig;
+import com.flowerbed.exception.business.LlmAnalysisException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI Batch API 클라이언트
+ * - 요청 JSONL 파일 업로드 (POST /v1/files, purpose=batch) 후 배치 생성 (POST /v1/batches)
+ * - GET /v1/batches/{id} 로 상태 조회
+ * - 완료 시 output_file / error_file의 JSONL 결과를 한 줄씩 처리 (GET /v1/files/{id}/content)
+ * - 결과 body는 OpenAiApiClient와 동일하게 파싱 (토큰 사용량 기록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenAiBatchClient implements LlmBatchClient {
+
+    private static final String FILES_PATH = "/v1/files";
+    private static final String BATCHES_PATH = "/v1/batches";
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+
+    // 처리 종료 상태 (expired / cancelled는 그 전에 처리된 요청의 결과만 존재, 이미 과금되었으므로 결과 반영)
+    private static final Set<String> ENDED_STATUSES = Set.of("completed", "expired", "cancelled");
+    private static final Set<String> FAILED_STATUSES = Set.of("failed");
+
+    private final OpenAiConfig config;
+    private final LlmBatchConfig batchConfig;
+    private final OpenAiApiClient openAiApiClient;
+    private final WebClient llmWebClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String getProvider() {
+        return LlmUsageMetrics.PROVIDER_OPENAI;
+    }
+
+    @Override
+    public String submit(String systemPrompt, Map<String, String> userPrompts) {
+        try {
+            // 1. 요청 JSONL 파일 업로드
+            String inputFileId = uploadInputFile(systemPrompt, userPrompts);
+
+            // 2. 배치 생성
+            String responseBody = llmWebClient.post()
+                    .uri(baseUrl() + BATCHES_PATH)
+                    .headers(this::applyHeaders)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of(
+                            "input_file_id", inputFileId,
+                            "endpoint", CHAT_COMPLETIONS_PATH,
+                            "completion_window", batchConfig.getCompletionWindow()
+                    ))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+
+            String batchId = objectMapper.readTree(responseBody).path("id").asText();
+            log.info("OpenAI batch submitted: batchId={}, inputFileId={}, requests={}",
+                    batchId, inputFileId, userPrompts.size());
+            return batchId;
+
+        } catch (Exception e) {
+            log.error("OpenAI batch submit failed: requests={}", userPrompts.size(), e);
+            throw new LlmAnalysisException("OpenAI 배치 제출에 실패했습니다", e);
+        }
+    }
+
+    @Override
+    public BatchState getState(String batchId) {
+        JsonNode batch = getBatch(batchId);
+        String status = batch.path("status").asText();
+        log.debug("OpenAI batch status: batchId={}, status={}, counts={}", batchId, status, batch.path("request_counts"));
+
+        if (ENDED_STATUSES.contains(status)) {
+            return BatchState.ENDED;
+        }
+        if (FAILED_STATUSES.contains(status)) {
+            log.error("OpenAI batch failed: batchId={}, status={}, errors={}", batchId, status, batch.path("errors"));
+            return BatchState.FAILED;
+        }
+        return BatchState.IN_PROGRESS;
+    }
+
+    @Override
+    public void fetchResults(String batchId, Consumer<BatchResult> onResult) {
+        JsonNode batch = getBatch(batchId);
+
+        // 성공 결과와 실패 결과가 별도 파일로 제공됨
+        for (String fileField : new String[]{"output_file_id", "error_file_id"}) {
+            String fileId = batch.path(fileField).asText(null);
+            if (!StringUtils.hasText(fileId)) {
+                continue;
+            }
+
+            Iterable<String> lines = llmWebClient.get()
+                    .uri(baseUrl() + FILES_PATH + "/" + fileId + "/content")
+                    .headers(this::applyHeaders)
+                    .retrieve()
+                    .bodyToFlux(String.class)
+                    .timeout(Duration.ofMillis(batchConfig.getRequestTimeout()))
+                    .toIterable();
+
+            for (String line : lines) {
+                if (StringUtils.hasText(line)) {
+                    onResult.accept(toBatchResult(line));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        llmWebClient.post()
+                .uri(baseUrl() + BATCHES_PATH + "/" + batchId + "/cancel")
+                .headers(this::applyHeaders)
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+        log.info("OpenAI batch cancel requested: batchId={}", batchId);
+    }
+
+    /**
+     * 요청 JSONL 파일 업로드
+     * - 한 줄에 요청 하나: {custom_id, method, url, body}
+     */
+    private String uploadInputFile(String systemPrompt, Map<String, String> userPrompts) throws Exception {
+        StringBuilder jsonl = new StringBuilder();
+        for (Map.Entry<String, String> entry : userPrompts.entrySet()) {
+            jsonl.append(objectMapper.writeValueAsString(Map.of(
+                    "custom_id", entry.getKey(),
+                    "method", "POST",
+                    "url", CHAT_COMPLETIONS_PATH,
+                    "body", openAiApiClient.createRequestBody(systemPrompt, entry.getValue())
+            ))).append('\n');
+        }
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("purpose", "batch");
+        builder.part("file", new ByteArrayResource(jsonl.toString().getBytes(StandardCharsets.UTF_8)))
+                .filename("weekly-report-batch.jsonl");
+
+        String responseBody = llmWebClient.post()
+                .uri(baseUrl() + FILES_PATH)
+                .headers(this::applyHeaders)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+
+        return objectMapper.readTree(responseBody).path("id").asText();
+    }
+
+    private JsonNode getBatch(String batchId) {
+        try {
+            String responseBody = llmWebClient.get()
+                    .uri(baseUrl() + BATCHES_PATH + "/" + batchId)
+                    .headers(this::applyHeaders)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(Duration.ofMillis(batchConfig.getRequestTimeout()));
+            return objectMapper.readTree(responseBody);
+
+        } catch (Exception e) {
+            throw new LlmAnalysisException("OpenAI 배치 상태 조회에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 결과 한 줄 변환
+     * - {custom_id, response: {status_code, body}, error}
+     */
+    private BatchResult toBatchResult(String line) {
+        String customId = null;
+        try {
+            JsonNode root = objectMapper.readTree(line);
+            customId = root.path("custom_id").asText();
+
+            JsonNode error = root.path("error");
+            if (!error.isMissingNode() && !error.isNull()) {
+                return new BatchResult(customId, null, error.path("message").asText(error.toString()));
+            }
+
+            JsonNode response = root.path("response");
+            int statusCode = response.path("status_code").asInt();
+            if (statusCode != 200) {
+                String message = response.path("body").path("error").path("message").asText("");
+                return new BatchResult(customId, null, "status " + statusCode + " " + message);
+            }
+
+            return new BatchResult(customId, openAiApiClient.extractContent(response.path("body")), null);
+
+        } catch (Exception e) {
+            return new BatchResult(customId, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 인증 헤더 (Content-Type은 요청별로 지정)
+     */
+    private void applyHeaders(HttpHeaders headers) {
+        headers.setBearerAuth(config.getKey());
+    }
+
+    private String baseUrl() {
+        return StringUtils.hasText(batchConfig.getOpenaiBaseUrl())
+                ? batchConfig.getOpenaiBaseUrl()
+                : config.getBaseUrl();
+    }
+}
@@ -4,12 +4,14 @@ import com.flowerbed.api.v1.domain.Diary;
 import com.flowerbed.api.v1.domain.Emotion;
 import com.flowerbed.api.v1.domain.StudentRiskHistory;
 import com.flowerbed.api.v1.domain.User;
+import com.flowerbed.api.v1.event.StudentRiskChangedEvent;
 import com.flowerbed.api.v1.repository.DiaryRepository;
 import com.flowerbed.api.v1.repository.FlowerRepository;
 import com.flowerbed.api.v1.repository.StudentRiskHistoryRepository;
 import com.flowerbed.api.v1.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,7 @@ public class RiskAnalysisService {
     private final DiaryRepository diaryRepository;
     private final EmotionCacheService emotionCacheService;
     private final StudentRiskHistoryRepository riskHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 위험도 체크 및 업데이트 (LLM 분석 결과 포함)
@@ -117,6 +120,9 @@ public class RiskAnalysisService {
             log.debug("위험도 정보 갱신: userSn={}, level={}, days={}, diaryDate={}",
                     userSn, newLevel, continuousInfo.getDays(), diaryDate);
         }
+
+        // 커밋 후 학급 학생 목록 캐시 삭제 (위험도, 연속 일수, 사유가 학생 목록에 포함됨)
+        eventPublisher.publishEvent(StudentRiskChangedEvent.of(student));
     }
 
     /**
@@ -0,0 +1,583 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.dto.LlmRouterStatsResponse;
+import com.flowerbed.config.AnthropicConfig;
+import com.flowerbed.config.LlmRouterConfig;
+import com.flowerbed.config.OpenAiConfig;
+import com.flowerbed.exception.ErrorCode;
+import com.flowerbed.exception.business.BusinessException;
+import com.flowerbed.exception.business.LlmAnalysisException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * LLM 제공자 라우팅 클라이언트 (LlmApiClient 기본 구현체)
+ * - llm.router.providers의 제공자 중 API 키가 설정된 제공자만 활성화하고 호출마다 제공자 선택
+ * - 제공자별 서킷 브레이커: 연속 실패 시 OPEN → openDuration 후 시험 호출 1건 (HALF_OPEN)
+ * - 응답 시간 기반 라우팅: 평균 응답 시간(EWMA)이 짧은 제공자 우선 (동률이면 설정 순서)
+ * - 장애 전환: 호출 실패 시 다음 제공자로 재시도
+ * - 헤지 요청(선택): 우선 제공자가 p95 응답 시간 안에 응답하지 않으면 다음 제공자에도 요청, 먼저 온 정상 응답 사용
+ *
+ * 기존 호출부(DiaryEmotionService, WeeklyReportService)는 LlmApiClient를 그대로 주입받아 사용합니다.
+ */
+@Slf4j
+@Primary
+@Service
+public class RoutingLlmApiClient implements LlmApiClient {
+
+    private final LlmRouterConfig config;
+    private final ThreadPoolTaskExecutor llmHedgeExecutor;
+
+    // 제공자별 라우팅 상태 (설정 순서 = 우선순위)
+    private final Map<String, ProviderRoute> routes = new LinkedHashMap<>();
+
+    public RoutingLlmApiClient(LlmRouterConfig config,
+                               ClaudeApiClient claudeApiClient,
+                               OpenAiApiClient openAiApiClient,
+                               AnthropicConfig anthropicConfig,
+                               OpenAiConfig openAiConfig,
+                               @Value("${llm.provider:openai}") String preferredProvider,
+                               @Qualifier("llmHedgeExecutor") ThreadPoolTaskExecutor llmHedgeExecutor) {
+        this.config = config;
+        this.llmHedgeExecutor = llmHedgeExecutor;
+
+        Map<String, LlmApiClient> clients = Map.of(
+                LlmUsageMetrics.PROVIDER_CLAUDE, claudeApiClient,
+                LlmUsageMetrics.PROVIDER_OPENAI, openAiApiClient
+        );
+
+        Map<String, String> apiKeys = new HashMap<>();
+        apiKeys.put(LlmUsageMetrics.PROVIDER_CLAUDE, anthropicConfig.getKey());
+        apiKeys.put(LlmUsageMetrics.PROVIDER_OPENAI, openAiConfig.getKey());
+
+        // llm.provider를 우선 제공자로 맨 앞에 배치 (목록이 비어 있으면 llm.provider만 사용)
+        List<String> order = new ArrayList<>(config.getProviders());
+        if (order.remove(preferredProvider) || order.isEmpty()) {
+            order.add(0, preferredProvider);
+        }
+
+        // API 키가 없는(빈 값 또는 치환되지 않은 ${...}) 제공자 제외
+        // → 키 없는 제공자로 라우팅/장애 전환/시험 호출이 반복되지 않게 함 (우선 제공자는 남김)
+        List<String> unconfigured = order.stream()
+                .filter(provider -> clients.containsKey(provider) && !hasApiKey(apiKeys.get(provider)))
+                .filter(provider -> !provider.equals(preferredProvider))
+                .toList();
+        if (!unconfigured.isEmpty()) {
+            order.removeAll(unconfigured);
+            log.warn("LLM providers without API key excluded from routing: {}", unconfigured);
+        }
+        if (!hasApiKey(apiKeys.get(preferredProvider))) {
+            log.warn("LLM preferred provider has no API key configured: provider={}", preferredProvider);
+        }
+
+        for (String provider : order) {
+            LlmApiClient client = clients.get(provider);
+            if (client == null) {
+                throw new IllegalStateException("지원하지 않는 LLM 제공자입니다: " + provider);
+            }
+            routes.put(provider, new ProviderRoute(provider, client, config));
+        }
+
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("llm.router.providers에 사용할 LLM 제공자가 없습니다");
+        }
+
+        log.info("LLM router initialized: providers={}, hedging={}", routes.keySet(), config.getHedgingEnabled());
+    }
+
+    @Override
+    public String call(String prompt) {
+        return route(client -> client.call(prompt));
+    }
+
+    @Override
+    public String call(String systemPrompt, String userPrompt) {
+        return route(client -> client.call(systemPrompt, userPrompt));
+    }
+
+    /**
+     * 스트리밍 호출
+     * - 헤지 요청 없음 (두 스트림을 합칠 수 없음)
+     * - 응답 텍스트를 하나도 전달하지 않은 상태에서 실패한 경우만 다음 제공자로 전환
+     */
+    @Override
+    public void stream(String systemPrompt, String userPrompt, Consumer<String> onText) {
+        RuntimeException lastError = null;
+
+        for (ProviderRoute route : routingOrder()) {
+            AtomicBoolean emitted = new AtomicBoolean();
+            try {
+                invoke(route, client -> {
+                    client.stream(systemPrompt, userPrompt, text -> {
+                        emitted.set(true);
+                        onText.accept(text);
+                    });
+                    return "";
+                }, null, false);
+                return;
+
+            } catch (RuntimeException e) {
+                lastError = e;
+                if (emitted.get() || !config.getFailoverEnabled()) {
+                    throw e;
+                }
+                log.warn("LLM stream failed, trying next provider: provider={}, error={}", route.provider, e.getMessage());
+            }
+        }
+
+        throw lastError != null ? lastError : new LlmAnalysisException("사용 가능한 LLM 제공자가 없습니다");
+    }
+
+    /**
+     * 제공자별 라우팅 현황 (현재 라우팅 우선순위 순서)
+     */
+    public LlmRouterStatsResponse getStats() {
+        List<ProviderRoute> ordered = prioritize(new ArrayList<>(routes.values()));
+
+        return LlmRouterStatsResponse.builder()
+                .hedgingEnabled(config.getHedgingEnabled())
+                .providers(ordered.stream().map(ProviderRoute::toResponse).toList())
+                .build();
+    }
+
+    /**
+     * 일반 호출 라우팅 (헤지 요청 또는 순차 장애 전환)
+     */
+    private String route(Function<LlmApiClient, String> invocation) {
+        List<ProviderRoute> candidates = routingOrder();
+        if (candidates.isEmpty()) {
+            throw new LlmAnalysisException("사용 가능한 LLM 제공자가 없습니다");
+        }
+
+        if (config.getHedgingEnabled() && candidates.size() > 1) {
+            return hedged(candidates, invocation);
+        }
+        return withFailover(candidates, invocation);
+    }
+
+    /**
+     * 순차 호출: 실패 시 다음 제공자로 전환
+     */
+    private String withFailover(List<ProviderRoute> candidates, Function<LlmApiClient, String> invocation) {
+        RuntimeException lastError = null;
+
+        for (ProviderRoute route : candidates) {
+            try {
+                return invoke(route, invocation, null, true);
+            } catch (RuntimeException e) {
+                lastError = e;
+                if (!config.getFailoverEnabled()) {
+                    throw e;
+                }
+                log.warn("LLM call failed, trying next provider: provider={}, error={}", route.provider, e.getMessage());
+            }
+        }
+
+        throw lastError != null ? lastError : new LlmAnalysisException("사용 가능한 LLM 제공자가 없습니다");
+    }
+
+    /**
+     * 헤지 호출
+     * 1. 우선 제공자 호출 후 p95 응답 시간만큼 대기
+     * 2. 그 안에 응답이 없으면 다음 제공자에도 같은 요청
+     * 3. 먼저 도착한 정상 응답 사용, 나머지 요청은 취소 (취소된 요청은 실패로 집계하지 않음)
+     * - 헤지 스레드 풀이 가득 차면 헤지 없이 순차 호출
+     */
+    private String hedged(List<ProviderRoute> candidates, Function<LlmApiClient, String> invocation) {
+        ProviderRoute primary = candidates.get(0);
+        ProviderRoute backup = candidates.get(1);
+        List<ProviderRoute> remaining = candidates.subList(1, candidates.size());
+
+        AtomicBoolean settled = new AtomicBoolean();
+        ExecutorCompletionService<String> completion = new ExecutorCompletionService<>(llmHedgeExecutor);
+
+        Future<String> primaryFuture;
+        try {
+            primaryFuture = completion.submit(() -> invoke(primary, invocation, settled, true));
+        } catch (RejectedExecutionException e) {
+            return withFailover(candidates, invocation);
+        }
+
+        Future<String> backupFuture = null;
+        try {
+            // 1. 우선 제공자 응답 대기 (p95)
+            Future<String> done = completion.poll(primary.hedgeDelay(), TimeUnit.MILLISECONDS);
+            if (done != null) {
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    if (!config.getFailoverEnabled()) {
+                        throw unwrap(e);
+                    }
+                    log.warn("LLM call failed, trying next provider: provider={}, error={}",
+                            primary.provider, e.getCause().getMessage());
+                    return withFailover(remaining, invocation);
+                }
+            }
+
+            // 2. 응답 지연 → 다음 제공자에 헤지 요청
+            try {
+                backupFuture = completion.submit(() -> invoke(backup, invocation, settled, true));
+                backup.onHedge();
+                log.info("LLM hedge request sent: primary={}, backup={}", primary.provider, backup.provider);
+            } catch (RejectedExecutionException e) {
+                return primaryFuture.get();
+            }
+
+            // 3. 먼저 성공한 응답 사용
+            RuntimeException lastError = null;
+            for (int i = 0; i < 2; i++) {
+                Future<String> finished = completion.take();
+                try {
+                    String result = finished.get();
+                    settled.set(true);
+                    if (finished == backupFuture) {
+                        backup.onHedgeWin();
+                        primaryFuture.cancel(true);
+                    } else {
+                        backupFuture.cancel(true);
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    lastError = unwrap(e);
+                }
+            }
+            throw lastError;
+
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            settled.set(true);
+            primaryFuture.cancel(true);
+            if (backupFuture != null) {
+                backupFuture.cancel(true);
+            }
+            throw new LlmAnalysisException("LLM 호출이 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 단일 제공자 호출 및 결과 기록
+     *
+     * @param settled 헤지 요청에서 다른 요청이 먼저 끝났는지 여부 (true면 실패로 집계하지 않음)
+     * @param requireText 빈 응답을 실패로 처리할지 여부
+     */
+    private String invoke(ProviderRoute route, Function<LlmApiClient, String> invocation,
+                          AtomicBoolean settled, boolean requireText) {
+        if (!route.tryAcquire()) {
+            throw new LlmAnalysisException(route.provider + " 서킷이 열려 있어 호출하지 않았습니다");
+        }
+
+        long start = System.nanoTime();
+        try {
+            String result = invocation.apply(route.client);
+            if (requireText && (result == null || result.isBlank())) {
+                throw new LlmAnalysisException(route.provider + " API 응답이 비어 있습니다");
+            }
+            route.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+
+        } catch (RuntimeException e) {
+            if ((settled != null && settled.get()) || isLocallyBusy(e)) {
+                // 헤지 취소, 인스턴스 동시성 제한(LLM_BUSY)은 제공자 장애가 아님
+                route.onAbandon();
+            } else {
+                route.onFailure();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 라우팅 순서: 호출 가능한 제공자만, 우선순위 정렬
+     */
+    private List<ProviderRoute> routingOrder() {
+        List<ProviderRoute> available = new ArrayList<>();
+        for (ProviderRoute route : routes.values()) {
+            if (route.isAvailable()) {
+                available.add(route);
+            }
+        }
+        return prioritize(available);
+    }
+
+    /**
+     * 우선순위 정렬
+     * 1. 시험 호출 대기 중인 제공자 (서킷 복구 확인)
+     * 2. 평균 응답 시간이 짧은 제공자 (응답 시간 기반 라우팅 사용 시, 측정값 없으면 뒤로)
+     * 3. 설정 순서 (정렬은 stable)
+     * - 정렬 중 상태가 바뀌지 않도록 정렬 키를 먼저 계산
+     */
+    private List<ProviderRoute> prioritize(List<ProviderRoute> candidates) {
+        Map<ProviderRoute, Double> keys = new HashMap<>();
+        for (ProviderRoute route : candidates) {
+            double key;
+            if (route.isProbing()) {
+                key = -1;
+            } else {
+                key = config.getLatencyRoutingEnabled() ? route.ewmaForRouting() : 0;
+            }
+            keys.put(route, key);
+        }
+        candidates.sort(Comparator.comparingDouble(keys::get));
+        return candidates;
+    }
+
+    private boolean isLocallyBusy(RuntimeException e) {
+        return e instanceof BusinessException be && be.getErrorCode() == ErrorCode.LLM_BUSY;
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException re) {
+            return re;
+        }
+        return new LlmAnalysisException("LLM 호출에 실패했습니다", e.getCause());
+    }
+
+    /**
+     * API 키 설정 여부 (빈 값, 환경 변수가 없어 치환되지 않은 ${...}는 미설정)
+     */
+    private static boolean hasApiKey(String key) {
+        return key != null && !key.isBlank() && !key.startsWith("${");
+    }
+
+    private enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 제공자별 라우팅 상태 (서킷 브레이커 + 응답 시간 통계)
+     */
+    private static class ProviderRoute {
+
+        private final String provider;
+        private final LlmApiClient client;
+        private final LlmRouterConfig config;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private CircuitState state = CircuitState.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;          // System.nanoTime()
+        private boolean trialInFlight;  // HALF_OPEN 시험 호출 진행 중
+
+        private double ewmaLatency = -1;  // 측정값 없음
+        private final long[] latencyWindow;
+        private int windowIndex;
+        private int windowCount;
+
+        private long calls;
+        private long failures;
+        private long hedges;
+        private long hedgeWins;
+
+        private ProviderRoute(String provider, LlmApiClient client, LlmRouterConfig config) {
+            this.provider = provider;
+            this.client = client;
+            this.config = config;
+            this.latencyWindow = new long[config.getLatencyWindowSize()];
+        }
+
+        private boolean isAvailable() {
+            lock.lock();
+            try {
+                return switch (state) {
+                    case CLOSED -> true;
+                    case OPEN -> openElapsed();
+                    case HALF_OPEN -> !trialInFlight;
+                };
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isProbing() {
+            lock.lock();
+            try {
+                return (state == CircuitState.OPEN && openElapsed())
+                        || (state == CircuitState.HALF_OPEN && !trialInFlight);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 호출 허용 여부 (OPEN 유지 시간이 지났으면 시험 호출 1건만 허용)
+         */
+        private boolean tryAcquire() {
+            lock.lock();
+            try {
+                switch (state) {
+                    case CLOSED:
+                        return true;
+                    case OPEN:
+                        if (!openElapsed()) {
+                            return false;
+                        }
+                        state = CircuitState.HALF_OPEN;
+                        trialInFlight = true;
+                        log.info("LLM circuit half-open: provider={}", provider);
+                        return true;
+                    default:
+                        if (trialInFlight) {
+                            return false;
+                        }
+                        trialInFlight = true;
+                        return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onSuccess(long latencyMs) {
+            lock.lock();
+            try {
+                calls++;
+                consecutiveFailures = 0;
+                trialInFlight = false;
+                if (state != CircuitState.CLOSED) {
+                    log.info("LLM circuit closed: provider={}", provider);
+                    state = CircuitState.CLOSED;
+                }
+
+                ewmaLatency = ewmaLatency < 0
+                        ? latencyMs
+                        : config.getEwmaAlpha() * latencyMs + (1 - config.getEwmaAlpha()) * ewmaLatency;
+
+                latencyWindow[windowIndex] = latencyMs;
+                windowIndex = (windowIndex + 1) % latencyWindow.length;
+                windowCount = Math.min(windowCount + 1, latencyWindow.length);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onFailure() {
+            lock.lock();
+            try {
+                calls++;
+                failures++;
+                consecutiveFailures++;
+                trialInFlight = false;
+                if (state == CircuitState.HALF_OPEN
+                        || (state == CircuitState.CLOSED && consecutiveFailures >= config.getFailureThreshold())) {
+                    state = CircuitState.OPEN;
+                    openedAt = System.nanoTime();
+                    log.warn("LLM circuit opened: provider={}, consecutiveFailures={}", provider, consecutiveFailures);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 결과를 집계하지 않고 시험 호출 슬롯만 반납
+         */
+        private void onAbandon() {
+            lock.lock();
+            try {
+                trialInFlight = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onHedge() {
+            lock.lock();
+            try {
+                hedges++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onHedgeWin() {
+            lock.lock();
+            try {
+                hedgeWins++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 헤지 요청 대기 시간 (최근 응답 시간 p95, 샘플 부족 시 기본값)
+         */
+        private long hedgeDelay() {
+            lock.lock();
+            try {
+                if (windowCount < config.getHedgeMinSamples()) {
+                    return config.getHedgeDefaultDelay();
+                }
+                return Math.max(config.getHedgeMinDelay(), p95());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private double ewmaForRouting() {
+            lock.lock();
+            try {
+                return ewmaLatency < 0 ? Double.MAX_VALUE : ewmaLatency;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // lock 보유 상태에서 호출
+        private long p95() {
+            if (windowCount == 0) {
+                return 0;
+            }
+            long[] samples = Arrays.copyOf(latencyWindow, windowCount);
+            Arrays.sort(samples);
+            return samples[(int) Math.ceil(samples.length * 0.95) - 1];
+        }
+
+        // lock 보유 상태에서 호출
+        private boolean openElapsed() {
+            return System.nanoTime() - openedAt >= TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration());
+        }
+
+        private LlmRouterStatsResponse.ProviderRoute toResponse() {
+            lock.lock();
+            try {
+                return LlmRouterStatsResponse.ProviderRoute.builder()
+                        .provider(provider)
+                        .circuitState(state.name())
+                        .consecutiveFailures(consecutiveFailures)
+                        .ewmaLatencyMs(ewmaLatency < 0 ? null : Math.round(ewmaLatency))
+                        .p95LatencyMs(windowCount == 0 ? null : p95())
+                        .calls(calls)
+                        .failures(failures)
+                        .hedges(hedges)
+                        .hedgeWins(hedgeWins)
+                        .build();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
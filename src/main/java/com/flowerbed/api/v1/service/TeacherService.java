@@ -1,11 +1,14 @@
 package com.flowerbed.api.v1.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.flowerbed.api.v1.domain.Diary;
 import com.flowerbed.api.v1.domain.Emotion;
 import com.flowerbed.api.v1.domain.StudentRiskHistory;
 import com.flowerbed.api.v1.domain.User;
 import com.flowerbed.api.v1.domain.WeeklyReport;
 import com.flowerbed.api.v1.dto.*;
+import com.flowerbed.api.v1.event.StudentRiskChangedEvent;
+import com.flowerbed.api.v1.repository.ClassDailyEmotionRepository;
 import com.flowerbed.api.v1.repository.DiaryRepository;
 import com.flowerbed.api.v1.repository.FlowerRepository;
 import com.flowerbed.api.v1.repository.StudentRiskHistoryRepository;
@@ -17,6 +20,7 @@ import com.flowerbed.exception.business.BusinessException;
 import com.flowerbed.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,12 +42,25 @@ public class TeacherService {
 
     private final UserRepository userRepository;
     private final DiaryRepository diaryRepository;
+    private final ClassDailyEmotionRepository classDailyEmotionRepository;
+    private final ClassRosterSyncService classRosterSyncService;
     private final EmotionCacheService emotionCacheService;
+    private final DiaryKeywordService diaryKeywordService;
+    private final ClassDashboardCacheService classDashboardCacheService;
+    private final ApplicationEventPublisher eventPublisher;
     private final StudentRiskHistoryRepository riskHistoryRepository;
     private final WeeklyReportRepository weeklyReportRepository;
     private final UserSettingsRepository userSettingsRepository;
     private final com.flowerbed.service.WeeklyReportService weeklyReportService;
 
+    // 응답용 영역 이름 (ClassEmotionDistribution 영역 인덱스 순서)
+    private static final String[] AREA_NAMES = {"red", "yellow", "blue", "green", "unanalyzed", "none"};
+
+    // 학급 대시보드 캐시 응답 타입
+    private static final TypeReference<List<StudentResponse>> STUDENT_LIST_TYPE = new TypeReference<>() {};
+    private static final TypeReference<DailyEmotionStatusResponse> DAILY_STATUS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<MonthlyEmotionDistributionResponse> MONTHLY_DISTRIBUTION_TYPE = new TypeReference<>() {};
+
     /**
      * 내 학생 목록 조회
      * - 선생님만 접근 가능
@@ -57,7 +74,7 @@ public class TeacherService {
      * 2. 사용자 타입이 TEACHER인지 확인
      * 3. 학교 코드, 반 코드가 있는지 확인
      * 4. 같은 학교, 같은 반의 STUDENT 타입 회원 조회
-     * 5. 각 학생의 최근 분석된 일기 조회
+     * 5. 학생들의 최근 분석된 일기 감정 일괄 조회 (쿼리 1회)
      * 6. 최근 감정 정보와 함께 StudentResponse로 변환하여 반환
      *
      * 예외:
@@ -80,6 +97,15 @@ public class TeacherService {
                     "학교 코드 또는 반 코드가 설정되지 않았습니다");
         }
 
+        // 4-6. 학급 캐시 조회 (없으면 학생 목록 + 최근 감정 조회 후 저장)
+        return classDashboardCacheService.get(teacher.getSchoolCode(), teacher.getClassCode(),
+                ClassDashboardCacheService.STUDENTS, STUDENT_LIST_TYPE, () -> loadMyStudents(teacher));
+    }
+
+    /**
+     * 학생 목록 + 최근 감정 조회 (학급 캐시 미스 시)
+     */
+    private List<StudentResponse> loadMyStudents(User teacher) {
         // 4. 같은 학교, 같은 반의 학생 목록 조회 (이름 오름차순)
         List<User> students = userRepository.findBySchoolCodeAndClassCodeAndUserTypeCdOrderByNameAsc(
                 teacher.getSchoolCode(),
@@ -93,31 +119,32 @@ public class TeacherService {
                 teacher.getSchoolCode(),
                 teacher.getClassCode());
 
-        // 5-6. 각 학생의 최근 감정 정보와 함께 StudentResponse로 변환
+        // 5. 학생들의 최근 분석된 일기 감정 일괄 조회 (학생 수와 무관하게 쿼리 1회)
+        List<Long> studentUserSns = students.stream()
+                .map(User::getUserSn)
+                .collect(Collectors.toList());
+        Map<Long, String> recentEmotionCodes = studentUserSns.isEmpty() ? Map.of()
+                : diaryRepository.findLatestAnalyzedEmotions(studentUserSns, LocalDate.now()).stream()
+                        .filter(latest -> latest.getCoreEmotionCode() != null)
+                        .collect(Collectors.toMap(
+                                DiaryRepository.LatestAnalyzedEmotion::getUserSn,
+                                DiaryRepository.LatestAnalyzedEmotion::getCoreEmotionCode,
+                                (a, b) -> a));
+
+        // 6. 각 학생의 최근 감정 정보와 함께 StudentResponse로 변환
         return students.stream()
                 .map(student -> {
                     StudentResponse response = StudentResponse.from(student);
 
-                    // 최근 분석된 일기 조회 (1개만)
-                    List<Diary> recentDiaries = diaryRepository.findRecentAnalyzedDiaries(
-                            student.getUserSn(),
-                            LocalDate.now(),
-                            org.springframework.data.domain.PageRequest.of(0, 1)
-                    );
-
-                    if (!recentDiaries.isEmpty()) {
-                        Diary recentDiary = recentDiaries.get(0);
-                        String coreEmotionCode = recentDiary.getCoreEmotionCode();
-
-                        if (coreEmotionCode != null) {
-                            // 감정 정보 조회 (캐싱 적용)
-                            Emotion emotion = emotionCacheService.getEmotion(coreEmotionCode);
-                            if (emotion != null) {
-                                response.setRecentEmotionArea(emotion.getArea() != null ? emotion.getArea().toLowerCase() : null);
-                                response.setRecentCoreEmotionCd(coreEmotionCode);
-                                response.setRecentCoreEmotionNameKr(emotion.getEmotionNameKr());
-                                response.setRecentCoreEmotionImage(emotion.getImageFile3d());
-                            }
+                    String coreEmotionCode = recentEmotionCodes.get(student.getUserSn());
+                    if (coreEmotionCode != null) {
+                        // 감정 정보 조회 (캐싱 적용)
+                        Emotion emotion = emotionCacheService.getEmotion(coreEmotionCode);
+                        if (emotion != null) {
+                            response.setRecentEmotionArea(emotion.getArea() != null ? emotion.getArea().toLowerCase() : null);
+                            response.setRecentCoreEmotionCd(coreEmotionCode);
+                            response.setRecentCoreEmotionNameKr(emotion.getEmotionNameKr());
+                            response.setRecentCoreEmotionImage(emotion.getImageFile3d());
                         }
                     }
 
@@ -140,7 +167,7 @@ public class TeacherService {
      * 3. 특정 날짜의 학생들 일기 조회
      * 4. 학생별 감정 영역 분류:
      *    - 일기 있고 분석됨 → emotion의 area (red, yellow, blue, green)
-     *    - 일기 있고 분석 안됨 → unanalyzed
+     *    - 일기 있고 분석 안됨, 분석됐지만 핵심 감정/감정 영역을 알 수 없음 → unanalyzed
      *    - 일기 없음 → none
      * 5. 영역별 집계
      * 6. 응답 DTO 생성
@@ -162,6 +189,16 @@ public class TeacherService {
         // 날짜가 없으면 오늘 날짜
         LocalDate targetDate = date != null ? date : LocalDate.now();
 
+        // 2-6. 학급 캐시 조회 (없으면 날짜별 감정 현황 계산 후 저장)
+        return classDashboardCacheService.get(teacher.getSchoolCode(), teacher.getClassCode(),
+                ClassDashboardCacheService.dailyField(targetDate), DAILY_STATUS_TYPE,
+                () -> loadDailyEmotionStatus(teacher, targetDate));
+    }
+
+    /**
+     * 날짜별 학생 감정 현황 계산 (학급 캐시 미스 시)
+     */
+    private DailyEmotionStatusResponse loadDailyEmotionStatus(User teacher, LocalDate targetDate) {
         // 2. 같은 학교, 같은 반의 모든 학생 목록 조회
         List<User> students = userRepository.findBySchoolCodeAndClassCodeAndUserTypeCdOrderByNameAsc(
                 teacher.getSchoolCode(),
@@ -187,62 +224,67 @@ public class TeacherService {
         Map<Long, Diary> diaryMap = diaries.stream()
                 .collect(Collectors.toMap(d -> d.getUser().getUserSn(), d -> d));
 
-        // 4. 학생별 감정 영역 분류 및 응답 데이터 생성
-        Map<String, Integer> areaCount = new HashMap<>();
-        areaCount.put("red", 0);
-        areaCount.put("yellow", 0);
-        areaCount.put("blue", 0);
-        areaCount.put("green", 0);
-        areaCount.put("unanalyzed", 0);
-        areaCount.put("none", 0);
+        // 감정 정보는 전체 목록을 한 번만 조회 (일기마다 캐시 조회하지 않음)
+        Map<String, Emotion> emotionByCode = emotionCacheService.getAllEmotions().stream()
+                .collect(Collectors.toMap(Emotion::getEmotionCode, emotion -> emotion));
 
-        List<DailyEmotionStatusResponse.StudentEmotionInfo> studentInfoList = new ArrayList<>();
+        // 4. 학생별 감정 영역 분류 및 응답 데이터 생성 (영역별 카운트는 고정 인덱스 배열에 누적)
+        int[] counts = new int[6];
+        List<DailyEmotionStatusResponse.StudentEmotionInfo> studentInfoList = new ArrayList<>(students.size());
 
         for (User student : students) {
             Diary diary = diaryMap.get(student.getUserSn());
 
-            String area;
+            int areaIndex;
             String coreEmotion = null;
             String coreEmotionNameKr = null;
             Boolean isAnalyzed = false;
 
             if (diary == null) {
                 // 일기 없음
-                area = "none";
-                isAnalyzed = false;
+                areaIndex = ClassEmotionDistribution.NONE;
             } else if (!diary.getIsAnalyzed()) {
                 // 일기 있지만 분석 안됨
-                area = "unanalyzed";
-                isAnalyzed = false;
+                areaIndex = ClassEmotionDistribution.UNANALYZED;
             } else {
                 // 일기 있고 분석됨
                 isAnalyzed = true;
                 coreEmotion = diary.getCoreEmotionCode();
 
-                // 감정 코드로 area와 emotionNameKr 조회 (캐싱 적용)
-                Emotion emotion = emotionCacheService.getEmotion(coreEmotion);
+                // 감정 코드로 area와 emotionNameKr 조회
+                Emotion emotion = coreEmotion != null ? emotionByCode.get(coreEmotion) : null;
                 if (emotion != null) {
-                    area = emotion.getArea().toLowerCase();
+                    areaIndex = ClassEmotionDistribution.areaIndex(emotion.getArea());
                     coreEmotionNameKr = emotion.getEmotionNameKr();
                 } else {
-                    area = "none";  // 감정 정보가 없으면 none
+                    areaIndex = -1;
+                }
+                if (areaIndex < 0) {
+                    // 감정 정보가 없으면 unanalyzed (월별 감정 분포의 class_daily_emotion 집계와 같은 분류)
+                    areaIndex = ClassEmotionDistribution.UNANALYZED;
                 }
             }
 
             // 영역별 카운트 증가
-            areaCount.put(area, areaCount.get(area) + 1);
+            counts[areaIndex]++;
 
             // 학생 정보 추가
             studentInfoList.add(DailyEmotionStatusResponse.StudentEmotionInfo.builder()
                     .userSn(student.getUserSn())
                     .name(student.getName())
-                    .area(area)
-                    .coreEmotion    (coreEmotion)
+                    .area(AREA_NAMES[areaIndex])
+                    .coreEmotion(coreEmotion)
                     .coreEmotionNameKr(coreEmotionNameKr)
                     .isAnalyzed(isAnalyzed)
                     .build());
         }
 
+        // 5. 영역별 집계
+        Map<String, Integer> areaCount = new HashMap<>();
+        for (int area = 0; area < AREA_NAMES.length; area++) {
+            areaCount.put(AREA_NAMES[area], counts[area]);
+        }
+
         log.info("Teacher {} retrieved daily emotion status: date={}, totalCount={}, areaCount={}",
                 teacher.getUserId(), targetDate, students.size(), areaCount);
 
@@ -341,6 +383,9 @@ public class TeacherService {
 
         riskHistoryRepository.save(history);
 
+        // 커밋 후 학급 학생 목록 캐시 삭제
+        eventPublisher.publishEvent(StudentRiskChangedEvent.of(student));
+
         log.info("DANGER 상태 해제 완료: student={}, teacher={}, memo={}, DANGER → NORMAL",
                 student.getUserId(), teacher.getUserId(), memo);
     }
@@ -542,12 +587,11 @@ public class TeacherService {
                 reports.stream().filter(WeeklyReport::getIsAnalyzed).count(),
                 reports.stream().filter(r -> !r.getIsAnalyzed()).count());
 
-        // 4. WeeklyReportListItemResponse로 변환 (현재 일기 개수 포함)
+        // 4. WeeklyReportListItemResponse로 변환 (현재 일기 개수 포함, 주별 집계 1회 조회)
+        Map<LocalDate, Integer> currentCounts = weeklyReportService.getCurrentDiaryCounts(studentUserSn, reports);
         return reports.stream()
-                .map(report -> {
-                    int currentCount = weeklyReportService.getCurrentDiaryCount(studentUserSn, report.getStartDate(), report.getEndDate());
-                    return WeeklyReportListItemResponse.from(report, currentCount);
-                })
+                .map(report -> WeeklyReportListItemResponse.from(report,
+                        currentCounts.getOrDefault(report.getStartDate(), 0)))
                 .collect(Collectors.toList());
     }
 
@@ -731,6 +775,9 @@ public class TeacherService {
      * 학급 월별 감정 분포 조회
      * - 선생님이 담당하는 반의 월별 일자별 감정 분포를 조회
      * - 일기 미작성: none, 일기 작성했지만 분석 안됨: unanalyzed
+     * - 일자별 분포는 학급 일별 감정 집계(class_daily_emotion)에서 조회 (일기를 다시 분류하지 않음)
+     *   현재 학급 학생의 일기만 집계 (반 이동/탈퇴 후 첫 조회 시 해당 월 집계를 현재 명단으로 다시 적재)
+     * - 영역별 키워드는 키워드 색인(diary_keyword)에서 조회 (키워드 문자열을 다시 파싱하지 않음)
      *
      * @param yearMonth 년월 (YYYY-MM)
      * @return 월별 일자별 감정 분포
@@ -749,15 +796,26 @@ public class TeacherService {
                     "학교 코드 또는 반 코드가 설정되지 않았습니다");
         }
 
-        // 2. 같은 학교, 같은 반의 모든 학생 조회
-        List<User> students = userRepository.findBySchoolCodeAndClassCodeAndUserTypeCdOrderByNameAsc(
+        // 2-7. 학급 캐시 조회 (없으면 월별 감정 분포 계산 후 저장)
+        return classDashboardCacheService.get(teacher.getSchoolCode(), teacher.getClassCode(),
+                ClassDashboardCacheService.monthlyField(yearMonth), MONTHLY_DISTRIBUTION_TYPE,
+                () -> loadMonthlyEmotionDistribution(teacher, yearMonth));
+    }
+
+    /**
+     * 학급 월별 감정 분포 계산 (학급 캐시 미스 시)
+     */
+    private MonthlyEmotionDistributionResponse loadMonthlyEmotionDistribution(User teacher, String yearMonth) {
+        // 2. 같은 학교, 같은 반의 학생 명단 조회
+        List<Long> rosterUserSns = userRepository.findUserSnsBySchoolCodeAndClassCodeAndUserTypeCd(
                 teacher.getSchoolCode(),
                 teacher.getClassCode(),
                 "STUDENT"
         );
+        int totalStudents = rosterUserSns.size();
 
         // 담당 학생이 없는 경우 빈 응답 반환
-        if (students.isEmpty()) {
+        if (totalStudents == 0) {
             return MonthlyEmotionDistributionResponse.builder()
                     .yearMonth(yearMonth)
                     .totalStudents(0)
@@ -771,102 +829,59 @@ public class TeacherService {
                     .build();
         }
 
-        List<Long> studentSnList = students.stream()
-                .map(User::getUserSn)
-                .collect(Collectors.toList());
-
-        int totalStudents = students.size();
-
         // 3. 월 범위 계산
         YearMonth ym = YearMonth.parse(yearMonth);
         LocalDate startDate = ym.atDay(1);  // 월 첫째 날
         LocalDate endDate = ym.atEndOfMonth();  // 월 마지막 날
 
-        // 4. 해당 월의 모든 학생 일기 한번에 조회
-        List<Diary> allDiaries = diaryRepository.findByUserSnListAndDateBetween(
-                studentSnList,
-                startDate,
-                endDate
-        );
+        // 명단이 바뀌었으면 해당 월 집계/키워드 색인을 현재 명단 기준으로 다시 맞춤
+        classRosterSyncService.syncMonth(teacher.getSchoolCode(), teacher.getClassCode(), ym, rosterUserSns);
 
-        // 5. 일기 데이터를 날짜별, 학생별로 그룹핑 (빠른 조회를 위해 Map 사용)
-        Map<LocalDate, Map<Long, Diary>> diaryByDateAndStudent = allDiaries.stream()
-                .collect(Collectors.groupingBy(
-                        Diary::getDiaryDate,
-                        Collectors.toMap(
-                                d -> d.getUser().getUserSn(),
-                                d -> d,
-                                (d1, d2) -> d1  // 중복 시 첫 번째 선택 (일반적으로 발생하지 않음)
-                        )
-                ));
-
-        // 6. 일자별 감정 분포 계산
-        List<MonthlyEmotionDistributionResponse.DailyDistribution> dailyDistributions = new ArrayList<>();
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            Map<Long, Diary> diariesOnDate = diaryByDateAndStudent.getOrDefault(date, new HashMap<>());
-
-            // 영역별 카운트 초기화
-            int red = 0, yellow = 0, blue = 0, green = 0, unanalyzed = 0, none = 0;
-
-            // 각 학생별로 감정 영역 분류
-            for (Long studentSn : studentSnList) {
-                Diary diary = diariesOnDate.get(studentSn);
-
-                if (diary == null) {
-                    // 일기 없음
-                    none++;
-                } else if (!diary.getIsAnalyzed()) {
-                    // 일기 있지만 분석 안됨
-                    unanalyzed++;
-                } else {
-                    // 일기 있고 분석됨 → 감정 영역 조회
-                    String coreEmotionCode = diary.getCoreEmotionCode();
-                    if (coreEmotionCode != null) {
-                        Emotion emotion = emotionCacheService.getEmotion(coreEmotionCode);
-                        if (emotion != null) {
-                            String area = emotion.getArea().toLowerCase();
-                            switch (area) {
-                                case "red" -> red++;
-                                case "yellow" -> yellow++;
-                                case "blue" -> blue++;
-                                case "green" -> green++;
-                                default -> none++;  // 예외 케이스
-                            }
-                        } else {
-                            none++;  // 감정 정보 없음
-                        }
-                    } else {
-                        unanalyzed++;  // 핵심 감정 없음
-                    }
-                }
-            }
+        // 4. 해당 월의 학급 일별 감정 집계를 int[일자][영역]에 누적 (최대 31행)
+        ClassEmotionDistribution distribution = new ClassEmotionDistribution(startDate, ym.lengthOfMonth());
+        classDailyEmotionRepository
+                .findBySchoolCodeAndClassCodeAndEmotionDateBetweenOrderByEmotionDateAsc(
+                        teacher.getSchoolCode(), teacher.getClassCode(), startDate, endDate)
+                .forEach(distribution::add);
+
+        // 미작성 = 학급 학생 수 - 작성 학생 수 (집계가 없는 날은 전원 미작성)
+        distribution.fillNone(totalStudents);
+
+        // 5. 일자별 감정 분포 응답 생성
+        List<MonthlyEmotionDistributionResponse.DailyDistribution> dailyDistributions =
+                new ArrayList<>(distribution.days());
+
+        for (int day = 0; day < distribution.days(); day++) {
+            LocalDate date = startDate.plusDays(day);
 
-            // 일자별 분포 생성
             MonthlyEmotionDistributionResponse.AreaDistribution areaDistribution =
                     MonthlyEmotionDistributionResponse.AreaDistribution.builder()
-                            .red(red)
-                            .yellow(yellow)
-                            .blue(blue)
-                            .green(green)
-                            .unanalyzed(unanalyzed)
-                            .none(none)
+                            .red(distribution.get(day, ClassEmotionDistribution.RED))
+                            .yellow(distribution.get(day, ClassEmotionDistribution.YELLOW))
+                            .blue(distribution.get(day, ClassEmotionDistribution.BLUE))
+                            .green(distribution.get(day, ClassEmotionDistribution.GREEN))
+                            .unanalyzed(distribution.get(day, ClassEmotionDistribution.UNANALYZED))
+                            .none(distribution.get(day, ClassEmotionDistribution.NONE))
                             .build();
 
-            MonthlyEmotionDistributionResponse.DailyDistribution dailyDistribution =
-                    MonthlyEmotionDistributionResponse.DailyDistribution.builder()
-                            .date(date.toString())
-                            .dayOfWeek(getDayOfWeekKorean(date))
-                            .area(areaDistribution)
-                            .build();
-
-            dailyDistributions.add(dailyDistribution);
+            dailyDistributions.add(MonthlyEmotionDistributionResponse.DailyDistribution.builder()
+                    .date(date.toString())
+                    .dayOfWeek(getDayOfWeekKorean(date))
+                    .area(areaDistribution)
+                    .build());
         }
 
-        // 7. 영역별 키워드 집계
-        MonthlyEmotionDistributionResponse.AreaKeywords areaKeywords = calculateAreaKeywords(allDiaries);
+        // 6. 영역별 키워드 집계 (키워드 색인 diary_keyword GROUP BY, 빈도 높은 순 최대 5개)
+        Map<String, List<String>> topKeywords = diaryKeywordService.getTopAreaKeywords(
+                teacher.getSchoolCode(), teacher.getClassCode(), startDate, endDate, 5);
+        MonthlyEmotionDistributionResponse.AreaKeywords areaKeywords = MonthlyEmotionDistributionResponse.AreaKeywords.builder()
+                .red(topKeywords.get("red"))
+                .yellow(topKeywords.get("yellow"))
+                .blue(topKeywords.get("blue"))
+                .green(topKeywords.get("green"))
+                .build();
 
-        // 8. 응답 생성
+        // 7. 응답 생성
         return MonthlyEmotionDistributionResponse.builder()
                 .yearMonth(yearMonth)
                 .totalStudents(totalStudents)
@@ -889,73 +904,4 @@ public class TeacherService {
             case SUNDAY -> "일요일";
         };
     }
-
-    /**
-     * 영역별 키워드 집계 (빈도 높은 순 최대 5개)
-     */
-    private MonthlyEmotionDistributionResponse.AreaKeywords calculateAreaKeywords(List<Diary> diaries) {
-        // 영역별 키워드 빈도 Map
-        Map<String, Map<String, Integer>> areaKeywordFreq = new HashMap<>();
-        areaKeywordFreq.put("red", new HashMap<>());
-        areaKeywordFreq.put("yellow", new HashMap<>());
-        areaKeywordFreq.put("blue", new HashMap<>());
-        areaKeywordFreq.put("green", new HashMap<>());
-
-        // 분석된 일기에서 키워드 추출
-        for (Diary diary : diaries) {
-            if (!diary.getIsAnalyzed() || diary.getCoreEmotionCode() == null || diary.getKeywords() == null) {
-                continue;
-            }
-
-            // 감정 영역 조회
-            Emotion emotion = emotionCacheService.getEmotion(diary.getCoreEmotionCode());
-            if (emotion == null) {
-                continue;
-            }
-
-            String area = emotion.getArea().toLowerCase();
-            if (!areaKeywordFreq.containsKey(area)) {
-                continue;
-            }
-
-            // 키워드를 쉼표로 구분하여 파싱
-            String[] keywords = diary.getKeywords().split(",");
-            Map<String, Integer> keywordFreq = areaKeywordFreq.get(area);
-
-            for (String keyword : keywords) {
-                String trimmedKeyword = keyword.trim();
-                if (!trimmedKeyword.isEmpty()) {
-                    keywordFreq.put(trimmedKeyword, keywordFreq.getOrDefault(trimmedKeyword, 0) + 1);
-                }
-            }
-        }
-
-        // 각 영역별 상위 5개 키워드 선택
-        List<String> redKeywords = getTopKeywords(areaKeywordFreq.get("red"), 5);
-        List<String> yellowKeywords = getTopKeywords(areaKeywordFreq.get("yellow"), 5);
-        List<String> blueKeywords = getTopKeywords(areaKeywordFreq.get("blue"), 5);
-        List<String> greenKeywords = getTopKeywords(areaKeywordFreq.get("green"), 5);
-
-        return MonthlyEmotionDistributionResponse.AreaKeywords.builder()
-                .red(redKeywords)
-                .yellow(yellowKeywords)
-                .blue(blueKeywords)
-                .green(greenKeywords)
-                .build();
-    }
-
-    /**
-     * 키워드 빈도 Map에서 상위 N개 키워드 추출
-     */
-    private List<String> getTopKeywords(Map<String, Integer> keywordFreq, int topN) {
-        if (keywordFreq.isEmpty()) {
-            return List.of();
-        }
-
-        return keywordFreq.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(topN)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,115 @@
+package com.flowerbed.api.v1.service;
+
+import com.flowerbed.api.v1.domain.Emotion;
+import com.flowerbed.api.v1.domain.UserWeekRollup;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
+import com.flowerbed.api.v1.repository.UserWeekRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 주별 일기 집계 (user_week_rollup)
+ * - 일기 변경 이벤트를 받아 해당 주 집계를 증감 (일기 변경과 같은 트랜잭션)
+ * - 주간 리포트 생성/발행 가능한 주 조회에서 일기를 다시 세지 않고 집계를 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserWeekRollupService {
+
+    private final UserWeekRollupRepository userWeekRollupRepository;
+    private final EmotionCacheService emotionCacheService;
+
+    /**
+     * 일기 변경 반영
+     * - 수치 집계는 한 문장 upsert로 증감 (행이 없으면 생성, 같은 주 일기가 동시에 분석되어도 누락 없음)
+     *   잠금 조회 후 INSERT하면 첫 일기를 동시에 반영할 때 갭 락끼리 교착됨
+     * - 감정 코드가 바뀐 경우에만 upsert로 생긴 행을 잠가 감정 코드별 집계(JSON) 갱신
+     */
+    @EventListener
+    @Transactional
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        if (event.getDiaryDelta() == 0
+                && event.isPreviouslyAnalyzed() == event.isAnalyzed()
+                && Objects.equals(event.getPreviousEmotionCode(), event.getEmotionCode())) {
+            return;
+        }
+
+        LocalDate weekStartDate = weekStartOf(event.getDiaryDate());
+        String previousCode = event.isPreviouslyAnalyzed() ? event.getPreviousEmotionCode() : null;
+        String code = event.isAnalyzed() ? event.getEmotionCode() : null;
+        String previousArea = event.isPreviouslyAnalyzed() ? areaOf(previousCode) : null;
+        String area = event.isAnalyzed() ? areaOf(code) : null;
+
+        userWeekRollupRepository.upsertCounts(event.getUserSn(), weekStartDate,
+                event.getDiaryDelta(),
+                (event.isAnalyzed() ? 1 : 0) - (event.isPreviouslyAnalyzed() ? 1 : 0),
+                delta("RED", previousArea, area), delta("YELLOW", previousArea, area),
+                delta("BLUE", previousArea, area), delta("GREEN", previousArea, area));
+
+        if (!Objects.equals(previousCode, code)) {
+            UserWeekRollup rollup = userWeekRollupRepository.findForUpdate(event.getUserSn(), weekStartDate)
+                    .orElseThrow();
+            if (previousCode != null) {
+                rollup.changeEmotionCount(previousCode, -1);
+            }
+            if (code != null) {
+                rollup.changeEmotionCount(code, 1);
+            }
+        }
+
+        log.debug("User week rollup updated: user={}, week={}, diaryDelta={}, emotion {} -> {}",
+                event.getUserSn(), weekStartDate, event.getDiaryDelta(), previousCode, code);
+    }
+
+    /**
+     * 여러 주의 분석된 일기 수 일괄 조회 (쿼리 1회)
+     * - 집계가 없는 주는 결과에 포함하지 않음 (0으로 취급)
+     *
+     * @param weekStartDates 주에 속한 날짜 목록 (월요일이 아니어도 해당 주 월요일로 조회)
+     * @return 주 시작일(월요일) → 분석된 일기 수
+     */
+    public Map<LocalDate, Integer> getAnalyzedCounts(Long userSn, Collection<LocalDate> weekStartDates) {
+        if (weekStartDates.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<LocalDate> weeks = weekStartDates.stream()
+                .map(UserWeekRollupService::weekStartOf)
+                .collect(Collectors.toSet());
+
+        return userWeekRollupRepository.findByUserSnAndWeekStartDateIn(userSn, weeks).stream()
+                .collect(Collectors.toMap(UserWeekRollup::getWeekStartDate, UserWeekRollup::getAnalyzedCount));
+    }
+
+    /**
+     * 주 시작일 (월요일)
+     */
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private static int delta(String area, String previousArea, String currentArea) {
+        return (area.equals(currentArea) ? 1 : 0) - (area.equals(previousArea) ? 1 : 0);
+    }
+
+    private String areaOf(String emotionCode) {
+        if (emotionCode == null) {
+            return null;
+        }
+        Emotion emotion = emotionCacheService.getEmotion(emotionCode);
+        return emotion != null && emotion.getArea() != null ? emotion.getArea().toUpperCase() : null;
+    }
+}
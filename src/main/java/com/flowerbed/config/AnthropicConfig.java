@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "anthropic.api")
 public class AnthropicConfig {
     private String key;
+    private String baseUrl = "https://api.anthropic.com";
     private String model;
     private Integer maxTokens;
     private Double temperature;
@@ -1,30 +1,166 @@
 package com.flowerbed.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 
 import java.util.concurrent.Executor;
 
 /**
  * 비동기 처리 설정
- * - 주간 리포트 생성 시 사용자별 병렬 처리
+ * - 주간 리포트 일괄 생성 (DB 작업 / LLM 호출 스레드 풀 분리, WeeklyReportEngine)
+ * - 일기 감정 분석 비동기 작업 (요청 스레드가 LLM 응답을 기다리지 않도록 분리)
+ * - LLM 헤지 요청 (우선 제공자 응답 지연 시 다른 제공자에 동시 요청)
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ * - Tomcat 요청 처리 / @Scheduled: Spring Boot가 가상 스레드로 전환
+ * - @Async 기본 실행기: 작업마다 가상 스레드 생성 (풀/대기 큐 없음)
+ * - 전용 스레드 풀: 풀 크기/대기 큐는 그대로 두고 워커만 가상 스레드로 생성
+ *   (풀 크기가 동시 실행 상한 역할 → 분석 요청 429 응답, 헤지 거절 동작 유지)
+ * - LLM 호출(WebClient block)/JDBC/Redis 대기 중에는 캐리어 스레드를 반납
+ *
+ * 캐리어 스레드 고정(pinning) 점검 (synchronized 블록 안에서 I/O 대기 시 발생)
+ * - 애플리케이션 코드: synchronized 없음 (LlmConcurrencyLimiter, SchedulerLock, WeeklyReportEngine은 ReentrantLock 사용)
+ * - JDBC: MariaDB Connector/J 3.x 소켓 I/O는 ReentrantLock, HikariCP 커넥션 대여는 ConcurrentBag (synchronized 없음)
+ * - Redis: Lettuce 명령은 Netty 이벤트 루프에서 전송, 호출 스레드는 응답 future만 대기
+ * - LLM: Reactor Netty 이벤트 루프는 플랫폼 스레드 유지, block()은 CountDownLatch 대기
+ * - 운영 중 확인: JAVA_TOOL_OPTIONS=-Djdk.tracePinnedThreads=short (고정 발생 시 스택 출력)
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final boolean virtualThreads;
+
+    public AsyncConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        log.info("비동기 작업 스레드 모드: {}", virtualThreads ? "가상 스레드" : "플랫폼 스레드");
+    }
+
+    @Value("${diary-analysis.async.core-pool-size:8}")
+    private int analysisCorePoolSize;
+
+    @Value("${diary-analysis.async.max-pool-size:16}")
+    private int analysisMaxPoolSize;
+
+    @Value("${diary-analysis.async.queue-capacity:200}")
+    private int analysisQueueCapacity;
+
+    @Value("${weekly-report.engine.db-pool-size:4}")
+    private int weeklyReportDbPoolSize;
+
+    @Value("${weekly-report.engine.llm-pool-size:16}")
+    private int weeklyReportLlmPoolSize;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(60000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);          // 기본 스레드 수
         executor.setMaxPoolSize(10);          // 최대 스레드 수
         executor.setQueueCapacity(100);       // 큐 용량
-        executor.setThreadNamePrefix("weekly-report-");
+        executor.setThreadNamePrefix("async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일기 감정 분석 작업 전용 스레드 풀
+     * - 큐가 가득 차면 TaskRejectedException → 요청 접수 단계에서 429 응답
+     * - 요청 스레드의 SecurityContext를 작업 스레드로 전달 (JPA Auditing 작성자 유지)
+     */
+    @Bean(name = "diaryAnalysisExecutor")
+    public ThreadPoolTaskExecutor diaryAnalysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisCorePoolSize);
+        executor.setMaxPoolSize(analysisMaxPoolSize);
+        executor.setQueueCapacity(analysisQueueCapacity);
+        executor.setThreadNamePrefix("diary-analysis-");
+        applyThreadMode(executor);
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         return executor;
     }
+
+    /**
+     * LLM 헤지 요청 전용 스레드 풀
+     * - 대기 큐 없음: 스레드가 모두 사용 중이면 거절 → 호출 스레드에서 헤지 없이 직접 호출
+     */
+    @Bean(name = "llmHedgeExecutor")
+    public ThreadPoolTaskExecutor llmHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("llm-hedge-");
+        applyThreadMode(executor);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주간 리포트 DB 작업 전용 스레드 풀 (통계 계산, 분석 결과 저장)
+     * - DB 커넥션 풀보다 작게 유지 (API 요청용 커넥션 확보)
+     * - 대기 작업 수는 WeeklyReportEngine이 max-in-flight로 제한
+     */
+    @Bean(name = "weeklyReportDbExecutor")
+    public ThreadPoolTaskExecutor weeklyReportDbExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(weeklyReportDbPoolSize);
+        executor.setMaxPoolSize(weeklyReportDbPoolSize);
+        executor.setThreadNamePrefix("weekly-report-db-");
+        applyThreadMode(executor);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주간 리포트 LLM 호출 전용 스레드 풀
+     * - 실제 동시 호출 수는 LlmConcurrencyLimiter가 제한 (초과 호출은 스레드에서 대기)
+     */
+    @Bean(name = "weeklyReportLlmExecutor")
+    public ThreadPoolTaskExecutor weeklyReportLlmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(weeklyReportLlmPoolSize);
+        executor.setMaxPoolSize(weeklyReportLlmPoolSize);
+        executor.setThreadNamePrefix("weekly-report-llm-");
+        applyThreadMode(executor);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드면 풀 워커를 가상 스레드로 생성 (스레드 이름 접두사 유지)
+     */
+    private void applyThreadMode(ThreadPoolTaskExecutor executor) {
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(executor.getThreadNamePrefix()).getVirtualThreadFactory());
+        }
+    }
 }
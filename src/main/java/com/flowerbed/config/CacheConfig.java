@@ -53,7 +53,7 @@ public class CacheConfig {
             redisTemplate.afterPropertiesSet();
 
             // Spring Cache에서 사용하는 캐시만 삭제
-            String[] cacheNames = {"emotion", "codeGroups", "codeGroup", "codes", "code", "weeklyReport"};
+            String[] cacheNames = {"emotion", "codeGroups", "codeGroup", "codes", "code", "weeklyReport", "generableWeeks"};
 
             for (String cacheName : cacheNames) {
                 // Spring Cache는 "cacheName::*" 패턴으로 키 생성
@@ -80,6 +80,7 @@ public class CacheConfig {
      * - code: 특정 코드 (key: groupCode_code)
      * - emotion: 감정/꽃 마스터 데이터 (TTL: 24시간)
      * - weeklyReport: 주간 리포트 상세 (TTL: 7일)
+     * - generableWeeks: 학생별 발행 가능한 주 목록 (key: userSn_이번 주 월요일, TTL: 7일)
      */
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
@@ -118,6 +119,9 @@ public class CacheConfig {
         // 주간 리포트 상세: 7일 (한번 생성되면 변경되지 않음)
         cacheConfigurations.put("weeklyReport", defaultConfig.entryTtl(Duration.ofDays(7)));
 
+        // 발행 가능한 주 목록: 7일 (주가 바뀌면 키가 바뀜, 일기 변경/리포트 생성 시 삭제)
+        cacheConfigurations.put("generableWeeks", defaultConfig.entryTtl(Duration.ofDays(7)));
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
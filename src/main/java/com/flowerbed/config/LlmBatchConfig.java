@@ -0,0 +1,28 @@
+package com.flowerbed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM Batch API 설정 (Anthropic Message Batches / OpenAI Batch)
+ * - 주간 리포트 일괄 생성(weekly-report.mode=batch)에서 사용
+ * - base-url 미지정 시 anthropic.api / openai.api의 base-url 사용 (로컬 대체 서버 테스트 시 지정)
+ * - 시간 단위 값은 모두 밀리초(ms)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.batch")
+public class LlmBatchConfig {
+    private String provider;                      // 배치 제공자 (claude / openai, 미지정 시 llm.provider)
+    private String anthropicBaseUrl;              // Anthropic Batch API 주소 (미지정 시 anthropic.api.base-url)
+    private String openaiBaseUrl;                 // OpenAI Batch API 주소 (미지정 시 openai.api.base-url)
+    private Integer maxRequestsPerBatch = 10000;  // 배치 1건당 최대 요청 수 (초과 시 여러 배치로 분할 제출)
+    private String completionWindow = "24h";      // OpenAI 배치 완료 기한
+    private Long pollInterval = 60000L;           // 배치 상태 조회 간격
+    private Long maxWait = 86400000L;             // 배치 완료 최대 대기 시간 (초과 시 취소, 재시도 API 대상)
+    private Long cancelWait = 1800000L;           // 취소 후 종료 대기 시간 (종료되면 취소 전 처리된 결과 반영)
+    private Long requestTimeout = 600000L;        // 배치 제출/결과 다운로드 요청 타임아웃
+}
@@ -0,0 +1,29 @@
+package com.flowerbed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM API 공용 HTTP 전송 계층 설정
+ * - Claude / OpenAI 클라이언트가 하나의 커넥션 풀을 공유
+ * - 시간 단위 값은 모두 밀리초(ms)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.http")
+public class LlmHttpConfig {
+    private Integer maxConnections = 50;           // 풀 최대 커넥션 수
+    private Integer pendingAcquireMaxCount = 200;  // 커넥션 대기 최대 요청 수
+    private Long pendingAcquireTimeout = 5000L;    // 커넥션 획득 대기 시간
+    private Long maxIdleTime = 30000L;             // 유휴 커넥션 유지 시간
+    private Long maxLifeTime = 300000L;            // 커넥션 최대 수명
+    private Integer connectTimeout = 3000;         // TCP 연결 타임아웃
+    private Long responseTimeout = 60000L;         // 응답 타임아웃 (LLM 생성 시간 포함)
+    private Long requestTimeout = 90000L;          // 요청 전체 데드라인 (커넥션 대기 + 응답)
+    private Boolean compressionEnabled = true;     // gzip 응답 압축
+    private Boolean http2Enabled = true;           // HTTP/2 (ALPN 협상, 미지원 시 HTTP/1.1)
+    private Integer maxInMemorySize = 2097152;     // 응답 버퍼 최대 크기 (bytes)
+}
@@ -0,0 +1,32 @@
+package com.flowerbed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM API 호출 동시성 제한 설정
+ * - 인스턴스별 적응형 동시 호출 한도 (AIMD)
+ * - Redis 토큰 버킷으로 전체 인스턴스 호출 속도 제한 (제공자별)
+ * - 시간 단위 값은 모두 밀리초(ms)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.limiter")
+public class LlmLimiterConfig {
+    private Boolean enabled = true;              // 동시성 제한 사용 여부
+    private Integer initialLimit = 8;            // 초기 동시 호출 한도 (인스턴스, 제공자별)
+    private Integer minLimit = 1;                // 최소 동시 호출 한도
+    private Integer maxLimit = 32;               // 최대 동시 호출 한도
+    private Double backoffRatio = 0.5;           // 429/529 응답 시 한도 감소 비율 (multiplicative decrease)
+    private Long latencyThreshold = 20000L;      // 응답 지연 기준 (초과 시 한도 감소)
+    private Double latencyBackoffRatio = 0.9;    // 응답 지연 시 한도 감소 비율
+    private Long queueTimeout = 30000L;          // 대기열 최대 대기 시간 (초과 시 LLM_BUSY)
+    private Integer maxQueueSize = 200;          // 대기열 최대 크기 (초과 시 즉시 LLM_BUSY)
+    private Boolean clusterEnabled = true;       // Redis 토큰 버킷 사용 여부
+    private Double clusterRatePerSecond = 5.0;   // 전체 인스턴스 초당 호출 수 (제공자별)
+    private Integer clusterBurst = 20;           // 토큰 버킷 최대 크기 (순간 허용 호출 수)
+    private Long overloadCooldown = 2000L;       // 429/529 응답 시 전체 인스턴스 호출 중지 시간 (Retry-After 없을 때)
+}
@@ -0,0 +1,33 @@
+package com.flowerbed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 제공자 라우팅 설정
+ * - 사용할 제공자 목록 (llm.provider가 우선 제공자, API 키가 없는 제공자는 제외)
+ * - 제공자별 서킷 브레이커, 응답 시간 기반 라우팅, 헤지 요청
+ * - 시간 단위 값은 모두 밀리초(ms)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.router")
+public class LlmRouterConfig {
+    private List<String> providers = new ArrayList<>();  // 사용할 제공자 (장애 시 순서대로 전환, 비어 있으면 llm.provider만)
+    private Boolean failoverEnabled = true;        // 호출 실패 시 다음 제공자로 재시도
+    private Boolean latencyRoutingEnabled = true;  // 평균 응답 시간(EWMA)이 더 짧은 제공자 우선
+    private Double ewmaAlpha = 0.2;                // 평균 응답 시간 가중치 (최근 값 반영 비율)
+    private Integer failureThreshold = 5;          // 연속 실패 횟수 (도달 시 서킷 OPEN)
+    private Long openDuration = 30000L;            // 서킷 OPEN 유지 시간 (이후 시험 호출 1건 허용)
+    private Boolean hedgingEnabled = false;        // 헤지 요청 사용 여부 (응답 지연 시 다른 제공자에 동시 요청, 비용 증가)
+    private Integer latencyWindowSize = 200;       // p95 계산용 최근 응답 시간 샘플 수
+    private Integer hedgeMinSamples = 20;          // p95 사용 최소 샘플 수 (미만이면 hedgeDefaultDelay)
+    private Long hedgeMinDelay = 1000L;            // 헤지 요청 최소 대기 시간
+    private Long hedgeDefaultDelay = 10000L;       // 샘플 부족 시 헤지 요청 대기 시간
+}
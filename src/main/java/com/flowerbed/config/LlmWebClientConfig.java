@@ -0,0 +1,65 @@
+package com.flowerbed.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * LLM API 호출용 WebClient 설정
+ *
+ * 요청마다 RestTemplate을 새로 만들지 않고, 제한된 크기의 커넥션 풀을 가진
+ * Reactor Netty 기반 WebClient 하나를 Claude / OpenAI 클라이언트가 공유합니다.
+ * - Keep-Alive 커넥션 재사용 (TLS 핸드셰이크 비용 절감)
+ * - 풀 크기 / 대기열 제한으로 LLM 지연 시 스레드·커넥션 폭주 방지
+ * - 연결 / 응답 타임아웃, gzip 압축, HTTP/2 협상
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class LlmWebClientConfig {
+
+    private final LlmHttpConfig config;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider() {
+        return ConnectionProvider.builder("llm-http")
+                .maxConnections(config.getMaxConnections())
+                .pendingAcquireMaxCount(config.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(config.getPendingAcquireTimeout()))
+                .maxIdleTime(Duration.ofMillis(config.getMaxIdleTime()))
+                .maxLifeTime(Duration.ofMillis(config.getMaxLifeTime()))
+                .evictInBackground(Duration.ofMillis(config.getMaxIdleTime()))
+                .build();
+    }
+
+    @Bean
+    public WebClient llmWebClient(ConnectionProvider llmConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(llmConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout())
+                .responseTimeout(Duration.ofMillis(config.getResponseTimeout()))
+                .compress(Boolean.TRUE.equals(config.getCompressionEnabled()));
+
+        if (Boolean.TRUE.equals(config.getHttp2Enabled())) {
+            // https 요청은 ALPN으로 h2 협상, 서버가 지원하지 않으면 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        log.info("LLM WebClient 초기화: maxConnections={}, responseTimeout={}ms, http2={}, gzip={}",
+                config.getMaxConnections(), config.getResponseTimeout(),
+                config.getHttp2Enabled(), config.getCompressionEnabled());
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(config.getMaxInMemorySize()))
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "openai.api")
 public class OpenAiConfig {
     private String key;
+    private String baseUrl = "https://api.openai.com";
     private String model;
     private Integer maxTokens;
     private Double temperature;
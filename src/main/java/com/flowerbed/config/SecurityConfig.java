@@ -3,6 +3,7 @@ package com.flowerbed.config;
 import com.flowerbed.api.v1.domain.User;
 import com.flowerbed.exception.CustomAuthenticationEntryPoint;
 import com.flowerbed.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -67,6 +68,8 @@ public class SecurityConfig {
 
                 // 인증 설정
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 ASYNC 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 아래 URL 인증 예외 처리
                         .requestMatchers(
                                 "/*/auth/**",
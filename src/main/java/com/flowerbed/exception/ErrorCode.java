@@ -23,8 +23,13 @@ public enum ErrorCode {
     // 403 Forbidden
     FORBIDDEN(HttpStatus.FORBIDDEN, "FORBIDDEN", "접근 권한이 없는 사용자입니다."),
 
+    // 409 Conflict
+    DIARY_MODIFIED_DURING_ANALYSIS(HttpStatus.CONFLICT, "DIARY_MODIFIED_DURING_ANALYSIS", "감정 분석 중 일기가 수정되었습니다. 다시 분석해주세요"),
+    WEEKLY_REPORT_JOB_RUNNING(HttpStatus.CONFLICT, "WEEKLY_REPORT_JOB_RUNNING", "주간 리포트 일괄 생성이 이미 진행 중입니다"),
+
     // 429 Too Many Requests
     WEEKLY_REPORT_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "WEEKLY_REPORT_LIMIT_EXCEEDED", "일일 주간 리포트 발행 횟수를 초과했습니다"),
+    ANALYSIS_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "ANALYSIS_QUEUE_FULL", "감정 분석 요청이 많습니다. 잠시 후 다시 시도해주세요"),
 
     // 404 Not Found
     DIARY_NOT_FOUND(HttpStatus.NOT_FOUND, "DIARY_NOT_FOUND", "일기를 찾을 수 없습니다"),
@@ -35,6 +40,11 @@ public enum ErrorCode {
     FLOWER_NOT_FOUND(HttpStatus.NOT_FOUND, "FLOWER_NOT_FOUND", "꽃 정보를 찾을 수 없습니다"),
     CODE_NOT_FOUND(HttpStatus.NOT_FOUND, "CODE_NOT_FOUND", "코드 정보를 찾을 수 없습니다"),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "CODE_NOT_FOUND", "사용자 설정을 찾을 수 없습니다"),
+    ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "ANALYSIS_JOB_NOT_FOUND", "감정 분석 작업을 찾을 수 없습니다"),
+    WEEKLY_REPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "WEEKLY_REPORT_JOB_NOT_FOUND", "주간 리포트 생성 작업을 찾을 수 없습니다"),
+
+    // 503 Service Unavailable
+    LLM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "LLM_BUSY", "AI 분석 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요"),
 
     // 500 Internal Server Error
     LLM_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "LLM_ANALYSIS_FAILED", "AI 감정 분석에 실패했습니다"),
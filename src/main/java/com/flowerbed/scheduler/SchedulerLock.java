@@ -0,0 +1,128 @@
+package com.flowerbed.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 작업 분산 락 (Redis)
+ * - 여러 인스턴스에서 같은 스케줄이 동시에 실행되어도 락을 획득한 인스턴스 1곳만 작업 수행
+ * - SET NX PX로 획득, 작업 중에는 임대 시간의 1/3마다 연장 (작업 시간이 길어도 락 유지)
+ * - 인스턴스가 종료되면 연장이 멈추고 임대 시간 후 자동 해제
+ * - 연장/해제는 소유자 토큰이 일치할 때만 수행 (Lua 스크립트)
+ * - Redis 장애 시 작업을 실행하지 않음 (중복 생성 방지 우선, 필요 시 관리자 API로 수동 실행)
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String LOCK_KEY_PREFIX = "LOCK:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DefaultRedisScript<Long> renewScript;
+    private final DefaultRedisScript<Long> releaseScript;
+    private final ScheduledExecutorService renewalExecutor;
+    private final boolean enabled;
+    private final long leaseTime;
+
+    public SchedulerLock(StringRedisTemplate stringRedisTemplate,
+                         @Value("${scheduler.lock.enabled:true}") boolean enabled,
+                         @Value("${scheduler.lock.lease-time:60000}") long leaseTime) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.leaseTime = leaseTime;
+        this.renewScript = createScript("scripts/lock-renew.lua");
+        this.releaseScript = createScript("scripts/lock-release.lua");
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 락을 획득한 경우에만 작업 실행
+     *
+     * @param name 락 이름 (예: weekly-report:2025-01-06)
+     * @param task 실행할 작업
+     * @return 작업 실행 여부 (다른 인스턴스가 실행 중이거나 Redis 장애 시 false)
+     */
+    public boolean runExclusive(String name, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return true;
+        }
+
+        String key = LOCK_KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, leaseTime, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("분산 락 획득 실패 (Redis 오류), 작업을 실행하지 않습니다: lock={}, error={}", name, e.getMessage());
+            return false;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("다른 인스턴스가 작업 실행 중입니다: lock={}", name);
+            return false;
+        }
+
+        log.info("분산 락 획득: lock={}", name);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(key, token), leaseTime / 3, leaseTime / 3, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(key, token);
+        }
+    }
+
+    private void renew(String key, String token) {
+        try {
+            Long renewed = stringRedisTemplate.execute(renewScript, List.of(key), token, String.valueOf(leaseTime));
+            if (renewed == null || renewed == 0) {
+                log.error("분산 락을 잃었습니다 (만료 또는 다른 인스턴스 획득): key={}", key);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 재시도 (임대 시간 내 복구되면 락 유지)
+            log.warn("분산 락 연장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            stringRedisTemplate.execute(releaseScript, List.of(key), token);
+            log.info("분산 락 해제: key={}", key);
+        } catch (Exception e) {
+            log.warn("분산 락 해제 실패 (임대 시간 후 자동 해제): key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private static DefaultRedisScript<Long> createScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,62 @@
+package com.flowerbed.scheduler;
+
+import com.flowerbed.api.v1.domain.WeeklyReportJob;
+import com.flowerbed.service.WeeklyReportEngine;
+import com.flowerbed.service.WeeklyReportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 중단된 주간 리포트 작업 재개
+ * - 애플리케이션 시작 후 RUNNING 상태로 남은 작업(인스턴스 재시작 등으로 중단)을 커서 이후부터 이어서 처리
+ * - 스케줄러와 같은 분산 락 사용 → 다른 인스턴스에서 실제로 실행 중인 작업은 건드리지 않음
+ * - 시작을 지연시키지 않도록 비동기 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyReportJobRecovery {
+
+    private final WeeklyReportJobService weeklyReportJobService;
+    private final WeeklyReportEngine weeklyReportEngine;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${weekly-report.job.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        if (!resumeOnStartup) {
+            return;
+        }
+
+        List<WeeklyReportJob> runningJobs = weeklyReportJobService.findRunningJobs();
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        log.info("재개 대상 주간 리포트 작업: {}건", runningJobs.size());
+
+        for (WeeklyReportJob job : runningJobs) {
+            boolean executed = schedulerLock.runExclusive(WeeklyReportScheduler.lockName(job.getStartDate()), () -> {
+                // 락 획득 전에 다른 인스턴스가 끝냈을 수 있으므로 다시 확인
+                if (!weeklyReportJobService.isRunning(job.getJobId())) {
+                    log.info("이미 종료된 작업입니다: jobId={}", job.getJobId());
+                    return;
+                }
+                weeklyReportEngine.generateReportsForAllUsers(job.getStartDate(), job.getEndDate());
+            });
+
+            if (!executed) {
+                log.info("다른 인스턴스에서 실행 중인 작업입니다: jobId={}, week={}", job.getJobId(), job.getStartDate());
+            }
+        }
+    }
+}
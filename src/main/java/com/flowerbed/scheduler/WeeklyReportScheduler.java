@@ -1,8 +1,10 @@
 package com.flowerbed.scheduler;
 
-import com.flowerbed.service.WeeklyReportService;
+import com.flowerbed.service.WeeklyReportBatchService;
+import com.flowerbed.service.WeeklyReportEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,13 +17,25 @@ import java.time.LocalDate;
  * - 모든 사용자에 대해 주간 리포트 레코드 생성
  * - 일기 3개 이상: AI 분석 수행 (isAnalyzed=true)
  * - 일기 3개 미만: 레코드만 생성, AI 분석 미수행 (isAnalyzed=false)
+ * - weekly-report.mode: sync(WeeklyReportEngine 병렬 실시간 호출) / batch(제공자 Batch API 일괄 제출)
+ * - 여러 인스턴스 실행 시 weekly-report.distribution
+ *   · lock: 분산 락을 획득한 인스턴스 1곳만 생성 (기본값)
+ *   · shard: 모든 인스턴스가 Redis 작업 큐에서 학생 묶음을 나눠 처리 (sync 모드만 해당)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WeeklyReportScheduler {
 
-    private final WeeklyReportService weeklyReportService;
+    private final WeeklyReportEngine weeklyReportEngine;
+    private final WeeklyReportBatchService weeklyReportBatchService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${weekly-report.mode:sync}")
+    private String mode;
+
+    @Value("${weekly-report.distribution:lock}")
+    private String distribution;
 
     /**
      * 매주 월요일 00시에 주간 리포트 생성
@@ -37,9 +51,33 @@ public class WeeklyReportScheduler {
         LocalDate lastMonday = today.with(DayOfWeek.MONDAY).minusWeeks(1);
         LocalDate lastSunday = lastMonday.plusDays(6);
 
-        // Service 메서드 호출
-        weeklyReportService.generateReportsForAllUsers(lastMonday, lastSunday);
+        // 여러 인스턴스가 학생 묶음을 나눠 처리 (큐 적재는 1곳에서만)
+        if ("shard".equalsIgnoreCase(distribution) && !"batch".equalsIgnoreCase(mode)) {
+            weeklyReportEngine.generateReportsFromShards(lastMonday, lastSunday);
+            log.info("========== 주간 리포트 자동 생성 스케줄러 종료 ==========");
+            return;
+        }
+
+        // 전체 학생 리포트 생성 (락을 획득한 인스턴스만, 모든 사용자 처리 / 배치 완료까지 대기)
+        boolean executed = schedulerLock.runExclusive(lockName(lastMonday), () -> {
+            if ("batch".equalsIgnoreCase(mode)) {
+                weeklyReportBatchService.generateReportsForAllUsers(lastMonday, lastSunday);
+            } else {
+                weeklyReportEngine.generateReportsForAllUsers(lastMonday, lastSunday);
+            }
+        });
+
+        if (!executed) {
+            log.info("주간 리포트 생성을 건너뜁니다 (다른 인스턴스에서 실행 중): week={}", lastMonday);
+        }
 
         log.info("========== 주간 리포트 자동 생성 스케줄러 종료 ==========");
     }
+
+    /**
+     * 주간 리포트 일괄 생성 락 이름 (스케줄러 / 수동 생성 API 공용)
+     */
+    public static String lockName(LocalDate startDate) {
+        return "weekly-report:" + startDate;
+    }
 }
@@ -0,0 +1,51 @@
+package com.flowerbed.service;
+
+import com.flowerbed.api.v1.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활동중인 학생 순회 (일괄 작업 공용)
+ * - 엔티티 대신 user_sn만 키셋 페이지네이션으로 조회 (user_sn > 직전 페이지 마지막 값, KeysetPages)
+ * - 한 번에 한 페이지만 메모리에 유지 → 학생 수와 무관하게 사용량 일정
+ * - 페이지마다 짧은 조회 쿼리만 실행 (긴 트랜잭션/커서 유지 없음)
+ * - 삭제된 사용자는 @Where(deleted_at IS NULL)로 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveStudentReader {
+
+    private static final String USER_TYPE_STUDENT = "STUDENT";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 활동중인 학생 수 (진행률 표시용, 순회 중 가입/삭제로 실제 처리 수와 다를 수 있음)
+     */
+    public long count() {
+        return userRepository.countByUserTypeCd(USER_TYPE_STUDENT);
+    }
+
+    /**
+     * 활동중인 학생 user_sn을 페이지 단위로 순회
+     * - 다음 페이지는 iterator 진행 시점에 조회
+     *
+     * @param pageSize 페이지 크기
+     */
+    public Iterable<List<Long>> pages(int pageSize) {
+        return pages(pageSize, 0L);
+    }
+
+    /**
+     * 특정 user_sn 이후의 활동중인 학생을 페이지 단위로 순회 (중단된 작업 재개용)
+     *
+     * @param pageSize 페이지 크기
+     * @param startAfterUserSn 이 user_sn 다음부터 조회 (처음부터는 0)
+     */
+    public Iterable<List<Long>> pages(int pageSize, long startAfterUserSn) {
+        return new KeysetPages(pageSize, startAfterUserSn,
+                (afterUserSn, pageable) -> userRepository.findUserSnsAfter(USER_TYPE_STUDENT, afterUserSn, pageable));
+    }
+}
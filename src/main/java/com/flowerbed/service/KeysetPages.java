@@ -0,0 +1,66 @@
+package com.flowerbed.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * ID 키셋 페이지 순회 (일괄 작업 공용)
+ * - 직전 페이지의 마지막 ID 이후를 다음 페이지로 조회 (ID > ? ORDER BY ID 쿼리 사용)
+ * - 다음 페이지는 iterator 진행 시점에 조회 → 한 번에 한 페이지만 메모리에 유지
+ * - 순회 중 조건에서 빠지는 행(처리 완료 등)이 있어도 OFFSET과 달리 누락/중복 없음
+ */
+class KeysetPages implements Iterable<List<Long>> {
+
+    private final int pageSize;
+    private final long startAfterId;
+    private final BiFunction<Long, Pageable, List<Long>> query;
+
+    /**
+     * @param pageSize 페이지 크기
+     * @param startAfterId 이 ID 다음부터 조회 (처음부터는 0)
+     * @param query (직전 페이지 마지막 ID, 페이지 크기) → ID 오름차순 목록
+     */
+    KeysetPages(int pageSize, long startAfterId, BiFunction<Long, Pageable, List<Long>> query) {
+        this.pageSize = pageSize;
+        this.startAfterId = startAfterId;
+        this.query = query;
+    }
+
+    @Override
+    public Iterator<List<Long>> iterator() {
+        return new Iterator<>() {
+            private Long afterId = startAfterId;
+            private List<Long> next;
+            private boolean lastPage = false;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !lastPage) {
+                    next = query.apply(afterId, PageRequest.of(0, pageSize));
+                    lastPage = next.size() < pageSize;
+                    if (next.isEmpty()) {
+                        next = null;
+                    } else {
+                        afterId = next.get(next.size() - 1);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public List<Long> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Long> page = next;
+                next = null;
+                return page;
+            }
+        };
+    }
+}
@@ -0,0 +1,263 @@
+package com.flowerbed.service;
+
+import com.flowerbed.api.v1.service.LlmBatchClient;
+import com.flowerbed.config.LlmBatchConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 리포트 Batch API 생성 서비스 (weekly-report.mode=batch)
+ * - 실시간 호출 대신 제공자 Batch API로 일괄 분석 (응답은 늦지만 비용 절감, 호출 속도 제한 없음)
+ *
+ * 처리 순서:
+ * 1. 대상 학생별 리포트 레코드를 isAnalyzed=false로 먼저 생성하고 user 프롬프트 수집
+ * 2. maxRequestsPerBatch 단위로 모이는 대로 배치 제출 (custom_id: weekly-report-{reportId})
+ * 3. pollInterval 간격으로 상태 조회, 완료된 배치의 결과를 리포트에 반영 (isAnalyzed=true)
+ * 4. maxWait 초과 시 남은 배치 취소
+ *
+ * 실패한 요청/배치의 리포트는 isAnalyzed=false로 남아 retry-failed API로 재분석
+ */
+@Slf4j
+@Service
+public class WeeklyReportBatchService {
+
+    private static final String CUSTOM_ID_PREFIX = "weekly-report-";
+
+    private final WeeklyReportService weeklyReportService;
+    private final ActiveStudentReader activeStudentReader;
+    private final List<LlmBatchClient> batchClients;
+    private final LlmBatchConfig config;
+    private final String defaultProvider;
+    private final int batchSize;
+
+    public WeeklyReportBatchService(WeeklyReportService weeklyReportService,
+                                    ActiveStudentReader activeStudentReader,
+                                    List<LlmBatchClient> batchClients,
+                                    LlmBatchConfig config,
+                                    @Value("${llm.provider:openai}") String defaultProvider,
+                                    @Value("${weekly-report.batch-size:100}") int batchSize) {
+        this.weeklyReportService = weeklyReportService;
+        this.activeStudentReader = activeStudentReader;
+        this.batchClients = batchClients;
+        this.config = config;
+        this.defaultProvider = defaultProvider;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 전체 사용자 대상 주간 리포트 생성 (Batch API)
+     * - 배치가 모두 끝나거나 maxWait에 도달할 때까지 호출 스레드에서 대기
+     *
+     * @param startDate 시작일 (월요일)
+     * @param endDate 종료일 (일요일)
+     */
+    public void generateReportsForAllUsers(LocalDate startDate, LocalDate endDate) {
+        LlmBatchClient client = resolveClient();
+
+        log.info("========== 전체 사용자 주간 리포트 생성 시작 (Batch API) ==========");
+        log.info("분석 기간: {} ~ {}, 제공자: {}", startDate, endDate, client.getProvider());
+
+        // 1. 리포트 레코드 생성 및 프롬프트 수집 → 2. 요청 수 제한 단위로 모이는 대로 제출
+        log.info("주간 리포트 생성 대상 학생 수: {}", activeStudentReader.count());
+
+        String systemPrompt = weeklyReportService.getAnalysisSystemPrompt();
+        Map<String, String> chunk = new LinkedHashMap<>();
+        List<String> batchIds = new ArrayList<>();
+        int requestCount = 0;
+        int skipCount = 0;
+        int prepareFailCount = 0;
+
+        for (List<Long> userSns : activeStudentReader.pages(batchSize)) {
+            List<WeeklyReportService.PendingAnalysis> prompts;
+            try {
+                // 페이지 전체를 한 번에 준비 (기존 리포트 / 일기 조회 각 1회)
+                prompts = weeklyReportService.prepareAnalyses(userSns, startDate, endDate, false);
+                skipCount += userSns.size() - prompts.size();
+            } catch (Exception e) {
+                log.warn("주간 리포트 페이지 준비 실패, 사용자별로 재시도합니다: users={}, error={}", userSns.size(), e.getMessage());
+                prompts = new ArrayList<>();
+                for (Long userSn : userSns) {
+                    try {
+                        WeeklyReportService.PendingAnalysis prompt = weeklyReportService.prepareAnalysis(userSn, startDate, endDate, false);
+                        if (prompt == null) {
+                            skipCount++;
+                        } else {
+                            prompts.add(prompt);
+                        }
+                    } catch (Exception userException) {
+                        prepareFailCount++;
+                        log.error("✗ 주간 리포트 준비 실패: userId={}, error={}", userSn, userException.getMessage());
+                    }
+                }
+            }
+
+            for (WeeklyReportService.PendingAnalysis prompt : prompts) {
+                chunk.put(CUSTOM_ID_PREFIX + prompt.getReportId(), prompt.getUserPrompt());
+                requestCount++;
+
+                if (chunk.size() >= config.getMaxRequestsPerBatch()) {
+                    submit(client, systemPrompt, chunk, batchIds);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            submit(client, systemPrompt, chunk, batchIds);
+        }
+
+        log.info("배치 분석 요청 수: {} (분석 제외 {}명, 준비 실패 {}명, 제출된 배치 {}건)",
+                requestCount, skipCount, prepareFailCount, batchIds.size());
+
+        if (batchIds.isEmpty()) {
+            log.info("배치 분석 대상 리포트가 없습니다.");
+            return;
+        }
+
+        // 3. 완료 대기 및 결과 반영
+        BatchTally tally = awaitAndApply(client, batchIds);
+
+        log.info("========== 전체 사용자 주간 리포트 생성 완료 (Batch API) ==========");
+        log.info("전체 결과: 요청 {}건, 분석 성공 {}건, 분석 실패 {}건, 미완료 {}건",
+                requestCount, tally.successCount, tally.failCount,
+                requestCount - tally.successCount - tally.failCount);
+    }
+
+    /**
+     * 배치 1건 제출
+     * - 제출에 실패한 묶음의 리포트는 isAnalyzed=false 유지
+     */
+    private void submit(LlmBatchClient client, String systemPrompt, Map<String, String> chunk, List<String> batchIds) {
+        try {
+            batchIds.add(client.submit(systemPrompt, chunk));
+        } catch (Exception e) {
+            log.error("✗ 배치 제출 실패 ({}건): {}", chunk.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 완료 대기 및 결과 반영
+     * - 최대 대기 시간 초과 시 남은 배치를 취소하고, 취소가 끝날 때까지(최대 cancel-wait) 계속 조회
+     *   → 취소 전에 처리된 요청 결과(이미 과금됨)도 반영
+     */
+    private BatchTally awaitAndApply(LlmBatchClient client, List<String> batchIds) {
+        BatchTally tally = new BatchTally();
+        Set<String> pending = new LinkedHashSet<>(batchIds);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getMaxWait());
+        boolean cancelled = false;
+
+        while (!pending.isEmpty()) {
+            Iterator<String> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                String batchId = iterator.next();
+                LlmBatchClient.BatchState state;
+                try {
+                    state = client.getState(batchId);
+                } catch (Exception e) {
+                    // 일시적 조회 실패는 다음 주기에 재조회
+                    log.warn("배치 상태 조회 실패: batchId={}, error={}", batchId, e.getMessage());
+                    continue;
+                }
+
+                if (state == LlmBatchClient.BatchState.ENDED) {
+                    applyResults(client, batchId, tally);
+                    iterator.remove();
+                } else if (state == LlmBatchClient.BatchState.FAILED) {
+                    log.error("✗ 배치 실패: batchId={}", batchId);
+                    iterator.remove();
+                }
+            }
+
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                if (cancelled) {
+                    log.warn("배치 취소 후 종료 대기 시간 초과 ({}ms), 결과 미반영 배치: {}", config.getCancelWait(), pending);
+                    break;
+                }
+                log.warn("배치 최대 대기 시간 초과 ({}ms), 남은 배치 취소 후 처리된 결과 반영: {}", config.getMaxWait(), pending);
+                pending.forEach(batchId -> cancel(client, batchId));
+                cancelled = true;
+                deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getCancelWait());
+            }
+
+            try {
+                log.info("배치 처리 대기 중... (남은 배치 {}건, {}ms 후 재조회)", pending.size(), config.getPollInterval());
+                Thread.sleep(config.getPollInterval());
+            } catch (InterruptedException e) {
+                log.warn("배치 완료 대기 중 인터럽트 발생, 남은 배치: {}", pending);
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return tally;
+    }
+
+    /**
+     * 완료된 배치의 결과를 리포트에 반영
+     */
+    private void applyResults(LlmBatchClient client, String batchId, BatchTally tally) {
+        log.info("배치 결과 반영 시작: batchId={}", batchId);
+        try {
+            client.fetchResults(batchId, result -> applyResult(result, tally));
+        } catch (Exception e) {
+            log.error("✗ 배치 결과 조회 실패: batchId={}, error={}", batchId, e.getMessage(), e);
+        }
+    }
+
+    private void applyResult(LlmBatchClient.BatchResult result, BatchTally tally) {
+        String customId = result.getCustomId();
+
+        if (!result.isSucceeded()) {
+            tally.failCount++;
+            log.error("✗ 배치 요청 실패: customId={}, error={}", customId, result.getError());
+            return;
+        }
+
+        try {
+            Long reportId = Long.valueOf(customId.substring(CUSTOM_ID_PREFIX.length()));
+            weeklyReportService.applyAnalysisResult(reportId, result.getContent());
+            tally.successCount++;
+            log.debug("✓ 주간 리포트 분석 반영: reportId={}", reportId);
+        } catch (Exception e) {
+            tally.failCount++;
+            log.error("✗ 배치 결과 반영 실패: customId={}, error={}", customId, e.getMessage());
+        }
+    }
+
+    private void cancel(LlmBatchClient client, String batchId) {
+        try {
+            client.cancel(batchId);
+        } catch (Exception e) {
+            log.warn("배치 취소 실패: batchId={}, error={}", batchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 제공자 선택 (llm.batch.provider, 미지정 시 llm.provider)
+     */
+    private LlmBatchClient resolveClient() {
+        String provider = StringUtils.hasText(config.getProvider()) ? config.getProvider() : defaultProvider;
+        return batchClients.stream()
+                .filter(client -> client.getProvider().equalsIgnoreCase(provider))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 배치 제공자입니다: " + provider));
+    }
+
+    /**
+     * 결과 반영 집계 (결과는 호출 스레드에서 순차 처리)
+     */
+    private static class BatchTally {
+        int successCount = 0;
+        int failCount = 0;
+    }
+}
@@ -0,0 +1,557 @@
+package com.flowerbed.service;
+
+import com.flowerbed.api.v1.domain.WeeklyReportJob;
+import com.flowerbed.api.v1.service.LlmApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주간 리포트 일괄 생성 엔진 (weekly-report.mode=sync)
+ * - 처리 단계
+ *   1. 리포트 레코드 생성 + 프롬프트 준비 (batch-size명 페이지 단위, 기존 리포트/일기 일괄 조회)
+ *   2. LLM 호출 (사용자별, weeklyReportLlmExecutor)
+ *   3. 분석 결과 반영 (사용자별, weeklyReportDbExecutor)
+ * - 동시에 처리 중인 사용자 수를 max-in-flight로 제한 (대상 학생 수와 무관하게 대기열 크기 일정)
+ * - 사용자별 제한 시간(user-timeout), 실패는 해당 사용자만 isAnalyzed=false로 남음 (retry-failed 대상)
+ *   시간 초과 시 대기 중인 LLM 호출은 취소, 진행 중인 호출은 인터럽트하고 끝날 때까지 permit 유지
+ * - 대상 학생은 ActiveStudentReader로 batch-size명씩 조회 (전체 목록을 메모리에 올리지 않음)
+ *   또는 WeeklyReportShardQueue에서 묶음을 꺼내 여러 인스턴스가 나눠 처리
+ * - 진행 상황은 batch-size명 단위로 로그 출력, 작업 테이블(weekly_report_jobs)에 묶음 단위 체크포인트
+ * - 분석 실패 리포트 재시도(retry-failed)도 같은 방식으로 리포트 ID 묶음 단위 처리
+ */
+@Slf4j
+@Component
+public class WeeklyReportEngine {
+
+    private final WeeklyReportService weeklyReportService;
+    private final WeeklyReportJobService weeklyReportJobService;
+    private final ActiveStudentReader activeStudentReader;
+    private final WeeklyReportShardQueue shardQueue;
+    private final LlmApiClient llmApiClient;
+    private final ThreadPoolTaskExecutor dbExecutor;
+    private final ThreadPoolTaskExecutor llmExecutor;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long userTimeout;
+
+    public WeeklyReportEngine(WeeklyReportService weeklyReportService,
+                              WeeklyReportJobService weeklyReportJobService,
+                              ActiveStudentReader activeStudentReader,
+                              WeeklyReportShardQueue shardQueue,
+                              LlmApiClient llmApiClient,
+                              @Qualifier("weeklyReportDbExecutor") ThreadPoolTaskExecutor dbExecutor,
+                              @Qualifier("weeklyReportLlmExecutor") ThreadPoolTaskExecutor llmExecutor,
+                              @Value("${weekly-report.batch-size:100}") int batchSize,
+                              @Value("${weekly-report.engine.max-in-flight:32}") int maxInFlight,
+                              @Value("${weekly-report.engine.user-timeout:180000}") long userTimeout) {
+        this.weeklyReportService = weeklyReportService;
+        this.weeklyReportJobService = weeklyReportJobService;
+        this.activeStudentReader = activeStudentReader;
+        this.shardQueue = shardQueue;
+        this.llmApiClient = llmApiClient;
+        this.dbExecutor = dbExecutor;
+        this.llmExecutor = llmExecutor;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.userTimeout = userTimeout;
+    }
+
+    /**
+     * 전체 사용자 대상 주간 리포트 생성
+     * - 스케줄러 및 수동 생성 API에서 사용
+     * - 활동중인 학생(STUDENT)만 대상
+     * - 모든 사용자 처리가 끝날 때까지 호출 스레드에서 대기
+     * - 작업(weekly_report_jobs)에 묶음 단위로 체크포인트, 같은 주의 중단된 작업이 있으면 커서 이후부터 재개
+     *
+     * @param startDate 시작일 (월요일)
+     * @param endDate 종료일 (일요일)
+     */
+    public void generateReportsForAllUsers(LocalDate startDate, LocalDate endDate) {
+        log.info("========== 전체 사용자 주간 리포트 생성 시작 ==========");
+        log.info("분석 기간: {} ~ {}", startDate, endDate);
+
+        // 활동중인 학생 수 (진행률 표시용)
+        long targetCount = activeStudentReader.count();
+        log.info("주간 리포트 생성 대상 학생 수: {}", targetCount);
+
+        WeeklyReportJob job = weeklyReportJobService.startOrResume(startDate, endDate, targetCount);
+        boolean resumed = job.getResumeCount() > 0;
+        if (resumed) {
+            log.info("중단된 작업을 이어서 처리합니다: jobId={}, user_sn > {}, 처리 완료 {}명",
+                    job.getJobId(), job.getCursorUserSn(), job.getProcessedCount());
+        }
+
+        try {
+            boolean finished = run("주간 리포트 생성", activeStudentReader.pages(batchSize, job.getCursorUserSn()),
+                    targetCount, job.getProcessedCount(), job.getJobId(),
+                    (userSns, page, progress) -> prepare(userSns, startDate, endDate, resumed, page, progress));
+
+            // 인터럽트로 중단된 경우 RUNNING 유지 (재시작 시 재개)
+            if (finished) {
+                weeklyReportJobService.complete(job.getJobId());
+            }
+        } catch (RuntimeException e) {
+            weeklyReportJobService.fail(job.getJobId(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 인스턴스가 나눠서 주간 리포트 생성 (weekly-report.distribution=shard)
+     * - WeeklyReportShardQueue에서 묶음을 꺼내 처리, 큐가 비고 다른 인스턴스의 처리 중 묶음도 없으면 종료
+     * - 스케줄러가 모든 인스턴스에서 동시에 호출
+     * - 묶음 순서가 user_sn 순이 아니므로 작업 체크포인트 없음
+     *
+     * @param startDate 시작일 (월요일)
+     * @param endDate 종료일 (일요일)
+     */
+    public void generateReportsFromShards(LocalDate startDate, LocalDate endDate) {
+        log.info("========== 주간 리포트 분산 생성 시작 ==========");
+        log.info("분석 기간: {} ~ {}", startDate, endDate);
+
+        WeeklyReportShardQueue.ShardRun shardRun;
+        try {
+            shardRun = shardQueue.join(startDate);
+        } catch (InterruptedException e) {
+            log.warn("주간 리포트 작업 적재 대기 중 인터럽트 발생");
+            Thread.currentThread().interrupt();
+            return;
+        }
+        log.info("주간 리포트 생성 대상 학생 수 (전체 인스턴스): {}", shardRun.getTotal());
+
+        try (shardRun) {
+            run("주간 리포트 생성", shardRun.getPages(), shardRun.getTotal(), 0, null,
+                    (userSns, page, progress) -> prepare(userSns, startDate, endDate, false, page, progress));
+        }
+    }
+
+    /**
+     * 분석 실패한 리포트 재시도 (isAnalyzed=false)
+     * - 관리자 retry-failed API에서 사용, 모든 리포트 처리가 끝날 때까지 호출 스레드에서 대기
+     * - 리포트 ID를 batch-size건씩 키셋 조회, 묶음마다 짧은 읽기 트랜잭션으로 대상 선별/일기 조회
+     * - 분석된 일기 3개 미만인 리포트는 집계 쿼리로 제외 (원래 분석 대상이 아님)
+     * - LLM 호출/결과 반영은 일괄 생성과 동일하게 병렬 처리 (리포트별 짧은 트랜잭션, max-in-flight 제한)
+     */
+    public void retryFailedReports() {
+        log.info("========== 분석 실패한 주간 리포트 재시도 시작 ==========");
+
+        long targetCount = weeklyReportService.countFailedReports();
+        log.info("재시도 대상 리포트 수: {}", targetCount);
+
+        run("분석 실패한 주간 리포트 재시도", weeklyReportService.failedReportIdPages(batchSize), targetCount, 0, null,
+                this::prepareRetries);
+    }
+
+    /**
+     * 묶음(학생 user_sn 또는 리포트 ID)을 순서대로 준비하고 리포트별 분석을 병렬 실행
+     * - 모든 리포트 처리가 끝날 때까지 호출 스레드에서 대기
+     *
+     * @param name 작업 이름 (로그용)
+     * @param processedCount 이전 실행에서 처리 완료된 건수 (재개 시)
+     * @param jobId 체크포인트 대상 작업 (null이면 체크포인트 없음)
+     * @param preparer 묶음 준비 (리포트 레코드 생성/대상 선별, 분석 요청 정보 반환)
+     * @return 모든 묶음 처리 완료 여부 (인터럽트 시 false)
+     */
+    private boolean run(String name, Iterable<List<Long>> pages, long targetCount, int processedCount,
+                        Long jobId, PagePreparer preparer) {
+        if (targetCount == 0) {
+            log.info("{} 대상이 없습니다.", name);
+            return true;
+        }
+
+        log.info("엔진 설정: DB 스레드={}, LLM 스레드={}, 동시 처리 사용자={}, 사용자별 제한 시간={}ms",
+                dbExecutor.getMaxPoolSize(), llmExecutor.getMaxPoolSize(), maxInFlight, userTimeout);
+
+        RunProgress progress = new RunProgress(targetCount, processedCount, batchSize);
+        Checkpointer checkpointer = new Checkpointer(jobId);
+        Semaphore permits = new Semaphore(maxInFlight);
+        String systemPrompt = weeklyReportService.getAnalysisSystemPrompt();
+        boolean finished = true;
+
+        try {
+            // batch-size 단위 묶음으로 받아 처리
+            for (List<Long> ids : pages) {
+                PageState page = new PageState(ids.get(ids.size() - 1));
+                List<WeeklyReportService.PendingAnalysis> pendings = preparer.prepare(ids, page, progress);
+
+                // 준비가 끝난 묶음 등록 (묶음의 분석이 모두 끝나면 앞 묶음부터 순서대로 체크포인트)
+                page.remaining.set(pendings.size());
+                checkpointer.add(page);
+
+                for (WeeklyReportService.PendingAnalysis pending : pendings) {
+                    // 처리 중인 사용자가 max-in-flight면 하나가 끝날 때까지 대기
+                    permits.acquire();
+                    // 실제 LLM 호출/결과 반영이 끝난 뒤 반납 (시간 초과 후에도 호출이 끝날 때까지 유지)
+                    analyze(pending, systemPrompt)
+                            .whenComplete((result, ex) -> {
+                                progress.record(page, pending.getReportId(), ex);
+                                checkpointer.flush();
+                                permits.release();
+                            });
+                }
+            }
+
+            // 남은 작업 완료 대기
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+
+        } catch (InterruptedException e) {
+            log.warn("{} 중 인터럽트 발생, 이미 시작된 리포트만 처리됩니다.", name, e);
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+
+        // 리포트가 생성된 주가 발행 가능한 주 캐시에 남지 않도록 삭제
+        weeklyReportService.evictAllGenerableWeeksCache();
+
+        log.info("========== {} 완료 ==========", name);
+        log.info("처리 결과 (이 실행): 총 {}건, 분석 {}건, 분석 제외 {}건, 실패 {}건, 시간 초과 {}건 ({}초)",
+                progress.completed.get() - processedCount, progress.analyzed.get(), progress.skipped.get(),
+                progress.failed.get(), progress.timedOut.get(), progress.elapsedSeconds());
+        return finished;
+    }
+
+    /**
+     * 페이지 단위 리포트 준비 (호출 스레드에서 실행, 앞 페이지의 LLM 호출과 겹쳐 진행)
+     * - 페이지 전체를 한 트랜잭션으로 준비 (기존 리포트 / 일기 조회 각 1회)
+     * - 실패 시 사용자별로 다시 준비하여 실패를 해당 사용자로 한정
+     */
+    private List<WeeklyReportService.PendingAnalysis> prepare(List<Long> userSns, LocalDate startDate, LocalDate endDate,
+                                                              boolean reanalyzeExisting, PageState page,
+                                                              RunProgress progress) {
+        try {
+            List<WeeklyReportService.PendingAnalysis> pendings =
+                    weeklyReportService.prepareAnalyses(userSns, startDate, endDate, reanalyzeExisting);
+            progress.skip(page, userSns.size() - pendings.size());
+            return pendings;
+
+        } catch (Exception e) {
+            log.warn("주간 리포트 페이지 준비 실패, 사용자별로 재시도합니다: users={}, error={}", userSns.size(), e.getMessage());
+        }
+
+        List<WeeklyReportService.PendingAnalysis> pendings = new ArrayList<>();
+        for (Long userSn : userSns) {
+            try {
+                WeeklyReportService.PendingAnalysis pending =
+                        weeklyReportService.prepareAnalysis(userSn, startDate, endDate, reanalyzeExisting);
+                if (pending == null) {
+                    progress.skip(page, 1);
+                } else {
+                    pendings.add(pending);
+                }
+            } catch (Exception e) {
+                log.error("✗ 주간 리포트 준비 실패: userId={}, error={}", userSn, e.getMessage());
+                progress.fail(page, 1);
+            }
+        }
+        return pendings;
+    }
+
+    /**
+     * 재시도 묶음 준비 (리포트 ID 묶음)
+     * - 실패 시 리포트별로 다시 준비하여 실패를 해당 리포트로 한정
+     */
+    private List<WeeklyReportService.PendingAnalysis> prepareRetries(List<Long> reportIds, PageState page,
+                                                                     RunProgress progress) {
+        try {
+            List<WeeklyReportService.PendingAnalysis> pendings = weeklyReportService.prepareRetries(reportIds);
+            progress.skip(page, reportIds.size() - pendings.size());
+            return pendings;
+
+        } catch (Exception e) {
+            log.warn("재시도 리포트 묶음 준비 실패, 리포트별로 재시도합니다: reports={}, error={}", reportIds.size(), e.getMessage());
+        }
+
+        List<WeeklyReportService.PendingAnalysis> pendings = new ArrayList<>();
+        for (Long reportId : reportIds) {
+            try {
+                List<WeeklyReportService.PendingAnalysis> pending = weeklyReportService.prepareRetries(List.of(reportId));
+                progress.skip(page, 1 - pending.size());
+                pendings.addAll(pending);
+            } catch (Exception e) {
+                log.error("✗ 리포트 재분석 준비 실패: reportId={}, error={}", reportId, e.getMessage());
+                progress.fail(page, 1);
+            }
+        }
+        return pendings;
+    }
+
+    /**
+     * 사용자 1명 분석 (LLM 호출 → 결과 반영)
+     * - 반환 future는 실제 작업이 끝난 뒤 완료 (완료 시 max-in-flight permit 반납)
+     * - 시간 초과 시 대기 중이면 LLM 대기열에서 제거, 호출 중이면 호출 스레드를 인터럽트하고 호출이 끝나면 시간 초과로 완료
+     *   시간 초과로 집계한 리포트에는 늦게 도착한 결과를 반영하지 않음 (isAnalyzed=false 유지, retry-failed 대상)
+     * - 결과 반영을 시작한 뒤에는 시간 초과로 중단하지 않음 (반영 결과대로 집계)
+     */
+    private CompletableFuture<Void> analyze(WeeklyReportService.PendingAnalysis pending, String systemPrompt) {
+        AnalysisTask task = new AnalysisTask(pending, systemPrompt);
+        try {
+            llmExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture.delayedExecutor(userTimeout, TimeUnit.MILLISECONDS).execute(task::expire);
+        return task.done;
+    }
+
+    /**
+     * 사용자 1명 분석 작업 (LLM 스레드에서 호출, DB 스레드에서 결과 반영)
+     * - 상태: 대기 → 호출 중 → 결과 반영 / 완료, 시간 초과는 대기 또는 호출 중에만 전이
+     */
+    private class AnalysisTask implements Runnable {
+        private static final int QUEUED = 0;
+        private static final int CALLING = 1;
+        private static final int APPLYING = 2;
+        private static final int DONE = 3;
+        private static final int TIMED_OUT = 4;
+
+        private final WeeklyReportService.PendingAnalysis pending;
+        private final String systemPrompt;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Thread runner;  // 호출 중인 스레드 (this 잠금으로 보호, 호출 중 상태 전이도 같은 잠금에서)
+
+        private AnalysisTask(WeeklyReportService.PendingAnalysis pending, String systemPrompt) {
+            this.pending = pending;
+            this.systemPrompt = systemPrompt;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (!state.compareAndSet(QUEUED, CALLING)) {
+                    // 대기 중 시간 초과 (대기열에서 제거하지 못한 경우 여기서 완료)
+                    done.completeExceptionally(new TimeoutException());
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+
+            String llmResponse;
+            try {
+                llmResponse = llmApiClient.call(systemPrompt, pending.getUserPrompt());
+            } catch (RuntimeException | Error e) {
+                done.completeExceptionally(finishCall(DONE) ? e : new TimeoutException());
+                return;
+            }
+
+            if (!finishCall(APPLYING)) {
+                done.completeExceptionally(new TimeoutException());
+                return;
+            }
+            try {
+                CompletableFuture.runAsync(() -> weeklyReportService.applyAnalysisResult(pending, llmResponse), dbExecutor)
+                        .whenComplete((result, ex) -> {
+                            state.set(DONE);
+                            if (ex == null) {
+                                done.complete(null);
+                            } else {
+                                done.completeExceptionally(ex);
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                state.set(DONE);
+                done.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * 호출 종료 (호출 중 → next)
+         * - 이미 시간 초과면 받은 인터럽트가 다음 작업에 남지 않도록 정리
+         *
+         * @return 전이 성공 여부 (false면 시간 초과)
+         */
+        private synchronized boolean finishCall(int next) {
+            runner = null;
+            if (state.compareAndSet(CALLING, next)) {
+                return true;
+            }
+            Thread.interrupted();
+            return false;
+        }
+
+        /**
+         * 제한 시간 도달
+         * - 대기 중: 대기열에서 제거되면 바로 시간 초과로 완료 (제거하지 못하면 꺼내질 때 완료)
+         * - 호출 중: 호출 스레드 인터럽트 (호출이 끝나면 run에서 시간 초과로 완료)
+         */
+        private void expire() {
+            if (state.compareAndSet(QUEUED, TIMED_OUT)) {
+                if (llmExecutor.getThreadPoolExecutor().remove(this)) {
+                    done.completeExceptionally(new TimeoutException());
+                }
+                return;
+            }
+            synchronized (this) {
+                if (state.compareAndSet(CALLING, TIMED_OUT)) {
+                    runner.interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 체크포인트
+     * - 묶음은 준비 순서(user_sn 오름차순)대로 등록
+     * - 앞에서부터 분석이 모두 끝난 묶음까지만 커서를 이동 (커서 이전 학생은 모두 처리 완료 보장)
+     */
+    private class Checkpointer {
+        private final Long jobId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<PageState> pages = new ArrayDeque<>();
+
+        private Checkpointer(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        private void add(PageState page) {
+            if (jobId == null) {
+                return;
+            }
+            lock.lock();
+            try {
+                pages.addLast(page);
+            } finally {
+                lock.unlock();
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (jobId == null) {
+                return;
+            }
+            lock.lock();
+            try {
+                PageState last = null;
+                int analyzed = 0, skipped = 0, failed = 0, timedOut = 0;
+                while (!pages.isEmpty() && pages.peekFirst().remaining.get() == 0) {
+                    PageState page = pages.pollFirst();
+                    analyzed += page.analyzed.get();
+                    skipped += page.skipped.get();
+                    failed += page.failed.get();
+                    timedOut += page.timedOut.get();
+                    last = page;
+                }
+                if (last == null) {
+                    return;
+                }
+
+                try {
+                    weeklyReportJobService.checkpoint(jobId, last.lastId, analyzed, skipped, failed, timedOut);
+                } catch (Exception e) {
+                    // 체크포인트 실패는 작업을 중단하지 않음 (재개 시 해당 묶음부터 다시 처리)
+                    log.warn("주간 리포트 작업 체크포인트 실패: jobId={}, cursor={}, error={}", jobId, last.lastId, e.getMessage());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 묶음 준비 (묶음 ID 목록 → 분석 요청 정보, 분석 제외/준비 실패는 progress에 기록)
+     */
+    @FunctionalInterface
+    private interface PagePreparer {
+        List<WeeklyReportService.PendingAnalysis> prepare(List<Long> ids, PageState page, RunProgress progress);
+    }
+
+    /**
+     * 묶음별 처리 현황 (체크포인트 단위)
+     */
+    private static class PageState {
+        private final Long lastId;         // 묶음의 마지막 ID (학생 묶음이면 체크포인트 커서)
+        private final AtomicInteger remaining = new AtomicInteger();  // 분석이 끝나지 않은 사용자 수
+        private final AtomicInteger analyzed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger timedOut = new AtomicInteger();
+
+        private PageState(Long lastId) {
+            this.lastId = lastId;
+        }
+    }
+
+    /**
+     * 진행 상황 집계 (여러 스레드에서 동시에 갱신)
+     */
+    private static class RunProgress {
+        private final long total;
+        private final int logInterval;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger completed;
+        private final AtomicInteger analyzed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger timedOut = new AtomicInteger();
+
+        private RunProgress(long total, int processedCount, int logInterval) {
+            this.total = total;
+            this.completed = new AtomicInteger(processedCount);
+            this.logInterval = logInterval;
+        }
+
+        private void record(PageState page, Long reportId, Throwable ex) {
+            if (ex == null) {
+                analyzed.incrementAndGet();
+                page.analyzed.incrementAndGet();
+            } else {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof TimeoutException) {
+                    timedOut.incrementAndGet();
+                    page.timedOut.incrementAndGet();
+                    log.error("✗ 주간 리포트 분석 시간 초과: reportId={}", reportId);
+                } else {
+                    failed.incrementAndGet();
+                    page.failed.incrementAndGet();
+                    log.error("✗ 주간 리포트 분석 실패: reportId={}, error={}", reportId, cause.getMessage());
+                }
+            }
+            page.remaining.decrementAndGet();
+            advance(1);
+        }
+
+        private void skip(PageState page, int count) {
+            skipped.addAndGet(count);
+            page.skipped.addAndGet(count);
+            advance(count);
+        }
+
+        private void fail(PageState page, int count) {
+            failed.addAndGet(count);
+            page.failed.addAndGet(count);
+            advance(count);
+        }
+
+        // logInterval 경계를 넘을 때마다 진행 상황 로그
+        private void advance(int count) {
+            int done = completed.addAndGet(count);
+            if (count > 0 && (done - count) / logInterval != done / logInterval) {
+                log.info("진행: {}/{} (분석 {}, 분석 제외 {}, 실패 {}, 시간 초과 {}, {}초 경과)",
+                        done, total, analyzed.get(), skipped.get(), failed.get(), timedOut.get(), elapsedSeconds());
+            }
+        }
+
+        private long elapsedSeconds() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.flowerbed.service;
+
+import com.flowerbed.api.v1.domain.WeeklyReportJob;
+import com.flowerbed.api.v1.dto.WeeklyReportJobResponse;
+import com.flowerbed.api.v1.repository.WeeklyReportJobRepository;
+import com.flowerbed.exception.ErrorCode;
+import com.flowerbed.exception.business.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주간 리포트 일괄 생성 작업 관리
+ * - 작업 시작/재개, 학생 묶음 단위 체크포인트, 완료/실패 기록
+ * - 관리자 진행 상황 조회 (진행률, 처리 속도, 남은 예상 시간)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeeklyReportJobService {
+
+    private final WeeklyReportJobRepository weeklyReportJobRepository;
+
+    /**
+     * 작업 시작 또는 재개
+     * - 같은 주의 RUNNING 작업이 있으면 (중단된 작업) 커서를 유지한 채 재개
+     *
+     * @param totalCount 대상 학생 수
+     */
+    @Transactional
+    public WeeklyReportJob startOrResume(LocalDate startDate, LocalDate endDate, long totalCount) {
+        return weeklyReportJobRepository
+                .findFirstByStartDateAndStatusOrderByJobIdDesc(startDate, WeeklyReportJob.STATUS_RUNNING)
+                .map(job -> {
+                    job.resume((int) totalCount);
+                    log.info("주간 리포트 작업 재개: jobId={}, week={}, cursor={}, 처리 완료 {}/{}",
+                            job.getJobId(), startDate, job.getCursorUserSn(), job.getProcessedCount(), totalCount);
+                    return job;
+                })
+                .orElseGet(() -> {
+                    WeeklyReportJob job = weeklyReportJobRepository.save(new WeeklyReportJob(startDate, endDate, (int) totalCount));
+                    log.info("주간 리포트 작업 시작: jobId={}, week={}, 대상 {}명", job.getJobId(), startDate, totalCount);
+                    return job;
+                });
+    }
+
+    /**
+     * 체크포인트 (커서까지 처리 완료된 묶음의 건수 누적)
+     */
+    @Transactional
+    public void checkpoint(Long jobId, Long cursorUserSn, int analyzed, int skipped, int failed, int timedOut) {
+        weeklyReportJobRepository.findById(jobId)
+                .ifPresent(job -> job.checkpoint(cursorUserSn, analyzed, skipped, failed, timedOut));
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        weeklyReportJobRepository.findById(jobId).ifPresent(job -> {
+            job.complete();
+            log.info("주간 리포트 작업 완료: jobId={}, 처리 {}/{}", jobId, job.getProcessedCount(), job.getTotalCount());
+        });
+    }
+
+    @Transactional
+    public void fail(Long jobId, String errorMessage) {
+        weeklyReportJobRepository.findById(jobId).ifPresent(job -> {
+            job.fail(errorMessage);
+            log.error("✗ 주간 리포트 작업 실패: jobId={}, error={}", jobId, errorMessage);
+        });
+    }
+
+    /**
+     * 진행 중(RUNNING) 작업 목록 (인스턴스 시작 시 재개 대상)
+     */
+    public List<WeeklyReportJob> findRunningJobs() {
+        return weeklyReportJobRepository.findByStatusOrderByJobIdAsc(WeeklyReportJob.STATUS_RUNNING);
+    }
+
+    public boolean isRunning(Long jobId) {
+        return weeklyReportJobRepository.findById(jobId)
+                .map(WeeklyReportJob::isRunning)
+                .orElse(false);
+    }
+
+    /**
+     * 최근 작업 목록 (최신순 20건)
+     */
+    public List<WeeklyReportJobResponse> getRecentJobs() {
+        return weeklyReportJobRepository.findTop20ByOrderByJobIdDesc().stream()
+                .map(WeeklyReportJobResponse::from)
+                .toList();
+    }
+
+    public WeeklyReportJobResponse getJob(Long jobId) {
+        return weeklyReportJobRepository.findById(jobId)
+                .map(WeeklyReportJobResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.WEEKLY_REPORT_JOB_NOT_FOUND));
+    }
+}
@@ -6,27 +6,40 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flowerbed.api.v1.domain.Diary;
 import com.flowerbed.api.v1.domain.Emotion;
 import com.flowerbed.api.v1.domain.User;
+import com.flowerbed.api.v1.domain.UserWeekRollup;
 import com.flowerbed.api.v1.domain.WeeklyReport;
+import com.flowerbed.api.v1.dto.GenerableWeekResponse;
+import com.flowerbed.api.v1.event.DiaryChangedEvent;
+import com.flowerbed.api.v1.event.EmotionCacheEvictedEvent;
 import com.flowerbed.api.v1.repository.DiaryRepository;
 import com.flowerbed.api.v1.repository.UserRepository;
+import com.flowerbed.api.v1.repository.UserWeekRollupRepository;
 import com.flowerbed.api.v1.repository.WeeklyReportRepository;
 import com.flowerbed.api.v1.service.LlmApiClient;
+import com.flowerbed.api.v1.service.LlmPromptTemplate;
+import com.flowerbed.api.v1.service.UserWeekRollupService;
 import com.flowerbed.exception.ErrorCode;
 import com.flowerbed.exception.business.BusinessException;
 import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -46,27 +59,22 @@ public class WeeklyReportService {
     private final WeeklyReportRepository weeklyReportRepository;
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
+    private final UserWeekRollupRepository userWeekRollupRepository;
+    private final UserWeekRollupService userWeekRollupService;
     private final com.flowerbed.api.v1.service.EmotionCacheService emotionCacheService;
     private final LlmApiClient llmApiClient;
     private final ObjectMapper objectMapper;
 
-    @org.springframework.beans.factory.annotation.Value("${weekly-report.batch-size:100}")
-    private int batchSize;
-
-    @org.springframework.beans.factory.annotation.Value("${weekly-report.delay-between-batches:2000}")
-    private long delayBetweenBatches;
-
     // 프롬프트 템플릿 (원본)
     private String promptTemplateRaw;
 
-    // DB 감정 정보가 주입된 최종 프롬프트 템플릿
-    private String promptTemplate;
+    // DB 감정 정보가 주입된 컴파일 프롬프트 (system / user 분리, 감정 캐시 삭제 시 교체)
+    private volatile LlmPromptTemplate promptTemplate;
 
     /**
      * 서비스 초기화
      * 1. 프롬프트 템플릿 파일 로드
-     * 2. DB에서 감정 정보 조회
-     * 3. 프롬프트에 감정 정보 주입
+     * 2. 감정 정보 주입 및 system / user 프롬프트 분리 (compilePrompt)
      */
     @PostConstruct
     public void initPrompt() {
@@ -75,25 +83,43 @@ public class WeeklyReportService {
             ClassPathResource resource = new ClassPathResource("prompts/weekly-report-analysis-prompt.txt");
             promptTemplateRaw = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
 
-            // 2. DB에서 감정 정보 조회 (캐싱)
-            List<Emotion> emotions = emotionCacheService.getAllEmotions();
+        } catch (IOException e) {
+            throw new RuntimeException("주간 리포트 프롬프트 초기화 실패", e);
+        }
 
-            // 3. 감정 영역 설명 생성
-            String emotionAreas = buildEmotionAreas(emotions);
+        // 2. 감정 정보 주입 후 컴파일
+        compilePrompt();
+    }
 
-            // 4. 감정-꽃 매칭표 생성
-            String emotionMappings = buildEmotionMappings(emotions);
+    /**
+     * 감정 마스터 데이터 변경 시 프롬프트 다시 컴파일 (EmotionCacheService.evictAllEmotionCache)
+     */
+    @EventListener(EmotionCacheEvictedEvent.class)
+    public void onEmotionCacheEvicted() {
+        compilePrompt();
+    }
 
-            // 5. 프롬프트에 주입
-            promptTemplate = promptTemplateRaw
-                    .replace("{EMOTION_AREAS}", emotionAreas)
-                    .replace("{EMOTION_MAPPINGS}", emotionMappings);
+    /**
+     * 프롬프트 컴파일
+     * 1. DB에서 감정 정보 조회 (캐싱)
+     * 2. 감정 영역 설명 / 감정-꽃 매칭표 생성
+     * 3. 정적 값 주입 후 system 프롬프트 분리 (제공자 프롬프트 캐싱용)
+     */
+    private void compilePrompt() {
+        // 1. DB에서 감정 정보 조회 (캐싱)
+        List<Emotion> emotions = emotionCacheService.getAllEmotions();
+
+        // 2. 감정 영역 설명, 감정-꽃 매칭표 생성
+        Map<String, String> staticValues = Map.of(
+                "EMOTION_AREAS", buildEmotionAreas(emotions),
+                "EMOTION_MAPPINGS", buildEmotionMappings(emotions)
+        );
 
-            log.info("WeeklyReportService 초기화 완료: {} 개 감정 로드", emotions.size());
+        // 3. 컴파일
+        promptTemplate = LlmPromptTemplate.compile(promptTemplateRaw, staticValues, "{DIARY_CONTENT}");
 
-        } catch (IOException e) {
-            throw new RuntimeException("주간 리포트 프롬프트 초기화 실패", e);
-        }
+        log.info("WeeklyReportService 프롬프트 컴파일 완료: {} 개 감정 로드, promptVersion={}",
+                emotions.size(), promptTemplate.getVersion());
     }
 
     /**
@@ -165,23 +191,6 @@ public class WeeklyReportService {
         return sb.toString();
     }
 
-    /**
-     * 비동기로 사용자별 주간 리포트 생성
-     * @return CompletableFuture<WeeklyReport> (항상 WeeklyReport 반환)
-     */
-    @Async
-    @Transactional
-    public CompletableFuture<WeeklyReport> generateReportAsync(Long userSn, LocalDate startDate, LocalDate endDate) {
-        try {
-            WeeklyReport report = generateReport(userSn, startDate, endDate);
-            // null일 수 있음 (일기 3개 미만)
-            return CompletableFuture.completedFuture(report);
-        } catch (Exception e) {
-            log.error("Failed to generate weekly report for user: {}", userSn, e);
-            return CompletableFuture.failedFuture(e);
-        }
-    }
-
     /**
      * 주간 리포트 생성 (동기)
      *
@@ -193,6 +202,7 @@ public class WeeklyReportService {
      * @return WeeklyReport (항상 반환)
      */
     @Transactional
+    @CacheEvict(value = "generableWeeks", key = "T(com.flowerbed.service.WeeklyReportService).generableWeeksKey(#userSn)")
     public WeeklyReport generateReport(Long userSn, LocalDate startDate, LocalDate endDate) {
 
         // 이미 생성된 리포트가 있는지 확인
@@ -217,17 +227,7 @@ public class WeeklyReportService {
         if (diaryCount < 3) {
             log.info("User {} has less than 3 analyzed diaries. Creating report without AI analysis.", userSn);
 
-            WeeklyReport report = WeeklyReport.builder()
-                    .user(user)
-                    .startDate(startDate)
-                    .endDate(endDate)
-                    .diaryCount(diaryCount)
-                    .isAnalyzed(false)
-                    .readYn(false)
-                    .newNotificationSent(false)
-                    .build();
-
-            WeeklyReport saved = weeklyReportRepository.save(report);
+            WeeklyReport saved = saveUnanalyzedReport(user, startDate, endDate, diaryCount);
             log.info("Weekly report created without analysis (diary count: {}): reportId={}, user={}, week={}",
                     diaryCount, saved.getReportId(), userSn, startDate);
             return saved;
@@ -235,14 +235,15 @@ public class WeeklyReportService {
 
         // 일기 3개 이상: AI 분석 수행
         try {
-            // 감정 통계 계산
-            List<WeeklyReport.EmotionStat> emotionStats = calculateEmotionStats(diaries);
+            // 감정 통계 계산 (주별 집계 사용)
+            EmotionTally tally = tallyOf(userSn, startDate, diaries);
+            List<WeeklyReport.EmotionStat> emotionStats = calculateEmotionStats(tally);
 
             // 주간 일기 상세 정보 생성
             List<WeeklyReport.DiaryDetail> weeklyDiaryDetails = buildWeeklyDiaryDetails(diaries);
 
             // 하이라이트 계산
-            WeeklyReport.Highlights highlights = calculateHighlights(diaries, emotionStats);
+            WeeklyReport.Highlights highlights = calculateHighlights(tally, emotionStats);
 
             // LLM API 호출하여 분석
             Map<String, Object> analysisResult = callLlmForAnalysis(diaries);
@@ -282,23 +283,169 @@ public class WeeklyReportService {
             log.error("Failed to analyze weekly report for user: {}", userSn, e);
 
             // 분석 실패 시에도 레코드 생성 (isAnalyzed=false)
-            WeeklyReport report = WeeklyReport.builder()
-                    .user(user)
-                    .startDate(startDate)
-                    .endDate(endDate)
-                    .diaryCount(diaryCount)
-                    .isAnalyzed(false)
-                    .readYn(false)
-                    .newNotificationSent(false)
-                    .build();
-
-            WeeklyReport saved = weeklyReportRepository.save(report);
+            WeeklyReport saved = saveUnanalyzedReport(user, startDate, endDate, diaryCount);
             log.warn("Weekly report created without analysis due to error: reportId={}, user={}, week={}",
                     saved.getReportId(), userSn, startDate);
             return saved;
         }
     }
 
+    /**
+     * 분석 미수행 리포트 레코드 생성 (isAnalyzed=false)
+     */
+    private WeeklyReport saveUnanalyzedReport(User user, LocalDate startDate, LocalDate endDate, int diaryCount) {
+        WeeklyReport report = WeeklyReport.builder()
+                .user(user)
+                .startDate(startDate)
+                .endDate(endDate)
+                .diaryCount(diaryCount)
+                .isAnalyzed(false)
+                .readYn(false)
+                .newNotificationSent(false)
+                .build();
+
+        return weeklyReportRepository.save(report);
+    }
+
+    // ======================== 일괄 생성 (WeeklyReportEngine / WeeklyReportBatchService) ========================
+
+    /**
+     * 일괄 생성용 리포트 준비 (사용자 묶음 단위)
+     * - 묶음 전체의 기존 리포트 / 분석된 일기를 각각 한 번의 쿼리로 조회 후 사용자별로 나눠 처리
+     * - 리포트 레코드를 isAnalyzed=false로 먼저 생성 (LLM 호출/배치 실패 시 retry-failed 대상)
+     * - 일기 3개 이상인 경우만 분석 요청 정보 반환 → LLM 응답은 applyAnalysisResult로 반영
+     * - 한 사용자라도 저장에 실패하면 묶음 전체가 롤백되므로, 호출 측에서 prepareAnalysis로 사용자별 재시도
+     *
+     * @param userSns 사용자 묶음 (ActiveStudentReader 페이지)
+     * @param reanalyzeExisting 이미 있는 리포트 중 분석 전(isAnalyzed=false)인 리포트도 분석 (중단된 작업 재개 시)
+     * @return 분석 요청 정보 목록 (분석 대상이 아니거나 이미 리포트가 있는 사용자는 제외)
+     */
+    @Transactional
+    public List<PendingAnalysis> prepareAnalyses(List<Long> userSns, LocalDate startDate, LocalDate endDate,
+                                                 boolean reanalyzeExisting) {
+        if (userSns.isEmpty()) {
+            return List.of();
+        }
+
+        // 이미 생성된 리포트 (사용자별)
+        Map<Long, WeeklyReport> existingReports = weeklyReportRepository.findByUserSnListAndStartDate(userSns, startDate).stream()
+                .collect(Collectors.toMap(report -> report.getUser().getUserSn(), report -> report, (a, b) -> a));
+
+        // 묶음 전체의 분석된 일기 조회 후 사용자별 그룹화
+        Map<Long, List<Diary>> diariesByUser = diaryRepository
+                .findAnalyzedByUserSnListAndDateBetween(userSns, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(diary -> diary.getUser().getUserSn()));
+
+        List<PendingAnalysis> pendings = new ArrayList<>();
+        for (Long userSn : userSns) {
+            List<Diary> diaries = diariesByUser.getOrDefault(userSn, List.of());
+            WeeklyReport existing = existingReports.get(userSn);
+
+            if (existing != null) {
+                // 재개: 레코드만 생성되고 LLM 응답을 반영하지 못한 리포트는 다시 분석
+                if (reanalyzeExisting && !existing.getIsAnalyzed() && diaries.size() >= 3) {
+                    pendings.add(new PendingAnalysis(existing.getReportId(),
+                            promptTemplate.renderUserPrompt(buildDiaryContents(diaries)), diaries));
+                } else {
+                    log.info("Weekly report already exists for user: {}, week: {}", userSn, startDate);
+                }
+                continue;
+            }
+
+            // 활동중인 학생 목록에서 조회한 user_sn이므로 프록시 참조만 사용 (사용자 조회 쿼리 생략)
+            WeeklyReport saved = saveUnanalyzedReport(userRepository.getReferenceById(userSn), startDate, endDate, diaries.size());
+
+            // 일기 3개 미만: 레코드만 생성 (AI 분석 미수행)
+            if (diaries.size() < 3) {
+                continue;
+            }
+
+            pendings.add(new PendingAnalysis(saved.getReportId(),
+                    promptTemplate.renderUserPrompt(buildDiaryContents(diaries)), diaries));
+        }
+
+        return pendings;
+    }
+
+    /**
+     * 일괄 생성용 리포트 준비 (사용자 1명)
+     * - prepareAnalyses 묶음 저장 실패 시 사용자별 재시도용
+     *
+     * @return 분석 요청 정보, 분석 대상이 아니거나 이미 리포트가 있으면 null
+     */
+    @Transactional
+    public PendingAnalysis prepareAnalysis(Long userSn, LocalDate startDate, LocalDate endDate, boolean reanalyzeExisting) {
+        List<PendingAnalysis> pendings = prepareAnalyses(List.of(userSn), startDate, endDate, reanalyzeExisting);
+        return pendings.isEmpty() ? null : pendings.get(0);
+    }
+
+    /**
+     * LLM 분석 결과 반영 (준비 단계에서 조회한 일기 사용)
+     * - 통계/하이라이트는 메모리의 일기로 계산, 리포트만 다시 조회하여 저장
+     *
+     * @param pending prepareAnalyses에서 반환한 분석 요청 정보
+     * @param llmResponse LLM 응답 텍스트
+     */
+    @Transactional
+    public void applyAnalysisResult(PendingAnalysis pending, String llmResponse) {
+        WeeklyReport report = weeklyReportRepository.findById(pending.getReportId())
+                .orElseThrow(() -> new IllegalArgumentException("주간 리포트를 찾을 수 없습니다."));
+
+        if (report.getIsAnalyzed()) {
+            log.info("Weekly report already analyzed, skipping result: reportId={}", pending.getReportId());
+            return;
+        }
+
+        updateAnalysisResult(report, pending.getDiaries(), parseAnalysisResponse(llmResponse));
+    }
+
+    /**
+     * LLM 분석 결과 반영 (리포트 ID만 있는 경우, Batch API 결과)
+     * - 일기를 다시 조회하여 통계/하이라이트 계산 후 LLM 응답과 함께 저장
+     *
+     * @param reportId prepareAnalyses에서 생성한 리포트 ID
+     * @param llmResponse LLM 응답 텍스트
+     */
+    @Transactional
+    public void applyAnalysisResult(Long reportId, String llmResponse) {
+        WeeklyReport report = weeklyReportRepository.findById(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("주간 리포트를 찾을 수 없습니다."));
+
+        if (report.getIsAnalyzed()) {
+            log.info("Weekly report already analyzed, skipping result: reportId={}", reportId);
+            return;
+        }
+
+        List<Diary> diaries = diaryRepository.findByUserSnAndDateBetween(
+                        report.getUser().getUserSn(), report.getStartDate(), report.getEndDate()).stream()
+                .filter(Diary::getIsAnalyzed)
+                .collect(Collectors.toList());
+
+        if (diaries.size() < 3) {
+            throw new IllegalStateException("분석된 일기가 3개 미만입니다. diaryCount=" + diaries.size());
+        }
+
+        updateAnalysisResult(report, diaries, parseAnalysisResponse(llmResponse));
+    }
+
+    /**
+     * 주간 리포트 분석 system 프롬프트 (모든 요청 공통)
+     */
+    public String getAnalysisSystemPrompt() {
+        return promptTemplate.getSystemPrompt();
+    }
+
+    /**
+     * 분석 요청 정보 (리포트 ID, user 프롬프트, 준비 단계에서 조회한 분석된 일기)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PendingAnalysis {
+        private final Long reportId;
+        private final String userPrompt;
+        private final List<Diary> diaries;
+    }
+
     /**
      * 주간 일기 상세 정보 생성
      * - 날짜별 일기의 감정 정보 (프론트에서 날짜별 조회용)
@@ -314,26 +461,58 @@ public class WeeklyReportService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 주간 감정 집계 조회
+     * - 주별 집계(user_week_rollup)의 분석된 일기 수가 조회한 일기 수와 같으면 집계 사용
+     * - 집계가 없거나 다르면(집계 적재 전 데이터 등) 조회한 일기로 직접 집계
+     */
+    private EmotionTally tallyOf(Long userSn, LocalDate startDate, List<Diary> diaries) {
+        Optional<UserWeekRollup> rollup = userWeekRollupRepository.findByUserSnAndWeekStartDate(userSn, startDate);
+        if (rollup.isPresent() && rollup.get().getAnalyzedCount() == diaries.size()) {
+            return new EmotionTally(diaries.size(), rollup.get().getEmotionCounts(), rollup.get().getAreaCounts());
+        }
+
+        log.debug("User week rollup missing or stale, counting diaries: user={}, week={}", userSn, startDate);
+        Map<String, Integer> emotionCounts = new HashMap<>();
+        Map<String, Integer> areaCounts = new HashMap<>();
+        for (Diary diary : diaries) {
+            if (diary.getCoreEmotionCode() == null) {
+                continue;
+            }
+            emotionCounts.merge(diary.getCoreEmotionCode(), 1, Integer::sum);
+
+            Emotion emotion = emotionCacheService.getEmotion(diary.getCoreEmotionCode());
+            if (emotion != null && emotion.getArea() != null) {
+                areaCounts.merge(emotion.getArea(), 1, Integer::sum);
+            }
+        }
+        return new EmotionTally(diaries.size(), emotionCounts, areaCounts);
+    }
+
+    /**
+     * 주간 감정 집계 (분석된 일기 수, 감정별/영역별 일기 수)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class EmotionTally {
+        private final int total;
+        private final Map<String, Integer> emotionCounts;
+        private final Map<String, Integer> areaCounts;
+    }
+
     /**
      * 감정 통계 계산
-     * - 해당 주의 모든 일기의 coreEmotion 집계
-     * - 감정별 출현 횟수 및 비율 계산
+     * - 해당 주 분석된 일기의 감정별 출현 횟수 및 비율 계산
      * - 출현 횟수 내림차순 정렬
      */
-    private List<WeeklyReport.EmotionStat> calculateEmotionStats(List<Diary> diaries) {
-        // 감정별 카운트
-        Map<String, Long> emotionCounts = diaries.stream()
-                .map(Diary::getCoreEmotionCode)
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(e -> e, Collectors.counting()));
-
-        int totalCount = diaries.size();
+    private List<WeeklyReport.EmotionStat> calculateEmotionStats(EmotionTally tally) {
+        int totalCount = tally.getTotal();
 
         // EmotionStat 리스트 생성
-        List<WeeklyReport.EmotionStat> stats = emotionCounts.entrySet().stream()
+        List<WeeklyReport.EmotionStat> stats = tally.getEmotionCounts().entrySet().stream()
                 .map(entry -> {
                     String emotionCode = entry.getKey();
-                    int count = entry.getValue().intValue();
+                    int count = entry.getValue();
                     double percentage = (count * 100.0) / totalCount;
 
                     // DB에서 감정 정보 조회 (캐싱)
@@ -360,8 +539,27 @@ public class WeeklyReportService {
      */
     private Map<String, Object> callLlmForAnalysis(List<Diary> diaries) {
 
-        // 일기 내용을 구조화된 형식으로 결합 (null 값 제외, 요일 정보 추가, 분석 완료 여부 추가)
-        String diaryContents = diaries.stream()
+        // 프롬프트 생성 (system 프롬프트는 고정, 일기 데이터만 user 프롬프트로 전송)
+        LlmPromptTemplate prompt = promptTemplate;
+        String userPrompt = prompt.renderUserPrompt(buildDiaryContents(diaries));
+        log.debug("[WeeklyReportService - callLlmForAnalysis] userPrompt : {}", userPrompt);
+
+        // LLM API 호출
+        try {
+            String llmResponse = llmApiClient.call(prompt.getSystemPrompt(), userPrompt);
+            log.debug("[WeeklyReportService - callLlmForAnalysis] llmResponse : {}", llmResponse);
+            return parseAnalysisResponse(llmResponse);
+        } catch (Exception e) {
+            log.error("Failed to call LLM API for weekly report analysis", e);
+            throw new RuntimeException("주간 리포트 분석 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 일기 내용을 구조화된 형식으로 결합 (null 값 제외, 요일 정보 추가, 분석 완료 여부 추가)
+     */
+    private String buildDiaryContents(List<Diary> diaries) {
+        return diaries.stream()
                 .map(d -> {
                     StringBuilder sb = new StringBuilder();
 
@@ -388,20 +586,6 @@ public class WeeklyReportService {
                     return sb.toString();
                 })
                 .collect(Collectors.joining("\n---\n\n"));
-
-        // 프롬프트 생성
-        String prompt = promptTemplate.replace("{DIARY_CONTENT}", diaryContents);
-        log.debug("[WeeklyReportService - callLlmForAnalysis] prompt : {}", prompt);
-
-        // LLM API 호출
-        try {
-            String llmResponse = llmApiClient.call(prompt);
-            log.debug("[WeeklyReportService - callLlmForAnalysis] llmResponse : {}", llmResponse);
-            return parseAnalysisResponse(llmResponse);
-        } catch (Exception e) {
-            log.error("Failed to call LLM API for weekly report analysis", e);
-            throw new RuntimeException("주간 리포트 분석 중 오류가 발생했습니다.", e);
-        }
     }
 
     /**
@@ -629,6 +813,12 @@ public class WeeklyReportService {
 
         // includeAnalyzable=true인 경우: isAnalyzed=false && 현재 분석 불가능한 리포트 제외
         if (includeAnalyzable) {
+            // 분석 미완료 리포트의 주별 현재 일기 수 (주별 집계 1회 조회)
+            List<WeeklyReport> unanalyzedReports = allReports.stream()
+                    .filter(report -> !report.getIsAnalyzed())
+                    .collect(Collectors.toList());
+            Map<LocalDate, Integer> currentDiaryCounts = getCurrentDiaryCounts(userSn, unanalyzedReports);
+
             return allReports.stream()
                     .filter(report -> {
                         // 분석 완료된 리포트는 항상 포함
@@ -636,8 +826,7 @@ public class WeeklyReportService {
                             return true;
                         }
                         // 분석 미완료 리포트는 현재 분석 가능한 경우만 포함
-                        int currentDiaryCount = getCurrentDiaryCount(userSn, report.getStartDate(), report.getEndDate());
-                        return currentDiaryCount >= 3;
+                        return currentDiaryCounts.getOrDefault(report.getStartDate(), 0) >= 3;
                     })
                     .collect(Collectors.toList());
         } else {
@@ -647,18 +836,28 @@ public class WeeklyReportService {
     }
 
     /**
-     * 현재 시점 해당 주의 분석된 일기 개수 조회
+     * 현재 시점 리포트별 주의 분석된 일기 개수 일괄 조회
+     * - 주별 집계(user_week_rollup)를 리포트 수와 무관하게 1회 조회
      *
      * @param userSn 사용자 SN
-     * @param startDate 시작일
-     * @param endDate 종료일
-     * @return 분석된 일기 개수
+     * @param reports 대상 리포트 목록 (같은 사용자)
+     * @return 리포트 시작일 → 분석된 일기 개수 (집계가 없는 주는 미포함, 0으로 취급)
      */
-    public int getCurrentDiaryCount(Long userSn, LocalDate startDate, LocalDate endDate) {
-        List<Diary> diaries = diaryRepository.findByUserSnAndDateBetween(userSn, startDate, endDate);
-        return (int) diaries.stream()
-                .filter(Diary::getIsAnalyzed)
-                .count();
+    public Map<LocalDate, Integer> getCurrentDiaryCounts(Long userSn, List<WeeklyReport> reports) {
+        Set<LocalDate> startDates = reports.stream()
+                .map(WeeklyReport::getStartDate)
+                .collect(Collectors.toSet());
+        Map<LocalDate, Integer> weekCounts = userWeekRollupService.getAnalyzedCounts(userSn, startDates);
+
+        // 집계는 월요일 기준이므로 리포트 시작일로 다시 매핑
+        Map<LocalDate, Integer> currentCounts = new HashMap<>();
+        for (LocalDate startDate : startDates) {
+            Integer count = weekCounts.get(UserWeekRollupService.weekStartOf(startDate));
+            if (count != null) {
+                currentCounts.put(startDate, count);
+            }
+        }
+        return currentCounts;
     }
 
     /**
@@ -681,184 +880,122 @@ public class WeeklyReportService {
         return report;
     }
 
+    // ======================== 분석 실패 리포트 재시도 (WeeklyReportEngine.retryFailedReports) ========================
+
     /**
-     * 전체 사용자 대상 주간 리포트 생성
-     * - 스케줄러 및 수동 생성 API에서 사용
-     * - 활동중인 학생(STUDENT)만 대상
-     * - 배치 처리 방식 (메모리/API Rate Limit 문제 방지)
-     *
-     * @param startDate 시작일 (월요일)
-     * @param endDate 종료일 (일요일)
+     * 분석 실패한 리포트 수 (isAnalyzed=false, 진행률 표시용)
      */
-    public void generateReportsForAllUsers(LocalDate startDate, LocalDate endDate) {
-        log.info("========== 전체 사용자 주간 리포트 생성 시작 ==========");
-        log.info("분석 기간: {} ~ {}", startDate, endDate);
-        log.info("배치 설정: 배치 크기={}, 배치 간 대기={}ms", batchSize, delayBetweenBatches);
-
-        // 활동중인 학생만 조회 (deletedAt IS NULL은 @Where로 자동 필터링)
-        List<Long> allUserSns = userRepository.findAll().stream()
-                .filter(user -> "STUDENT".equals(user.getUserTypeCd()))
-                .map(User::getUserSn)
-                .toList();
-
-        int totalUsers = allUserSns.size();
-        log.info("주간 리포트 생성 대상 학생 수: {}", totalUsers);
-
-        if (allUserSns.isEmpty()) {
-            log.info("주간 리포트 생성 대상 사용자가 없습니다.");
-            return;
-        }
-
-        // 배치 단위로 분할 처리
-        int totalBatches = (int) Math.ceil((double) totalUsers / batchSize);
-        int successCount = 0;
-        int failCount = 0;
-
-        for (int batchIndex = 0; batchIndex < totalBatches; batchIndex++) {
-            int fromIndex = batchIndex * batchSize;
-            int toIndex = Math.min((batchIndex + 1) * batchSize, totalUsers);
-            List<Long> batchUserSns = allUserSns.subList(fromIndex, toIndex);
-
-            log.info("========== 배치 {}/{} 처리 시작 ({} ~ {} / {} 명) ==========",
-                    batchIndex + 1, totalBatches, fromIndex + 1, toIndex, totalUsers);
-
-            // 현재 배치 처리
-            BatchResult batchResult = processBatch(batchUserSns, startDate, endDate);
-            successCount += batchResult.successCount;
-            failCount += batchResult.failCount;
-
-            log.info("========== 배치 {}/{} 처리 완료 (성공: {}, 실패: {}) ==========",
-                    batchIndex + 1, totalBatches, batchResult.successCount, batchResult.failCount);
-
-            // 마지막 배치가 아니면 대기 (API Rate Limit 방지)
-            if (batchIndex < totalBatches - 1) {
-                try {
-                    log.info("다음 배치 처리 전 {}ms 대기 중...", delayBetweenBatches);
-                    Thread.sleep(delayBetweenBatches);
-                } catch (InterruptedException e) {
-                    log.warn("배치 간 대기 중 인터럽트 발생", e);
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
-
-        log.info("========== 전체 사용자 주간 리포트 생성 완료 ==========");
-        log.info("전체 결과: 총 {}명, 성공 {}명, 실패 {}명",
-                totalUsers, successCount, failCount);
+    public long countFailedReports() {
+        return weeklyReportRepository.countByIsAnalyzedFalseAndDeletedAtIsNull();
     }
 
     /**
-     * 분석 실패한 리포트 재시도
-     * - isAnalyzed=false인 모든 리포트에 대해 LLM 분석 재시도
-     * - 관리자가 수동으로 실행하는 API
+     * 분석 실패한 리포트 ID를 페이지 단위로 순회 (report_id 키셋)
+     * - 재분석에 성공한 리포트가 조건에서 빠져도 다음 페이지가 밀리지 않음
      *
-     * 사용 시나리오:
-     * - LLM API 일시적 장애 복구 후 재시도
-     * - 토큰 제한으로 실패한 리포트 재분석
-     *
-     * 주의:
-     * - 일기 3개 미만으로 생성된 리포트는 자동 스킵 (재분석 불필요)
+     * @param pageSize 페이지 크기
      */
-    @Transactional
-    public void retryFailedReports() {
-        log.info("========== 분석 실패한 주간 리포트 재시도 시작 ==========");
-
-        // isAnalyzed=false인 모든 리포트 조회
-        List<WeeklyReport> failedReports = weeklyReportRepository.findByIsAnalyzedFalseAndDeletedAtIsNull();
-
-        int totalCount = failedReports.size();
-        log.info("재시도 대상 리포트 수: {}", totalCount);
+    public Iterable<List<Long>> failedReportIdPages(int pageSize) {
+        return new KeysetPages(pageSize, 0L, weeklyReportRepository::findFailedReportIdsAfter);
+    }
 
-        if (failedReports.isEmpty()) {
-            log.info("재시도 대상 리포트가 없습니다.");
-            return;
+    /**
+     * 재시도용 리포트 준비 (리포트 묶음 단위, 짧은 읽기 트랜잭션)
+     * - 분석된 일기 3개 미만인 리포트는 집계 쿼리로 제외 (원래 분석 대상이 아님, 일기 로딩 없음)
+     * - 남은 리포트는 주별로 묶어 분석된 일기를 한 번에 조회
+     * - LLM 응답은 applyAnalysisResult(PendingAnalysis, String)로 리포트별 반영
+     *
+     * @param reportIds 분석 실패한 리포트 ID 묶음 (failedReportIdPages 페이지)
+     * @return 분석 요청 정보 목록 (일기 3개 미만 리포트 제외)
+     */
+    public List<PendingAnalysis> prepareRetries(List<Long> reportIds) {
+        if (reportIds.isEmpty()) {
+            return List.of();
         }
 
-        int successCount = 0;
-        int skipCount = 0;
-        int failCount = 0;
+        List<Long> targetIds = weeklyReportRepository.findReportIdsWithMinAnalyzedDiaries(reportIds);
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
 
-        for (WeeklyReport report : failedReports) {
-            Long reportId = report.getReportId();
-            Long userSn = report.getUser().getUserSn();
-            LocalDate startDate = report.getStartDate();
-            LocalDate endDate = report.getEndDate();
+        // 주별로 묶기 (대부분 직전 주 한 개)
+        Map<LocalDate, List<WeeklyReport>> reportsByWeek = weeklyReportRepository.findAllById(targetIds).stream()
+                .collect(Collectors.groupingBy(WeeklyReport::getStartDate));
 
-            log.info("리포트 재분석 시도: reportId={}, user={}, week={}", reportId, userSn, startDate);
+        List<PendingAnalysis> pendings = new ArrayList<>();
+        for (List<WeeklyReport> reports : reportsByWeek.values()) {
+            WeeklyReport first = reports.get(0);
+            List<Long> userSns = reports.stream().map(report -> report.getUser().getUserSn()).toList();
 
-            try {
-                // 해당 기간의 분석된 일기 재조회
-                List<Diary> diaries = diaryRepository.findByUserSnAndDateBetween(userSn, startDate, endDate).stream()
-                        .filter(Diary::getIsAnalyzed)
-                        .collect(Collectors.toList());
+            Map<Long, List<Diary>> diariesByUser = diaryRepository
+                    .findAnalyzedByUserSnListAndDateBetween(userSns, first.getStartDate(), first.getEndDate()).stream()
+                    .collect(Collectors.groupingBy(diary -> diary.getUser().getUserSn()));
 
-                int diaryCount = diaries.size();
+            for (WeeklyReport report : reports) {
+                List<Diary> diaries = diariesByUser.getOrDefault(report.getUser().getUserSn(), List.of());
 
-                // 일기 3개 미만: 스킵 (정상 케이스 - 원래 분석 대상이 아님)
-                if (diaryCount < 3) {
-                    log.info("리포트 재분석 스킵 (일기 3개 미만): reportId={}, diaryCount={}", reportId, diaryCount);
-                    skipCount++;
+                // 집계 이후 일기가 삭제된 경우
+                if (diaries.size() < 3) {
                     continue;
                 }
 
-                // 감정 통계 재계산
-                List<WeeklyReport.EmotionStat> emotionStats = calculateEmotionStats(diaries);
-
-                // 주간 일기 상세 정보 재생성
-                List<WeeklyReport.DiaryDetail> weeklyDiaryDetails = buildWeeklyDiaryDetails(diaries);
-
-                // 하이라이트 재계산
-                WeeklyReport.Highlights highlights = calculateHighlights(diaries, emotionStats);
-
-                // LLM API 재호출
-                Map<String, Object> analysisResult = callLlmForAnalysis(diaries);
-
-                // keywords를 쉼표로 구분된 문자열로 변환
-                List<String> keywordList = (List<String>) analysisResult.get("keywords");
-                String weekKeywords = keywordList != null ? String.join(",", keywordList) : null;
-
-                // 리포트 업데이트
-                report.updateAnalysisResult(
-                        (String) analysisResult.get("studentReport"),
-                        (String) analysisResult.get("studentEncouragement"),
-                        (String) analysisResult.get("teacherReport"),
-                        (List<String>) analysisResult.get("teacherTalkTip"),
-                        emotionStats,
-                        weeklyDiaryDetails,
-                        highlights,
-                        (List<String>) analysisResult.get("mindGardeningTip"),
-                        weekKeywords,
-                        diaryCount
-                );
-
-                weeklyReportRepository.save(report);
-
-                log.info("✓ 리포트 재분석 성공: reportId={}, user={}", reportId, userSn);
-                successCount++;
-
-            } catch (Exception e) {
-                log.error("✗ 리포트 재분석 실패: reportId={}, user={}, error={}", reportId, userSn, e.getMessage(), e);
-                failCount++;
+                pendings.add(new PendingAnalysis(report.getReportId(),
+                        promptTemplate.renderUserPrompt(buildDiaryContents(diaries)), diaries));
             }
         }
 
-        log.info("========== 분석 실패한 주간 리포트 재시도 완료 ==========");
-        log.info("전체 결과: 총 {}개, 성공 {}개, 스킵 {}개, 실패 {}개", totalCount, successCount, skipCount, failCount);
+        return pendings;
+    }
+
+    /**
+     * 분석 결과로 리포트 업데이트 (isAnalyzed=true)
+     * - 감정 통계/일기 상세/하이라이트는 현재 일기 기준으로 재계산
+     */
+    private void updateAnalysisResult(WeeklyReport report, List<Diary> diaries, Map<String, Object> analysisResult) {
+        // 감정 통계 재계산 (주별 집계 사용)
+        EmotionTally tally = tallyOf(report.getUser().getUserSn(), report.getStartDate(), diaries);
+        List<WeeklyReport.EmotionStat> emotionStats = calculateEmotionStats(tally);
+
+        // 주간 일기 상세 정보 재생성
+        List<WeeklyReport.DiaryDetail> weeklyDiaryDetails = buildWeeklyDiaryDetails(diaries);
+
+        // 하이라이트 재계산
+        WeeklyReport.Highlights highlights = calculateHighlights(tally, emotionStats);
+
+        // keywords를 쉼표로 구분된 문자열로 변환
+        List<String> keywordList = (List<String>) analysisResult.get("keywords");
+        String weekKeywords = keywordList != null ? String.join(",", keywordList) : null;
+
+        // 리포트 업데이트
+        report.updateAnalysisResult(
+                (String) analysisResult.get("studentReport"),
+                (String) analysisResult.get("studentEncouragement"),
+                (String) analysisResult.get("teacherReport"),
+                (List<String>) analysisResult.get("teacherTalkTip"),
+                emotionStats,
+                weeklyDiaryDetails,
+                highlights,
+                (List<String>) analysisResult.get("mindGardeningTip"),
+                weekKeywords,
+                diaries.size()
+        );
+
+        weeklyReportRepository.save(report);
     }
 
     /**
      * 주간 리포트 하이라이트 계산
      */
-    private WeeklyReport.Highlights calculateHighlights(List<Diary> diaries, List<WeeklyReport.EmotionStat> emotionStats) {
+    private WeeklyReport.Highlights calculateHighlights(EmotionTally tally, List<WeeklyReport.EmotionStat> emotionStats) {
 
         // 1. 이번 주 대표 꽃
         WeeklyReport.FlowerOfTheWeek flowerOfTheWeek = calculateFlowerOfTheWeek(emotionStats);
 
         // 2. 숫자로 보는 한 주
-        WeeklyReport.QuickStats quickStats = calculateQuickStats(diaries, emotionStats);
+        WeeklyReport.QuickStats quickStats = calculateQuickStats(tally, emotionStats);
 
         // 3. 감정 정원 다양성
-        WeeklyReport.GardenDiversity gardenDiversity = calculateGardenDiversity(diaries, emotionStats);
+        WeeklyReport.GardenDiversity gardenDiversity = calculateGardenDiversity(tally, emotionStats);
 
         return WeeklyReport.Highlights.builder()
                 .flowerOfTheWeek(flowerOfTheWeek)
@@ -895,19 +1032,13 @@ public class WeeklyReportService {
     /**
      * 숫자로 보는 한 주 계산
      */
-    private WeeklyReport.QuickStats calculateQuickStats(List<Diary> diaries, List<WeeklyReport.EmotionStat> emotionStats) {
+    private WeeklyReport.QuickStats calculateQuickStats(EmotionTally tally, List<WeeklyReport.EmotionStat> emotionStats) {
 
         // 감정 종류 수
         int emotionVariety = emotionStats != null ? emotionStats.size() : 0;
 
-        // 가장 많이 느낀 감정 영역 (area) (캐싱)
-        Map<String, Long> areaCount = diaries.stream()
-                .map(d -> {
-                    Emotion emotion = emotionCacheService.getEmotion(d.getCoreEmotionCode());
-                    return emotion != null ? emotion.getArea() : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(a -> a, Collectors.counting()));
+        // 가장 많이 느낀 감정 영역 (area)
+        Map<String, Integer> areaCount = tally.getAreaCounts();
 
         String dominantArea = null;
         String dominantAreaNameKr = null;
@@ -922,7 +1053,7 @@ public class WeeklyReportService {
         }
 
         return WeeklyReport.QuickStats.builder()
-                .totalDiaries(diaries.size())
+                .totalDiaries(tally.getTotal())
                 .emotionVariety(emotionVariety)
                 .dominantArea(dominantArea)
                 .dominantAreaNameKr(dominantAreaNameKr)
@@ -932,24 +1063,16 @@ public class WeeklyReportService {
     /**
      * 감정 정원 다양성 계산
      */
-    private WeeklyReport.GardenDiversity calculateGardenDiversity(List<Diary> diaries, List<WeeklyReport.EmotionStat> emotionStats) {
+    private WeeklyReport.GardenDiversity calculateGardenDiversity(EmotionTally tally, List<WeeklyReport.EmotionStat> emotionStats) {
 
         // 감정 종류 수
         int emotionVariety = emotionStats != null ? emotionStats.size() : 0;
 
-        // 영역 종류 수 (캐싱)
-        Set<String> uniqueAreas = diaries.stream()
-                .map(d -> {
-                    Emotion emotion = emotionCacheService.getEmotion(d.getCoreEmotionCode());
-                    return emotion != null ? emotion.getArea() : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        int areaVariety = uniqueAreas.size();
+        // 영역 종류 수
+        int areaVariety = tally.getAreaCounts().size();
 
         // 점수 계산
-        int score = calculateDiversityScore(emotionVariety, areaVariety, diaries.size());
+        int score = calculateDiversityScore(emotionVariety, areaVariety, tally.getTotal());
 
         // 레벨 결정
         String level = getGardenLevel(score);
@@ -1051,43 +1174,6 @@ public class WeeklyReportService {
         };
     }
 
-    /**
-     * 배치 처리 결과
-     */
-    private static class BatchResult {
-        int successCount = 0;  // 성공 (분석 완료 + 분석 미완료 레코드 생성)
-        int skipCount = 0;     // 미사용 (이전 버전 호환용)
-        int failCount = 0;     // 실패 (예외 발생)
-    }
-
-    /**
-     * 한 배치 처리 (비동기 병렬 처리)
-     */
-    private BatchResult processBatch(List<Long> userSns, LocalDate startDate, LocalDate endDate) {
-        BatchResult result = new BatchResult();
-
-        // 배치 내에서는 비동기 병렬 처리
-        List<CompletableFuture<Void>> futures = userSns.stream()
-                .map(userSn -> generateReportAsync(userSn, startDate, endDate)
-                        .thenAccept(report -> {
-                            // 항상 리포트 생성 (isAnalyzed 여부와 무관)
-                            result.successCount++;
-                            log.debug("✓ 주간 리포트 생성 완료: userId={}, reportId={}, isAnalyzed={}, diaryCount={}",
-                                    userSn, report.getReportId(), report.getIsAnalyzed(), report.getDiaryCount());
-                        })
-                        .exceptionally(ex -> {
-                            result.failCount++;
-                            log.error("✗ 주간 리포트 생성 실패: userId={}, error={}", userSn, ex.getMessage());
-                            return null;
-                        }))
-                .toList();
-
-        // 배치 내 모든 작업 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-        return result;
-    }
-
     private String toJsonOrNull(Object value) {
         try {
             return value == null ? "정보 없음" : objectMapper.writeValueAsString(value);
@@ -1114,66 +1200,57 @@ public class WeeklyReportService {
     // ======================== 발행 가능한 주 조회 ========================
 
     /**
-     * 발행 가능한 주 목록 조회
+     * 발행 가능한 주 목록 조회 (캐싱)
      * - 아직 주간 리포트가 생성되지 않은 주
      * - 분석된 일기가 3개 이상인 주
      * - 현재 진행 중인 주 제외 (완료된 주만)
      * - 최근 순 정렬
+     * - 주별 집계(user_week_rollup)와 리포트 존재 여부를 쿼리 1회로 조회 (일기 조회 없음)
+     * - 캐시 키: generableWeeks::{userSn}_{이번 주 월요일} (주가 바뀌면 새 키)
+     * - 일기 변경 커밋 후, 리포트 생성 시 삭제
      *
      * @param userSn 사용자 일련번호
      * @return 발행 가능한 주 목록
      */
-    public List<LocalDate[]> getGenerableWeeks(Long userSn) {
-        // 사용자의 모든 분석된 일기 조회
-        List<Diary> analyzedDiaries = diaryRepository.findByUserUserSnAndIsAnalyzed(userSn, true);
-
-        if (analyzedDiaries.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 일기 날짜 기준 가장 이른 날짜와 오늘 날짜
-        LocalDate earliestDate = analyzedDiaries.stream()
-                .map(Diary::getDiaryDate)
-                .min(LocalDate::compareTo)
-                .orElse(LocalDate.now());
-
-        LocalDate today = LocalDate.now();
+    @Cacheable(value = "generableWeeks", key = "T(com.flowerbed.service.WeeklyReportService).generableWeeksKey(#userSn)")
+    public List<GenerableWeekResponse> getGenerableWeeks(Long userSn) {
+        log.debug("Cache miss - Loading generable weeks from DB: {}", userSn);
 
         // 현재 진행 중인 주의 시작일 (이번 주 월요일)
-        LocalDate currentWeekStart = today.with(java.time.DayOfWeek.MONDAY);
-
-        // 가장 이른 일기 날짜가 속한 주의 월요일
-        LocalDate weekStart = earliestDate.with(java.time.DayOfWeek.MONDAY);
-
-        List<LocalDate[]> generableWeeks = new ArrayList<>();
-
-        // 주 단위로 순회 (과거 → 현재, 단 현재 주는 제외)
-        while (weekStart.isBefore(currentWeekStart)) {
-            LocalDate weekEnd = weekStart.plusDays(6);  // 일요일
-
-            // 이미 리포트가 생성되어 있는지 확인
-            boolean reportExists = weeklyReportRepository.existsByUserUserSnAndStartDateAndDeletedAtIsNull(userSn, weekStart);
-
-            if (!reportExists) {
-                // 해당 주의 분석된 일기 개수 조회
-                final LocalDate finalWeekStart = weekStart;
-                final LocalDate finalWeekEnd = weekEnd;
-                long diaryCount = analyzedDiaries.stream()
-                        .filter(d -> !d.getDiaryDate().isBefore(finalWeekStart) && !d.getDiaryDate().isAfter(finalWeekEnd))
-                        .count();
+        LocalDate currentWeekStart = UserWeekRollupService.weekStartOf(LocalDate.now());
 
-                // 일기 3개 이상인 경우만 발행 가능
-                if (diaryCount >= 3) {
-                    generableWeeks.add(new LocalDate[]{weekStart, weekEnd, LocalDate.ofEpochDay(diaryCount)});
-                }
-            }
+        return userWeekRollupRepository.findGenerableWeeks(userSn, currentWeekStart, 3).stream()
+                .map(rollup -> GenerableWeekResponse.of(
+                        rollup.getWeekStartDate(),
+                        rollup.getWeekStartDate().plusDays(6),
+                        rollup.getAnalyzedCount()))
+                .collect(Collectors.toList());
+    }
 
-            weekStart = weekStart.plusWeeks(1);
-        }
+    /**
+     * 일기 변경 시 발행 가능한 주 캐시 삭제
+     * - 일기 트랜잭션 커밋 후 삭제 (커밋 전 값이 다시 캐싱되지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "generableWeeks", key = "T(com.flowerbed.service.WeeklyReportService).generableWeeksKey(#event.userSn)")
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        log.debug("Generable weeks cache evicted: {}", event.getUserSn());
+    }
 
-        // 최근 순 정렬 (startDate 내림차순)
-        generableWeeks.sort((a, b) -> b[0].compareTo(a[0]));
+    /**
+     * 발행 가능한 주 캐시 전체 삭제
+     * - 전체 사용자 리포트 일괄 생성 후 (WeeklyReportEngine)
+     */
+    @CacheEvict(value = "generableWeeks", allEntries = true)
+    public void evictAllGenerableWeeksCache() {
+        log.info("All generable weeks cache evicted");
+    }
 
-        return generableWeeks;
+    /**
+     * 발행 가능한 주 캐시 키 (사용자 + 이번 주 월요일)
+     */
+    public static String generableWeeksKey(Long userSn) {
+        return userSn + "_" + UserWeekRollupService.weekStartOf(LocalDate.now());
     }
 }
@@ -0,0 +1,378 @@
+package com.flowerbed.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 리포트 작업 분배 큐 (Redis, weekly-report.distribution=shard)
+ * - 모든 인스턴스가 같은 주에 대해 join 호출
+ * - 상태 키를 먼저 선점한 인스턴스 1곳이 대상 학생을 batch-size명 단위 묶음으로 큐에 적재 (producer)
+ * - 모든 인스턴스가 큐에서 묶음을 하나씩 꺼내 처리 → 인스턴스 수만큼 나눠 처리
+ * - 묶음은 LMOVE로 인스턴스별 처리 목록에 옮긴 뒤 처리, 다음 묶음을 꺼낼 때 완료 처리 (LREM)
+ *   (묶음 준비가 끝나면 리포트 레코드가 생성되어 있으므로 이후 분석 실패는 retry-failed 대상)
+ * - 인스턴스는 실행 중 생존 키를 임대 시간의 1/3마다 연장
+ *   · 생존 키가 만료된 인스턴스의 처리 목록은 다른 인스턴스가 큐로 되돌려 다시 처리
+ *   · producer의 생존 키가 만료되면 대기 중인 인스턴스가 적재를 인계받아 처음부터 다시 적재
+ * - 큐가 비어도 다른 인스턴스가 처리 중인 묶음이 남아 있으면 대기 (처리 중 종료되면 인계받음)
+ *
+ * Redis 키 (주 시작일 기준, run-ttl 후 만료):
+ * - WEEKLY_REPORT:shard:{startDate}:state - producing:{producer ID}(적재 중) / 적재 완료 시 전체 학생 수
+ * - WEEKLY_REPORT:shard:{startDate}:queue - user_sn 묶음 목록 (쉼표 구분)
+ * - WEEKLY_REPORT:shard:{startDate}:workers - 참여 인스턴스 ID 목록 (SET)
+ * - WEEKLY_REPORT:shard:{startDate}:processing:{인스턴스 ID} - 인스턴스가 처리 중인 묶음
+ * - WEEKLY_REPORT:shard:{startDate}:alive:{인스턴스 ID} - 인스턴스 생존 키 (lease-time 후 만료)
+ */
+@Slf4j
+@Component
+public class WeeklyReportShardQueue {
+
+    private static final String KEY_PREFIX = "WEEKLY_REPORT:shard:";
+    private static final String STATE_PRODUCING = "producing:";
+    private static final long POLL_INTERVAL_MILLIS = 1000L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ActiveStudentReader activeStudentReader;
+    private final DefaultRedisScript<Long> takeoverScript;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final long runTtl;
+    private final long producerWait;
+    private final long leaseTime;
+
+    public WeeklyReportShardQueue(StringRedisTemplate stringRedisTemplate,
+                                  ActiveStudentReader activeStudentReader,
+                                  @Value("${weekly-report.batch-size:100}") int batchSize,
+                                  @Value("${weekly-report.shard.run-ttl:21600000}") long runTtl,
+                                  @Value("${weekly-report.shard.producer-wait:300000}") long producerWait,
+                                  @Value("${weekly-report.shard.lease-time:60000}") long leaseTime) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.activeStudentReader = activeStudentReader;
+        this.batchSize = batchSize;
+        this.runTtl = runTtl;
+        this.producerWait = producerWait;
+        this.leaseTime = leaseTime;
+        this.takeoverScript = new DefaultRedisScript<>();
+        this.takeoverScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource("scripts/weekly-report-shard-takeover.lua")));
+        this.takeoverScript.setResultType(Long.class);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weekly-report-shard-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 작업 참여
+     * - producer로 선정되면 큐 적재 후 반환, 아니면 적재 완료까지 대기 (최대 producer-wait)
+     * - 대기 중 producer가 중단되면(생존 키 만료) 적재를 인계받음
+     * - 반환된 ShardRun은 처리가 끝나면 close (생존 키 연장 중지)
+     *
+     * @param startDate 시작일 (월요일)
+     * @return 전체 학생 수와 큐에서 꺼낼 묶음 (적재 대기 시간 초과 시 빈 묶음)
+     */
+    public ShardRun join(LocalDate startDate) throws InterruptedException {
+        Keys keys = new Keys(startDate);
+
+        stringRedisTemplate.opsForSet().add(keys.workers, instanceId);
+        stringRedisTemplate.expire(keys.workers, runTtl, TimeUnit.MILLISECONDS);
+        heartbeat(keys);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> heartbeat(keys), leaseTime / 3, leaseTime / 3, TimeUnit.MILLISECONDS);
+
+        try {
+            String producing = STATE_PRODUCING + instanceId;
+            Boolean producer = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(keys.state, producing, runTtl, TimeUnit.MILLISECONDS);
+
+            long total = Boolean.TRUE.equals(producer)
+                    ? produce(keys)
+                    : awaitProduced(keys);
+
+            if (total < 0) {
+                heartbeat.cancel(false);
+                return new ShardRun(0, Collections.emptyList(), () -> { });
+            }
+            QueueIterator iterator = new QueueIterator(keys);
+            return new ShardRun(total, () -> iterator, () -> heartbeat.cancel(false));
+
+        } catch (InterruptedException | RuntimeException e) {
+            heartbeat.cancel(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 대상 학생을 묶음 단위로 큐에 적재
+     * - 적재 중 오류가 나도 상태는 완료로 기록 (적재된 묶음은 다른 인스턴스가 처리, 누락분은 수동 생성)
+     * - 다른 인스턴스가 적재를 인계받은 경우(이 인스턴스가 중단된 것으로 판단됨) 적재 중지
+     */
+    private long produce(Keys keys) {
+        log.info("주간 리포트 작업 적재 시작 (producer): {}", keys.queue);
+        String producing = STATE_PRODUCING + instanceId;
+        long total = 0;
+        int shards = 0;
+
+        try {
+            for (List<Long> userSns : activeStudentReader.pages(batchSize)) {
+                if (!producing.equals(stringRedisTemplate.opsForValue().get(keys.state))) {
+                    log.warn("주간 리포트 작업 적재를 다른 인스턴스가 인계받아 중지합니다: {}", keys.queue);
+                    return -1;
+                }
+                stringRedisTemplate.opsForList().rightPush(keys.queue,
+                        userSns.stream().map(String::valueOf).collect(Collectors.joining(",")));
+                total += userSns.size();
+                shards++;
+            }
+            if (shards > 0) {
+                stringRedisTemplate.expire(keys.queue, runTtl, TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) {
+            log.error("✗ 주간 리포트 작업 적재 중 오류, 적재된 묶음만 처리됩니다: 학생 {}명, error={}", total, e.getMessage());
+        }
+
+        stringRedisTemplate.opsForValue().set(keys.state, String.valueOf(total), runTtl, TimeUnit.MILLISECONDS);
+        log.info("주간 리포트 작업 적재 완료: 학생 {}명, 묶음 {}개", total, shards);
+        return total;
+    }
+
+    /**
+     * producer의 적재 완료 대기
+     * - producer의 생존 키가 만료되면 적재를 인계받아 직접 적재
+     *
+     * @return 전체 학생 수, 대기 시간 초과 시 -1
+     */
+    private long awaitProduced(Keys keys) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(producerWait);
+
+        while (true) {
+            String state = stringRedisTemplate.opsForValue().get(keys.state);
+            if (state != null && !state.startsWith(STATE_PRODUCING)) {
+                return Long.parseLong(state);
+            }
+
+            if (state != null && !isAlive(keys, state.substring(STATE_PRODUCING.length()))
+                    && takeOver(keys, state)) {
+                log.warn("주간 리포트 작업 적재 중 producer가 중단되어 인계받습니다: {}", state);
+                return produce(keys);
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("주간 리포트 작업 적재 대기 시간 초과 ({}ms): {}", producerWait, keys.state);
+                return -1;
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    private boolean takeOver(Keys keys, String state) {
+        Long result = stringRedisTemplate.execute(takeoverScript, List.of(keys.state, keys.queue),
+                state, STATE_PRODUCING + instanceId, String.valueOf(runTtl));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 생존 키 연장 (실패 시 다음 주기에 재시도)
+     */
+    private void heartbeat(Keys keys) {
+        try {
+            stringRedisTemplate.opsForValue().set(keys.alive(instanceId), "1", leaseTime, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("주간 리포트 작업 생존 키 연장 실패: {}, error={}", keys.state, e.getMessage());
+        }
+    }
+
+    private boolean isAlive(Keys keys, String workerId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(keys.alive(workerId)));
+    }
+
+    /**
+     * 작업 참여 결과 (처리가 끝나면 close)
+     */
+    @Getter
+    public static class ShardRun implements AutoCloseable {
+        private final long total;                 // 전체 학생 수 (모든 인스턴스 합계)
+        private final Iterable<List<Long>> pages; // 이 인스턴스가 꺼내 처리할 묶음
+        @Getter(AccessLevel.NONE)
+        private final Runnable onClose;
+
+        private ShardRun(long total, Iterable<List<Long>> pages, Runnable onClose) {
+            this.total = total;
+            this.pages = pages;
+            this.onClose = onClose;
+        }
+
+        /**
+         * 생존 키 연장 중지 (처리하지 못한 묶음은 lease-time 후 다른 인스턴스가 인계받음)
+         */
+        @Override
+        public void close() {
+            onClose.run();
+        }
+    }
+
+    /**
+     * 큐에서 묶음을 하나씩 꺼내는 iterator
+     * - 다음 묶음을 꺼낼 때 직전 묶음을 처리 목록에서 제거
+     * - 큐가 비면 중단된 인스턴스의 처리 목록을 큐로 되돌리고, 처리 중인 인스턴스가 없을 때 종료
+     */
+    private class QueueIterator implements Iterator<List<Long>> {
+
+        private final Keys keys;
+        private final String processingKey;
+        private String current;
+        private List<Long> next;
+        private boolean drained = false;
+
+        private QueueIterator(Keys keys) {
+            this.keys = keys;
+            this.processingKey = keys.processing(instanceId);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null || drained) {
+                return next != null;
+            }
+
+            // 직전 묶음 완료 처리
+            if (current != null) {
+                stringRedisTemplate.opsForList().remove(processingKey, 1, current);
+                current = null;
+            }
+
+            while (true) {
+                String shard = stringRedisTemplate.opsForList().move(
+                        keys.queue, RedisListCommands.Direction.LEFT, processingKey, RedisListCommands.Direction.RIGHT);
+                if (shard != null) {
+                    stringRedisTemplate.expire(processingKey, runTtl, TimeUnit.MILLISECONDS);
+                    current = shard;
+                    next = Arrays.stream(shard.split(",")).map(Long::valueOf).toList();
+                    return true;
+                }
+
+                if (requeueStale() > 0) {
+                    continue;
+                }
+                if (!othersProcessing()) {
+                    drained = true;
+                    return false;
+                }
+
+                try {
+                    Thread.sleep(POLL_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drained = true;
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public List<Long> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Long> shard = next;
+            next = null;
+            return shard;
+        }
+
+        /**
+         * 생존 키가 만료된 인스턴스의 처리 목록을 큐로 되돌림
+         *
+         * @return 되돌린 묶음 수
+         */
+        private int requeueStale() {
+            int requeued = 0;
+            for (String workerId : workers()) {
+                if (workerId.equals(instanceId) || isAlive(keys, workerId)) {
+                    continue;
+                }
+                String staleKey = keys.processing(workerId);
+                while (stringRedisTemplate.opsForList().move(
+                        staleKey, RedisListCommands.Direction.LEFT, keys.queue, RedisListCommands.Direction.RIGHT) != null) {
+                    requeued++;
+                }
+                stringRedisTemplate.opsForSet().remove(keys.workers, workerId);
+            }
+            if (requeued > 0) {
+                log.warn("중단된 인스턴스의 주간 리포트 작업 묶음 {}개를 다시 처리합니다: {}", requeued, keys.queue);
+            }
+            return requeued;
+        }
+
+        private boolean othersProcessing() {
+            for (String workerId : workers()) {
+                if (workerId.equals(instanceId)) {
+                    continue;
+                }
+                Long size = stringRedisTemplate.opsForList().size(keys.processing(workerId));
+                if (size != null && size > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Set<String> workers() {
+            Set<String> workers = stringRedisTemplate.opsForSet().members(keys.workers);
+            return workers != null ? workers : Set.of();
+        }
+    }
+
+    /**
+     * 주 단위 Redis 키
+     */
+    private static class Keys {
+        private final String prefix;
+        private final String state;
+        private final String queue;
+        private final String workers;
+
+        private Keys(LocalDate startDate) {
+            this.prefix = KEY_PREFIX + startDate;
+            this.state = prefix + ":state";
+            this.queue = prefix + ":queue";
+            this.workers = prefix + ":workers";
+        }
+
+        private String processing(String workerId) {
+            return prefix + ":processing:" + workerId;
+        }
+
+        private String alive(String workerId) {
+            return prefix + ":alive:" + workerId;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+}
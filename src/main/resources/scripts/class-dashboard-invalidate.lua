@@ -0,0 +1,13 @@
+-- 학급 대시보드 캐시 무효화
+-- KEYS[1]: 학급 캐시 키 (HASH)
+-- ARGV[1]: TTL (초)
+-- ARGV[2..]: 삭제할 화면 필드 (예: daily:2026-10-16, monthly:2026-10, students)
+-- 무효화 버전(필드 '_v')을 올려 무효화 전에 조회를 시작한 요청이 오래된 값을 저장하지 못하게 함
+-- 반환: 삭제된 필드 수
+
+redis.call('HINCRBY', KEYS[1], '_v', 1)
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+if #ARGV < 2 then
+    return 0
+end
+return redis.call('HDEL', KEYS[1], unpack(ARGV, 2))
@@ -0,0 +1,28 @@
+-- 학급 대시보드 캐시 저장 (조회 시작 이후 무효화되지 않은 경우만)
+-- KEYS[1]: 학급 캐시 키 (HASH)
+-- ARGV[1]: 조회 시작 시점의 무효화 버전 (필드 '_v', 없으면 '0')
+-- ARGV[2]: 화면 필드 (예: daily:2026-10-16)
+-- ARGV[3]: 캐시 값 (JSON)
+-- ARGV[4]: TTL (초)
+-- ARGV[5]: 만료 기준 시각 (epoch ms, 이보다 먼저 저장된 필드는 삭제)
+-- 반환: 1 = 저장, 0 = 조회 중 무효화되어 저장하지 않음 (오래된 값 저장 방지)
+
+local version = redis.call('HGET', KEYS[1], '_v') or '0'
+if version ~= ARGV[1] then
+    return 0
+end
+-- 키 EXPIRE는 저장/무효화마다 갱신되므로 TTL이 지난 필드(지난 날짜/월 등)를 여기서 정리
+-- 값은 {"cachedAt":<epoch ms>,"body":...} 형식 (cachedAt이 첫 필드)
+local expiredBefore = tonumber(ARGV[5])
+local fields = redis.call('HGETALL', KEYS[1])
+for i = 1, #fields, 2 do
+    if fields[i] ~= '_v' then
+        local cachedAt = tonumber(string.match(fields[i + 1], '^{"cachedAt":(%d+)'))
+        if cachedAt == nil or cachedAt < expiredBefore then
+            redis.call('HDEL', KEYS[1], fields[i])
+        end
+    end
+end
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+return 1
@@ -0,0 +1,40 @@
+-- LLM API 호출 토큰 버킷 (전체 인스턴스 공유, 제공자별)
+-- KEYS[1]: 버킷 키 (tokens, ts 해시)
+-- KEYS[2]: 과부하 쿨다운 키 (429/529 응답 시 설정, 남은 시간 동안 모든 인스턴스 호출 중지)
+-- ARGV[1]: 초당 충전 토큰 수
+-- ARGV[2]: 버킷 최대 크기
+-- 반환: 0 = 토큰 획득, 양수 = 다시 시도할 때까지 대기 시간(ms)
+
+local cooldown = redis.call('PTTL', KEYS[2])
+if cooldown > 0 then
+    return cooldown
+end
+
+local rate = tonumber(ARGV[1])
+local burst = tonumber(ARGV[2])
+
+-- 인스턴스 간 시계 차이를 피하기 위해 Redis 서버 시간 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = burst
+    ts = now
+end
+
+-- 경과 시간만큼 충전
+tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+else
+    wait = math.ceil((1 - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+return wait
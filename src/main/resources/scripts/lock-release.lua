@@ -0,0 +1,9 @@
+-- 분산 락 해제 (락을 획득한 인스턴스만 해제 가능)
+-- KEYS[1]: 락 키
+-- ARGV[1]: 락 소유자 토큰
+-- 반환: 1 = 해제, 0 = 이미 만료되었거나 다른 인스턴스 소유
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
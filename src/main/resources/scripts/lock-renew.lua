@@ -0,0 +1,10 @@
+-- 분산 락 임대 시간 연장 (락을 획득한 인스턴스만 연장 가능)
+-- KEYS[1]: 락 키
+-- ARGV[1]: 락 소유자 토큰
+-- ARGV[2]: 임대 시간(ms)
+-- 반환: 1 = 연장 성공, 0 = 락을 잃음 (만료되었거나 다른 인스턴스가 획득)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,15 @@
+-- 주간 리포트 작업 적재 인계 (producer가 적재 중 중단된 경우)
+-- KEYS[1]: 상태 키
+-- KEYS[2]: 작업 큐 키
+-- ARGV[1]: 조회한 상태 값 (producing:{중단된 producer ID})
+-- ARGV[2]: 새 상태 값 (producing:{인계받는 인스턴스 ID})
+-- ARGV[3]: 상태 키 유지 시간(ms)
+-- 상태가 그대로일 때만 인계하고, 중단된 producer가 일부 적재한 큐는 비움 (처음부터 다시 적재)
+-- 반환: 1 = 인계 성공, 0 = 다른 인스턴스가 먼저 인계했거나 적재가 끝남
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+redis.call('DEL', KEYS[2])
+return 1